@@ -36,7 +36,7 @@ import org.eclipse.swt.widgets.List;
 public class Sleak {
 	List list;
 	Canvas canvas;
-	Button enableTracking, diff, stackTrace, saveAs, save;
+	Button enableTracking, diff, histogram, stackTrace, saveAs, save;
 	Combo diffType;
 	Text text;
 
@@ -126,7 +126,7 @@ public void create (Composite parent) {
 	enableTracking.setLayoutData(new GridData(SWT.NONE, SWT.NONE, false, false));
 
 	Composite buttons = new Composite(left, 0);
-	buttons.setLayout(new GridLayout(4, false));
+	buttons.setLayout(new GridLayout(5, false));
 	buttons.setLayoutData(new GridData(SWT.FILL, SWT.NONE, true, false));
 
 	diff = new Button (buttons, SWT.PUSH);
@@ -136,6 +136,12 @@ public void create (Composite parent) {
 	diffData.horizontalSpan = 2;
 	diff.setLayoutData(diffData);
 
+	histogram = new Button (buttons, SWT.PUSH);
+	histogram.setText ("Histogram");
+	histogram.setToolTipText("Shows the number of tracked resources by type and allocation site.");
+	histogram.addListener (SWT.Selection, event -> showHistogram ());
+	histogram.setLayoutData(new GridData(SWT.FILL, SWT.NONE, false, false));
+
 	save = new Button (buttons, SWT.PUSH);
 	save.setText ("Save");
 	save.setToolTipText("Saves to the previously selected file.");
@@ -267,6 +273,24 @@ void refreshDifference () {
 	}
 }
 
+void showHistogram () {
+	DeviceData info = getDeviceData(canvas.getDisplay());
+	StringBuilder sb = new StringBuilder();
+	String lf = text.getLineDelimiter ();
+	if (info.trackingSampleRate > 1) {
+		sb.append("Sampling 1 in " + info.trackingSampleRate + " resources" + lf);
+	}
+	for (int i = 0; i < info.allocationTypes.length; i++) {
+		StackTraceElement site = info.allocationSites[i];
+		sb.append(info.allocationCounts[i] + "\t" + info.allocationTypes[i] + "\t" + (site != null ? site : "unknown") + lf);
+	}
+	list.deselectAll ();
+	text.setText (sb.toString());
+	setVisible(text, true);
+	setVisible(canvas, false);
+	text.getParent().layout();
+}
+
 private static java.util.List<ObjectWithError> collectNewObjects(DeviceData info,
 		java.util.List<ObjectWithError> oldObjects,
 		java.util.List<ObjectWithError> disposedObjects,
@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.tools.internal;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.regex.*;
+
+/**
+ * Rewrites the source of a natives class, for example OS, GTK, GDK, Cairo or C,
+ * into a profiling build. Every native is renamed with the prefix of the
+ * {@link NativeProfilerAgent} and wrapped by a Java method with the original
+ * name, which records the call with <code>org.eclipse.swt.internal.NativeProfiler</code>.
+ * The SWT libraries are not changed, unlike the NATIVE_STATS build used by
+ * the {@link NativeStats} tool.
+ * <p>
+ * The sources are rewritten in place, the generator must be run on a copy.
+ * </p>
+ */
+public class ProfileGenerator {
+
+	static final String PROFILER = "org.eclipse.swt.internal.NativeProfiler";
+	static final String FUNCTIONS = "PROFILED_FUNCTIONS";
+
+	static final Pattern NATIVE = Pattern.compile("^(\\s*)((?:(?:public|protected|private|static|final|synchronized)\\s+)*)native\\s+([\\w\\[\\]\\s]+?)\\s+(\\w+)\\s*\\(([^)]*)\\)\\s*;\\s*$", Pattern.DOTALL);
+	static final Pattern NATIVE_START = Pattern.compile("^\\s*(?:(?:public|protected|private|static|final|synchronized)\\s+)*native\\s");
+	static final Pattern CLASS = Pattern.compile("^public\\s+(?:final\\s+)?class\\s+(\\w+)\\b.*\\{\\s*$");
+	/* The name of a parameter, which can be followed by C style array brackets */
+	static final Pattern PARAMETER_NAME = Pattern.compile("(\\w+)[\\[\\]\\s]*$");
+	static final Pattern COMMENT = Pattern.compile("/\\*.*?\\*/", Pattern.DOTALL);
+
+	String delimiter = System.lineSeparator();
+
+/**
+ * Returns the source of the profiling build of a natives class.
+ *
+ * @param source the source of the class
+ * @return the rewritten source
+ */
+public String generate(String source) {
+	String[] lines = source.split("\r\n|\r|\n", -1);
+	List<String> functions = new ArrayList<>();
+	StringBuilder result = new StringBuilder();
+	String className = null;
+	int classLine = -1;
+	for (int i = 0; i < lines.length; i++) {
+		String line = lines[i];
+		if (classLine == -1) {
+			Matcher matcher = CLASS.matcher(line);
+			if (matcher.matches()) {
+				className = matcher.group(1);
+				classLine = i;
+			}
+		}
+		if (classLine == -1 || !NATIVE_START.matcher(line).find()) {
+			append(result, line, i < lines.length - 1);
+			continue;
+		}
+		/* Declarations can continue on the following lines */
+		StringBuilder declaration = new StringBuilder(line);
+		while (!line.trim().endsWith(";") && i < lines.length - 1) {
+			line = lines[++i];
+			declaration.append(' ').append(line.trim());
+		}
+		Matcher matcher = NATIVE.matcher(COMMENT.matcher(declaration).replaceAll(" "));
+		if (!matcher.matches()) {
+			System.out.println("Warning: native not profiled: " + declaration.toString().trim());
+			append(result, declaration.toString(), i < lines.length - 1);
+			continue;
+		}
+		generateWrapper(result, matcher, functions.size());
+		if (i < lines.length - 1) result.append(delimiter);
+		functions.add(className + "." + matcher.group(4));
+	}
+	if (functions.isEmpty()) return source;
+	/* The identifiers are registered first, the static initializers of the class can call natives */
+	int offset = 0;
+	for (int i = 0; i <= classLine; i++) {
+		offset = result.indexOf(delimiter, offset) + delimiter.length();
+	}
+	StringBuilder buffer = new StringBuilder();
+	buffer.append("\tstatic final int[] ").append(FUNCTIONS).append(" = ").append(PROFILER).append(".register(new String[] {");
+	buffer.append(delimiter);
+	for (String function : functions) {
+		buffer.append("\t\t\"").append(function).append("\",").append(delimiter);
+	}
+	buffer.append("\t});").append(delimiter);
+	result.insert(offset, buffer);
+	return result.toString();
+}
+
+void append(StringBuilder result, String line, boolean delimit) {
+	result.append(line);
+	if (delimit) result.append(delimiter);
+}
+
+void generateWrapper(StringBuilder result, Matcher matcher, int index) {
+	String indent = matcher.group(1), modifiers = matcher.group(2);
+	String returnType = matcher.group(3).replaceAll("\\s+", " "), function = matcher.group(4);
+	String parameters = matcher.group(5).replaceAll("\\s+", " ").trim();
+	StringBuilder arguments = new StringBuilder();
+	String size = null;
+	if (!parameters.isEmpty()) {
+		for (String parameter : parameters.split(",")) {
+			Matcher name = PARAMETER_NAME.matcher(parameter);
+			if (!name.find()) continue;
+			String argument = name.group(1);
+			if (arguments.length() > 0) arguments.append(", ");
+			arguments.append(argument);
+			if (function.equals("memmove") && argument.equals("size")) size = argument;
+		}
+	}
+	String prefixed = NativeProfilerAgent.PREFIX + function;
+	append(result, indent + modifiers + "native " + returnType + " " + prefixed + "(" + parameters + ");", true);
+	append(result, indent + modifiers + returnType + " " + function + "(" + parameters + ") {", true);
+	/* The local variable cannot clash with the names of the parameters */
+	append(result, indent + "\tlong $start = " + PROFILER + ".enter();", true);
+	append(result, indent + "\ttry {", true);
+	String call = prefixed + "(" + arguments + ");";
+	append(result, indent + "\t\t" + (returnType.equals("void") ? call : "return " + call), true);
+	append(result, indent + "\t} finally {", true);
+	String exit = FUNCTIONS + "[" + index + "], $start" + (size != null ? ", " + size : "");
+	append(result, indent + "\t\t" + PROFILER + ".exit(" + exit + ");", true);
+	append(result, indent + "\t}", true);
+	append(result, indent + "}", false);
+}
+
+public void setDelimiter(String delimiter) {
+	this.delimiter = delimiter;
+}
+
+public static void main(String[] args) {
+	if (args.length == 0) {
+		System.out.println("Usage: ProfileGenerator <source file>...");
+		return;
+	}
+	ProfileGenerator gen = new ProfileGenerator();
+	for (String fileName : args) {
+		try {
+			Path path = Paths.get(fileName);
+			String source = new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+			gen.setDelimiter(JNIGenerator.getDelimiter(fileName));
+			String result = gen.generate(source);
+			if (!result.equals(source)) {
+				Files.write(path, result.getBytes(StandardCharsets.UTF_8));
+				System.out.println("Generated profiling build of \"" + fileName + "\"");
+			}
+		} catch (IOException e) {
+			System.out.println("Problem");
+			e.printStackTrace(System.out);
+		}
+	}
+}
+}
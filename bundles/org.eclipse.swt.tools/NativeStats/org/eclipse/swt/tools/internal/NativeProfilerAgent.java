@@ -0,0 +1,54 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.tools.internal;
+
+import java.lang.instrument.*;
+
+/**
+ * The Java agent needed to run a profiling build of the SWT natives classes
+ * created by the {@link ProfileGenerator}. The natives of such a build are
+ * renamed with the {@link #PREFIX} prefix. The agent registers the prefix,
+ * so that the virtual machine binds them to the functions of the unchanged
+ * SWT libraries.
+ * <p>
+ * Instructions on how to profile the native calls of an SWT application:
+ * </p>
+ * <pre>
+ * 1) Run the ProfileGenerator on a copy of the sources of the natives classes,
+ *    for example OS.java, GTK.java, GDK.java, Cairo.java and C.java, and build SWT.
+ * 2) Create the agent jar with a manifest containing:
+ *
+ * 		Premain-Class: org.eclipse.swt.tools.internal.NativeProfilerAgent
+ * 		Can-Set-Native-Method-Prefix: true
+ *
+ * 3) Start the application with -javaagent:&lt;agent jar&gt; and record the
+ *    org.eclipse.swt.NativeCall events with Java Flight Recorder, for example
+ *    with -XX:StartFlightRecording or jcmd &lt;pid&gt; JFR.start.
+ * </pre>
+ */
+public class NativeProfilerAgent {
+	/** The prefix of the natives of a profiling build */
+	public static final String PREFIX = "$swt$";
+
+public static void premain(String args, Instrumentation instrumentation) {
+	if (!instrumentation.isNativeMethodPrefixSupported()) {
+		System.err.println("SWT native profiler: the virtual machine does not support native method prefixes");
+		return;
+	}
+	/* The prefix is registered for a transformer, which leaves the classes unchanged */
+	ClassFileTransformer transformer = new ClassFileTransformer() {};
+	instrumentation.addTransformer(transformer);
+	instrumentation.setNativeMethodPrefix(transformer, PREFIX);
+}
+}
@@ -40,9 +40,23 @@ class AccessibleObject {
 	static long descriptionPtr = -1;
 	static long keybindingPtr = -1;
 	static long namePtr = -1;
-	static final Map<LONG, AccessibleObject> AccessibleObjects = new HashMap<> (9);
+	static final LongMap<AccessibleObject> AccessibleObjects = new LongMap<> (9);
 	static final boolean DEBUG = Device.DEBUG;
 
+	/*
+	* The text and children returned by the listeners are kept until the display
+	* runs its pending runnables, so that the many queries of an assistive
+	* technology reading a control do not ask the listeners every time.
+	* The text is only kept once the control reports its text changes through
+	* textChanged, custom controls that never do are asked every time so that
+	* their text is never outdated.
+	*/
+	static int snapshotCycle;
+	static Display snapshotDisplay;
+	String textSnapshot;
+	int textCycle = -1, childrenCycle = -1;
+	boolean reportsTextChanges;
+
 	AccessibleObject (long type, long widget, Accessible accessible, boolean isLightweight) {
 		super ();
 
@@ -67,7 +81,7 @@ class AccessibleObject {
 
 		this.accessible = accessible;
 		this.isLightweight = isLightweight;
-		AccessibleObjects.put (new LONG (atkHandle), this);
+		AccessibleObjects.put (atkHandle, this);
 	}
 
 	static void print (String str) {
@@ -1511,7 +1525,7 @@ class AccessibleObject {
 					}
 				}
 			}
-			object.updateChildren ();
+			object.validateChildren ();
 			AccessibleObject accObject = object.getChildByIndex ((int)index);
 			if (accObject != null) {
 				return OS.g_object_ref (accObject.atkHandle);
@@ -4426,7 +4440,7 @@ class AccessibleObject {
 	 * @return an AccessibleObject associated with the provided AtkObject pointer
 	 */
 	static AccessibleObject getAccessibleObject (long atkObject) {
-		AccessibleObject object = AccessibleObjects.get (new LONG (atkObject));
+		AccessibleObject object = AccessibleObjects.get (atkObject);
 		if (object == null) return null;
 		if (object.accessible == null) return null;
 		Control control = object.accessible.control;
@@ -4451,7 +4465,33 @@ class AccessibleObject {
 		return null;
 	}
 
+	/**
+	 * Returns the current snapshot cycle, the snapshots taken in an earlier
+	 * cycle are outdated.
+	 */
+	int getSnapshotCycle () {
+		if (snapshotDisplay == null || snapshotDisplay.isDisposed ()) {
+			Control control = accessible.control;
+			if (control == null || control.isDisposed ()) return -1;
+			Display display = snapshotDisplay = control.getDisplay ();
+			snapshotCycle++;
+			display.asyncExec (() -> {
+				snapshotDisplay = null;
+			});
+		}
+		return snapshotCycle;
+	}
+
 	String getText () {
+		if (!reportsTextChanges) return getTextFromListeners ();
+		int cycle = getSnapshotCycle ();
+		if (cycle != -1 && textCycle == cycle) return textSnapshot;
+		textSnapshot = getTextFromListeners ();
+		textCycle = cycle;
+		return textSnapshot;
+	}
+
+	String getTextFromListeners () {
 		List<AccessibleControlListener> listeners = accessible.accessibleControlListeners;
 		int length = size(listeners);
 		if (length > 0) {
@@ -4484,10 +4524,7 @@ class AccessibleObject {
 		 * GObject destruction is handled in os_custom.c in GTK3.
 		 * AccessibleObject has to be removed from the map of AccessibleObjects, though.
 		 */
-		AccessibleObject object = AccessibleObjects.get (new LONG (atkObject));
-		if (object != null) {
-			AccessibleObjects.remove (new LONG (atkObject));
-		}
+		AccessibleObjects.remove (atkObject);
 		return 0;
 	}
 
@@ -4655,6 +4692,7 @@ class AccessibleObject {
 	}
 
 	void sendEvent(int event, Object eventData) {
+		invalidateSnapshots ();
 		switch (event) {
 			case ACC.EVENT_SELECTION_CHANGED:
 				OS.g_signal_emit_by_name (atkHandle, ATK.selection_changed);
@@ -4876,6 +4914,8 @@ class AccessibleObject {
 	}
 
 	void textChanged(int type, int startIndex, int length) {
+		reportsTextChanges = true;
+		textCycle = -1;
 		if (type == ACC.TEXT_DELETE) {
 			OS.g_signal_emit_by_name (atkHandle, ATK.text_changed_delete, startIndex, length);
 		} else {
@@ -4887,6 +4927,20 @@ class AccessibleObject {
 		OS.g_signal_emit_by_name (atkHandle, ATK.text_selection_changed);
 	}
 
+	void invalidateSnapshots () {
+		textCycle = childrenCycle = -1;
+	}
+
+	/**
+	 * Updates the children unless they were updated in the current snapshot cycle.
+	 */
+	void validateChildren () {
+		int cycle = getSnapshotCycle ();
+		if (cycle != -1 && childrenCycle == cycle) return;
+		updateChildren ();
+		childrenCycle = cycle;
+	}
+
 	void updateChildren () {
 		List<AccessibleControlListener> listeners = accessible.accessibleControlListeners;
 		int length = size(listeners);
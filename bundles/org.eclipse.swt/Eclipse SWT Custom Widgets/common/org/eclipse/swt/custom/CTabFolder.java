@@ -238,6 +238,7 @@ public class CTabFolder extends Composite {
 	final static int REDRAW = 1 << 1;
 	final static int REDRAW_TABS = 1 << 2;
 	final static int UPDATE_TAB_HEIGHT = 1 << 3;
+	final static int UPDATE_ITEM_SIZE = 1 << 4;
 	Runnable updateRun;
 
 	// when disposing CTabFolder, don't try to layout the items or
@@ -953,6 +954,24 @@ public int getItemCount(){
 	//checkWidget();
 	return items.length;
 }
+/*
+ * Returns the size of an item computed by the renderer. The sizes computed by
+ * the default renderer are cached by the item until its appearance or the
+ * appearance of the folder changes. Custom renderers may depend on state the
+ * folder does not track, their sizes are not cached. The state is a
+ * combination of SWT.SELECTED and CTabFolderRenderer.MINIMUM_SIZE.
+ */
+Point getItemSize(int index, int state, GC gc) {
+	if (!useDefaultRenderer) return renderer.computeSize(index, state, gc, SWT.DEFAULT, SWT.DEFAULT);
+	CTabItem item = items[index];
+	int slot = ((state & SWT.SELECTED) != 0 ? 1 : 0) | ((state & CTabFolderRenderer.MINIMUM_SIZE) != 0 ? 2 : 0);
+	if (item.sizes == null) item.sizes = new Point[4];
+	Point size = item.sizes[slot];
+	if (size == null) {
+		size = item.sizes[slot] = renderer.computeSize(index, state, gc, SWT.DEFAULT, SWT.DEFAULT);
+	}
+	return size;
+}
 /**
  * Return the tab items.
  *
@@ -2497,7 +2516,7 @@ public void setBorderVisible(boolean show) {
 	checkWidget();
 	if (borderVisible == show) return;
 	this.borderVisible = show;
-	updateFolder(REDRAW);
+	updateFolder(UPDATE_ITEM_SIZE | REDRAW);
 }
 
 /**
@@ -2703,7 +2722,7 @@ public void setFont(Font font) {
 	// Redraw request alone would only redraw the cached image with old font.
 	renderer.resetChevronFont(); // renderer will pickup and adjust(!) the new font automatically
 	updateChevronImage(true);
-	updateFolder(REDRAW);
+	updateFolder(UPDATE_ITEM_SIZE | REDRAW);
 }
 @Override
 public void setForeground (Color color) {
@@ -2868,7 +2887,7 @@ boolean setItemSize(GC gc) {
 		}
 		if (selectedIndex != -1) {
 			CTabItem tab = items[selectedIndex];
-			int width = renderer.computeSize(selectedIndex, SWT.SELECTED, gc, SWT.DEFAULT, SWT.DEFAULT).x;
+			int width = getItemSize(selectedIndex, SWT.SELECTED, gc).x;
 			width = Math.min(width, getRightItemEdge(gc) - getLeftItemEdge(gc, CTabFolderRenderer.PART_BORDER));
 			if (tab.height != tabHeight || tab.width != width) {
 				changed = true;
@@ -2897,7 +2916,7 @@ boolean setItemSize(GC gc) {
 		int index = element;
 		int state = CTabFolderRenderer.MINIMUM_SIZE;
 		if (index == selectedIndex) state |= SWT.SELECTED;
-		minWidths[index] = renderer.computeSize(index, state, gc, SWT.DEFAULT, SWT.DEFAULT).x;
+		minWidths[index] = getItemSize(index, state, gc).x;
 		minWidth += minWidths[index];
 		if (minWidth > tabAreaWidth) break;
 	}
@@ -2919,7 +2938,7 @@ boolean setItemSize(GC gc) {
 		for (int i = 0; i < items.length; i++) {
 			int state = 0;
 			if (i == selectedIndex) state |= SWT.SELECTED;
-			maxWidths[i] = renderer.computeSize(i, state, gc, SWT.DEFAULT, SWT.DEFAULT).x;
+			maxWidths[i] = getItemSize(i, state, gc).x;
 			maxWidth += maxWidths[i];
 		}
 		if (maxWidth <= tabAreaWidth) {
@@ -3101,7 +3120,7 @@ public void setMinimumCharacters(int count) {
 	if (count < 0) SWT.error(SWT.ERROR_INVALID_RANGE);
 	if (minChars == count) return;
 	minChars = count;
-	updateFolder(REDRAW_TABS);
+	updateFolder(UPDATE_ITEM_SIZE | REDRAW_TABS);
 }
 
 /**
@@ -3170,7 +3189,7 @@ public void setRenderer(CTabFolderRenderer renderer) {
 	useDefaultRenderer = renderer == null;
 	if (useDefaultRenderer) renderer = new CTabFolderRenderer(this);
 	this.renderer = renderer;
-	updateFolder(REDRAW);
+	updateFolder(UPDATE_ITEM_SIZE | REDRAW);
 }
 /**
  * Set the selection to the tab at the specified item.
@@ -3507,7 +3526,7 @@ public void setSimple(boolean simple) {
 	checkWidget();
 	if (this.simple != simple) {
 		this.simple = simple;
-		updateFolder(UPDATE_TAB_HEIGHT | REDRAW);
+		updateFolder(UPDATE_ITEM_SIZE | UPDATE_TAB_HEIGHT | REDRAW);
 	}
 }
 /**
@@ -3561,7 +3580,7 @@ public void setTabHeight(int height) {
 		SWT.error(SWT.ERROR_INVALID_ARGUMENT);
 	}
 	fixedTabHeight = height;
-	updateFolder(UPDATE_TAB_HEIGHT);
+	updateFolder(UPDATE_ITEM_SIZE | UPDATE_TAB_HEIGHT);
 }
 /**
  * Specify whether the tabs should appear along the top of the folder
@@ -3584,7 +3603,7 @@ public void setTabPosition(int position) {
 	}
 	if (onBottom != (position == SWT.BOTTOM)) {
 		onBottom = position == SWT.BOTTOM;
-		updateFolder(REDRAW);
+		updateFolder(UPDATE_ITEM_SIZE | REDRAW);
 	}
 }
 /**
@@ -3668,7 +3687,7 @@ public void setUnselectedCloseVisible(boolean visible) {
 	if (showUnselectedClose == visible) return;
 	// display close button when mouse hovers
 	showUnselectedClose = visible;
-	updateFolder(REDRAW);
+	updateFolder(UPDATE_ITEM_SIZE | REDRAW);
 }
 /**
  * Specify whether the image appears on unselected tabs.
@@ -3687,7 +3706,7 @@ public void setUnselectedImageVisible(boolean visible) {
 	if (showUnselectedImage == visible) return;
 	// display image on unselected items
 	showUnselectedImage = visible;
-	updateFolder(REDRAW);
+	updateFolder(UPDATE_ITEM_SIZE | REDRAW);
 }
 /**
  * Shows the item.  If the item is already showing in the receiver,
@@ -3810,7 +3829,7 @@ boolean updateItems (int showIndex) {
 			for (int i = priority[0]; i <= showIndex; i++) {
 				int state = CTabFolderRenderer.MINIMUM_SIZE;
 				if (i == selectedIndex) state |= SWT.SELECTED;
-				widths[i] = renderer.computeSize(i, state, gc, SWT.DEFAULT, SWT.DEFAULT).x;
+				widths[i] = getItemSize(i, state, gc).x;
 				width += widths[i];
 				if (width > maxWidth) break;
 			}
@@ -3819,7 +3838,7 @@ boolean updateItems (int showIndex) {
 				for (int i = showIndex; i >= 0; i--) {
 					int state = CTabFolderRenderer.MINIMUM_SIZE;
 					if (i == selectedIndex) state |= SWT.SELECTED;
-					if (widths[i] == 0) widths[i] = renderer.computeSize(i, state, gc, SWT.DEFAULT, SWT.DEFAULT).x;
+					if (widths[i] == 0) widths[i] = getItemSize(i, state, gc).x;
 					width += widths[i];
 					if (width > maxWidth) break;
 					firstIndex = i;
@@ -3829,7 +3848,7 @@ boolean updateItems (int showIndex) {
 				for (int i = showIndex + 1; i < items.length; i++) {
 					int state = CTabFolderRenderer.MINIMUM_SIZE;
 					if (i == selectedIndex) state |= SWT.SELECTED;
-					widths[i] = renderer.computeSize(i, state, gc, SWT.DEFAULT, SWT.DEFAULT).x;
+					widths[i] = getItemSize(i, state, gc).x;
 					width += widths[i];
 					if (width >= maxWidth) break;
 				}
@@ -3837,7 +3856,7 @@ boolean updateItems (int showIndex) {
 					for (int i = priority[0] - 1; i >= 0; i--) {
 						int state = CTabFolderRenderer.MINIMUM_SIZE;
 						if (i == selectedIndex) state |= SWT.SELECTED;
-						if (widths[i] == 0) widths[i] = renderer.computeSize(i, state, gc, SWT.DEFAULT, SWT.DEFAULT).x;
+						if (widths[i] == 0) widths[i] = getItemSize(i, state, gc).x;
 						width += widths[i];
 						if (width > maxWidth) break;
 						firstIndex = i;
@@ -3898,10 +3917,13 @@ boolean updateTabHeight(boolean force){
 	}
 	if (!force && tabHeight == oldHeight) return false;
 	oldSize = null;
+	// the trim of the items depends on the tab height
+	resetItemSizes();
 	return true;
 }
 
 void updateFolder (int flags) {
+	if ((flags & UPDATE_ITEM_SIZE) != 0) resetItemSizes();
 	updateFlags |= flags;
 	if (updateRun != null) return;
 	updateRun = () -> {
@@ -4095,6 +4117,11 @@ void addTabControl(Control control, int flags, int index, boolean update) {
 	removeTabControl (control, true);
 }
 
+void resetItemSizes() {
+	for (CTabItem item : items) {
+		item.sizes = null;
+	}
+}
 void removeTabControl (Control control, boolean update) {
 	if (control != null && control.getParent() != this) {
 		SWT.error(SWT.ERROR_INVALID_ARGUMENT);
@@ -35,11 +35,11 @@ protected Point computeSize(Composite composite, int wHint, int hHint, boolean f
 	GC gc = new GC(folder);
 	for (int i = 0; i < items.length; i++) {
 		if (folder.single) {
-			tabW = Math.max(tabW, renderer.computeSize(i, SWT.SELECTED, gc, SWT.DEFAULT, SWT.DEFAULT).x);
+			tabW = Math.max(tabW, folder.getItemSize(i, SWT.SELECTED, gc).x);
 		} else {
 			int state = 0;
 			if (i == selectedIndex) state |= SWT.SELECTED;
-			tabW += renderer.computeSize(i, state, gc, SWT.DEFAULT, SWT.DEFAULT).x;
+			tabW += folder.getItemSize(i, state, gc).x;
 		}
 	}
 
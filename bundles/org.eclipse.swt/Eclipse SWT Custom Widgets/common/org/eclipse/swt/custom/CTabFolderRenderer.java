@@ -291,7 +291,8 @@ public class CTabFolderRenderer {
 						height = gc.textExtent("Default", FLAGS).y + ITEM_TOP_MARGIN + ITEM_BOTTOM_MARGIN; //$NON-NLS-1$
 					} else {
 						for (int i=0; i < items.length; i++) {
-							height = Math.max(height, computeSize(i, SWT.NONE, gc, wHint, hHint).y);
+							Point size = wHint == SWT.DEFAULT && hHint == SWT.DEFAULT ? parent.getItemSize(i, SWT.NONE, gc) : computeSize(i, SWT.NONE, gc, wHint, hHint);
+							height = Math.max(height, size.y);
 						}
 					}
 					gc.dispose();
@@ -1413,9 +1414,10 @@ public class CTabFolderRenderer {
 				Font gcFont = gc.getFont();
 				gc.setFont(item.font == null ? parent.getFont() : item.font);
 
-				if (item.shortenedText == null || item.shortenedTextWidth != textWidth) {
+				if (item.shortenedText == null || item.shortenedTextWidth != textWidth || item.shortenedTextFont != gc.getFont()) {
 					item.shortenedText = shortenText(gc, item.getText(), textWidth);
 					item.shortenedTextWidth = textWidth;
+					item.shortenedTextFont = gc.getFont();
 				}
 				Point extent = gc.textExtent(item.shortenedText, FLAGS);
 				int textY = y + (height - extent.y) / 2;
@@ -1627,9 +1629,10 @@ public class CTabFolderRenderer {
 			if (textWidth > 0) {
 				Font gcFont = gc.getFont();
 				gc.setFont(item.font == null ? parent.getFont() : item.font);
-				if (item.shortenedText == null || item.shortenedTextWidth != textWidth) {
+				if (item.shortenedText == null || item.shortenedTextWidth != textWidth || item.shortenedTextFont != gc.getFont()) {
 					item.shortenedText = shortenText(gc, item.getText(), textWidth);
 					item.shortenedTextWidth = textWidth;
+					item.shortenedTextFont = gc.getFont();
 				}
 				Point extent = gc.textExtent(item.shortenedText, FLAGS);
 				int textY = y + (height - extent.y) / 2;
@@ -1745,17 +1748,26 @@ public class CTabFolderRenderer {
 		int length = text.length();
 		TextLayout layout = new TextLayout(parent.getDisplay());
 		layout.setText(text);
-		int end = layout.getPreviousOffset(length, SWT.MOVEMENT_CLUSTER);
-		while (end > 0) {
-			text = text.substring(0, end);
-			int l = gc.textExtent(text, FLAGS).x;
-			if (l + ellipseWidth <= width) {
-				break;
+		/*
+		* Binary search the longest prefix ending at a cluster boundary which
+		* fits with the ellipses, the prefix is 0 when none fits. The prefixes
+		* get wider as they get longer, only the widths of O(log n) of them
+		* are measured instead of the widths of all of them.
+		*/
+		int low = 0, high = layout.getPreviousOffset(length, SWT.MOVEMENT_CLUSTER);
+		while (low < high) {
+			int middle = (low + high + 1) / 2;
+			int end = layout.getNextOffset(middle - 1, SWT.MOVEMENT_CLUSTER);
+			if (end > high) {
+				high = middle - 1;
+			} else if (gc.textExtent(text.substring(0, end), FLAGS).x + ellipseWidth <= width) {
+				low = end;
+			} else {
+				high = end - 1;
 			}
-			end = layout.getPreviousOffset(end, SWT.MOVEMENT_CLUSTER);
 		}
 		layout.dispose();
-		return end == 0 ? text.substring(0, 1) : text + ellipses;
+		return low == 0 ? text.substring(0, 1) : text.substring(0, low) + ellipses;
 	}
 
 	void updateCurves () {
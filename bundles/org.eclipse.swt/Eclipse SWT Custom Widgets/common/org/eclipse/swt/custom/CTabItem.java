@@ -44,6 +44,8 @@ public class CTabItem extends Item {
 	String toolTipText;
 	String shortenedText;
 	int shortenedTextWidth;
+	Font shortenedTextFont;
+	Point[] sizes; // the sizes computed by the renderer, see CTabFolder.getItemSize
 
 	// Appearance
 	Font font;
@@ -135,6 +137,8 @@ public void dispose() {
 	control = null;
 	toolTipText = null;
 	shortenedText = null;
+	shortenedTextFont = null;
+	sizes = null;
 	font = null;
 }
 
@@ -403,6 +407,7 @@ public void setFont (Font font){
 	if (font == null && this.font == null) return;
 	if (font != null && font.equals(this.font)) return;
 	this.font = font;
+	sizes = null;
 	parent.updateFolder(CTabFolder.UPDATE_TAB_HEIGHT | CTabFolder.REDRAW_TABS);
 }
 
@@ -468,6 +473,7 @@ public void setImage (Image image) {
 	if (image == null && oldImage == null) return;
 	if (image != null && image.equals(oldImage)) return;
 	super.setImage(image);
+	sizes = null;
 	parent.updateFolder(CTabFolder.UPDATE_TAB_HEIGHT | CTabFolder.REDRAW_TABS);
 }
 /**
@@ -488,6 +494,7 @@ public void setShowClose(boolean close) {
 	checkWidget();
 	if (showClose == close) return;
 	showClose = close;
+	sizes = null;
 	parent.updateFolder(CTabFolder.REDRAW_TABS);
 }
 /**
@@ -509,6 +516,7 @@ public void setText (String string) {
 	super.setText(string);
 	shortenedText = null;
 	shortenedTextWidth = 0;
+	sizes = null;
 	parent.updateFolder(CTabFolder.UPDATE_TAB_HEIGHT | CTabFolder.REDRAW_TABS);
 }
 /**
@@ -738,6 +738,37 @@ public String getTextRange(int start, int length) {
 	buf.append(textStore, gapEnd, end - gapStart);
 	return buf.toString();
 }
+/**
+ * Returns a read-only view of the logical content that reads the text
+ * store around the gap without copying it. The view must not be used
+ * after the content changes. Reading it is thread safe as long as the
+ * content does not change.
+ *
+ * @return the content view
+ */
+CharSequence getTextSequence() {
+	final char[] store = textStore;
+	final int gapOffset = gapStart, gapLength = gapEnd - gapStart;
+	final int charCount = store.length - gapLength;
+	return new CharSequence() {
+		@Override
+		public int length() {
+			return charCount;
+		}
+		@Override
+		public char charAt(int index) {
+			return store[index < gapOffset ? index : index + gapLength];
+		}
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			return getTextRange(start, end - start);
+		}
+		@Override
+		public String toString() {
+			return getTextRange(0, charCount);
+		}
+	};
+}
 /**
  * Removes the specified <code>TextChangeListener</code>.
  * <p>
@@ -29,8 +29,8 @@ import org.eclipse.swt.graphics.*;
  */
 class HTMLWriter extends StyledTextWriterBase {
 
-	public HTMLWriter(StyledText styledText, int start, int length) {
-		super(styledText, start, length);
+	public HTMLWriter(StyledTextSnapshot snapshot) {
+		super(snapshot);
 		writeHeader();
 	}
 
@@ -48,16 +48,16 @@ class HTMLWriter extends StyledTextWriterBase {
 		StringBuilder outerDivStyle = new StringBuilder();
 		StringBuilder innerDivStyle = new StringBuilder();
 
-		appendStyle(outerDivStyle, "background-color:", styledText.getMarginColor(), ";");
-		appendStyle(innerDivStyle, "color:", styledText.getForeground(), ";");
-		appendStyle(innerDivStyle, "background-color:", styledText.getBackground(), ";");
+		appendStyle(outerDivStyle, "background-color:", snapshot.marginColor, ";");
+		appendStyle(innerDivStyle, "color:", snapshot.foreground, ";");
+		appendStyle(innerDivStyle, "background-color:", snapshot.background, ";");
 
-		appendStyle(outerDivStyle, "padding-left:", styledText.getLeftMargin(), "px;");
-		appendStyle(outerDivStyle, "padding-top:", styledText.getTopMargin(), "px;");
-		appendStyle(outerDivStyle, "padding-right:", styledText.getRightMargin(), "px;");
-		appendStyle(outerDivStyle, "padding-bottom:", styledText.getBottomMargin(), "px;");
+		appendStyle(outerDivStyle, "padding-left:", snapshot.leftMargin, "px;");
+		appendStyle(outerDivStyle, "padding-top:", snapshot.topMargin, "px;");
+		appendStyle(outerDivStyle, "padding-right:", snapshot.rightMargin, "px;");
+		appendStyle(outerDivStyle, "padding-bottom:", snapshot.bottomMargin, "px;");
 
-		String language = appendFont(innerDivStyle, styledText.getFont(), 0);
+		String language = appendFont(innerDivStyle, snapshot.fontData, 0);
 
 		// Using wrapIndent like this messes up the line background (if set).
 //		int wrapIndent = styledText.getWrapIndent();
@@ -65,7 +65,7 @@ class HTMLWriter extends StyledTextWriterBase {
 //			appendStyle(globalStyle, "padding-left:", wrapIndent, "px;");
 //		}
 //		int indent = styledText.getIndent() - wrapIndent;
-		int indent = styledText.getIndent();
+		int indent = snapshot.indent;
 		if (indent != 0) {
 			appendStyle(innerDivStyle, "text-indent:", indent, "px;");
 		}
@@ -73,13 +73,13 @@ class HTMLWriter extends StyledTextWriterBase {
 		// TODO?
 //		int lineSpacing = styledText.getLineSpacing();
 
-		if (!styledText.getWordWrap()) {
+		if (!snapshot.wordWrap) {
 			appendStyle(innerDivStyle, "white-space:nowrap;");
 		}
 
-		appendAlignAndJustify(innerDivStyle, styledText.getAlignment(), styledText.getJustify());
+		appendAlignAndJustify(innerDivStyle, snapshot.alignment, snapshot.justify);
 
-		if (styledText.getOrientation() == SWT.RIGHT_TO_LEFT || styledText.getTextDirection() == SWT.RIGHT_TO_LEFT) {
+		if (snapshot.rightToLeft) {
 			appendStyle(innerDivStyle, "direction:rtl;");
 		}
 
@@ -138,7 +138,7 @@ class HTMLWriter extends StyledTextWriterBase {
 		appendStyle(spanStyle, "color:", style.foreground, ";");
 		appendStyle(spanStyle, "background-color:", style.background, ";");
 
-		appendFont(spanStyle, style.font, style.fontStyle);
+		appendFont(spanStyle, snapshot.getFontData(style.font), style.fontStyle);
 
 		if (style.rise != 0) {
 			appendStyle(spanStyle, "position:relative;bottom:", style.rise, "pt;");
@@ -285,24 +285,20 @@ class HTMLWriter extends StyledTextWriterBase {
 	}
 
 	// Return a locale id, if one was present in the font
-	private static String appendFont(StringBuilder buffer, Font font, int fontStyle) {
+	private static String appendFont(StringBuilder buffer, FontData fdata, int fontStyle) {
 		String language = null;
 
-		if (font != null) {
-			FontData[] fd = font.getFontData();
-			if (fd != null && fd.length > 0) {
-				FontData fdata = fd[0];
-				String name = fdata.getName();
-				if (name != null && !name.isEmpty()) {
-					appendStyle(buffer, "font-family:\"", fdata.getName(), "\";");
-				}
-				appendStyle(buffer, "font-size:", fdata.getHeight(), "pt;");
-				language = fdata.getLocale();
-				// The style in the font wins.
-				// Quote from {@link StyleRange#fontStyle}:
-				// "Note: the font style is not used if the <code>font</code> attribute is set"
-				fontStyle = fdata.getStyle();
+		if (fdata != null) {
+			String name = fdata.getName();
+			if (name != null && !name.isEmpty()) {
+				appendStyle(buffer, "font-family:\"", fdata.getName(), "\";");
 			}
+			appendStyle(buffer, "font-size:", fdata.getHeight(), "pt;");
+			language = fdata.getLocale();
+			// The style in the font wins.
+			// Quote from {@link StyleRange#fontStyle}:
+			// "Note: the font style is not used if the <code>font</code> attribute is set"
+			fontStyle = fdata.getStyle();
 		}
 
 		if (fontStyle != 0) {
@@ -35,15 +35,15 @@ class RTFWriter extends StyledTextWriterBase {
 	static final int DEFAULT_FOREGROUND = 0;
 	static final int DEFAULT_BACKGROUND = 1;
 	List<Color> colorTable;
-	List<Font> fontTable;
+	List<FontData> fontTable;
 
-	public RTFWriter(StyledText styledText, int start, int length) {
-		super(styledText, start, length);
+	public RTFWriter(StyledTextSnapshot snapshot) {
+		super(snapshot);
 		colorTable = new ArrayList<>();
 		fontTable = new ArrayList<>();
-		colorTable.add(this.styledText.getForeground());
-		colorTable.add(this.styledText.getBackground());
-		fontTable.add(this.styledText.getFont());
+		colorTable.add(snapshot.foreground);
+		colorTable.add(snapshot.background);
+		fontTable.add(snapshot.fontData);
 	}
 
 	@Override
@@ -61,7 +61,7 @@ class RTFWriter extends StyledTextWriterBase {
 	@Override
 	void writeHeader() {
 		StringBuilder header = new StringBuilder();
-		FontData fontData = styledText.getFont().getFontData()[0];
+		FontData fontData = snapshot.fontData;
 		header.append("{\\rtf1\\ansi");
 		// specify code page, necessary for copy to work in bidi
 		// systems that don't support Unicode RTF.
@@ -78,7 +78,7 @@ class RTFWriter extends StyledTextWriterBase {
 			header.append("\\f");
 			header.append(i);
 			header.append(" ");
-			FontData fd = fontTable.get(i).getFontData()[0];
+			FontData fd = fontTable.get(i);
 			header.append(fd.getName());
 			header.append(";");
 		}
@@ -145,12 +145,11 @@ class RTFWriter extends StyledTextWriterBase {
 			write(colorIndex);
 		}
 		int fontStyle = style.fontStyle;
-		Font font = style.font;
-		if (font != null) {
-			int fontIndex = getFontIndex(font);
+		FontData fontData = snapshot.getFontData(style.font);
+		if (fontData != null) {
+			int fontIndex = getFontIndex(fontData);
 			write("\\f");
 			write(fontIndex);
-			FontData fontData = font.getFontData()[0];
 			write("\\fs");
 			write(fontData.getHeight() * 2);
 			fontStyle = fontData.getStyle();
@@ -228,18 +227,16 @@ class RTFWriter extends StyledTextWriterBase {
 	}
 
 	/**
-	 * Returns the index of the specified color in the RTF color table.
+	 * Returns the index of the specified font in the RTF font table.
 	 *
-	 * @param color the color
-	 * @param defaultIndex return value if color is null
-	 * @return the index of the specified color in the RTF color table
-	 *  or "defaultIndex" if "color" is null.
+	 * @param fontData the font data
+	 * @return the index of the specified font in the RTF font table
 	 */
-	private int getFontIndex(Font font) {
-		int index = fontTable.indexOf(font);
+	private int getFontIndex(FontData fontData) {
+		int index = fontTable.indexOf(fontData);
 		if (index == -1) {
 			index = fontTable.size();
-			fontTable.add(font);
+			fontTable.add(fontData);
 		}
 		return index;
 	}
@@ -95,6 +95,7 @@ public class StyledText extends Canvas {
 	static final int DEFAULT_HEIGHT = 64;
 	static final int V_SCROLL_RATE = 50;
 	static final int H_SCROLL_RATE = 10;
+	static final int MEASURED_LINES = 128;	// lines around the top index that are always measured exactly
 	static final int PREVIOUS_OFFSET_TRAILING = 0;
 	static final int OFFSET_LEADING = 1;
 
@@ -159,6 +160,7 @@ public class StyledText extends Canvas {
 	int lastTextChangeNewCharCount;		// event for use in the
 	int lastTextChangeReplaceLineCount;	// text changed handler
 	int lastTextChangeReplaceCharCount;
+	TextEdits textEdits;				// the edits of the multi-range replace in progress
 	int lastCharCount = 0;
 	int lastLineBottom;					// the bottom pixel of the last line been replaced
 	boolean bidiColoring = false;		// apply the BIDI algorithm on text segments of the same color
@@ -199,6 +201,31 @@ public class StyledText extends Canvas {
 		IS_GTK = "gtk".equals(platform);
 	}
 
+	/**
+	 * The edits of a multi-range replace. The edits are sent to the content
+	 * as a single replace of the text from the start of the first edit to the
+	 * end of the last edit, the ranges in between keep their styles, line
+	 * attributes and cached sizes.
+	 */
+	static class TextEdits {
+		final int[] starts, ends;	// the replaced ranges in order, they do not overlap
+		final String[] texts;		// the new text of each range
+		final String text;			// the new text of the whole replaced range
+
+		TextEdits(int[] starts, int[] ends, String[] texts, String text) {
+			this.starts = starts;
+			this.ends = ends;
+			this.texts = texts;
+			this.text = text;
+		}
+		int start() {
+			return starts[0];
+		}
+		int end() {
+			return ends[ends.length - 1];
+		}
+	}
+
 	/**
 	 * The Printing class implements printing of a range of text.
 	 * An instance of <code>Printing</code> is returned in the
@@ -1084,6 +1111,13 @@ void calculateTopIndex(int delta) {
 			delta -= topIndexY;
 			int lineIndex = topIndex;
 			int lineCount = content.getLineCount();
+			if (clientAreaHeight > 0 && delta > 2 * clientAreaHeight) {
+				// skip the lines that end a client area above the new top using the estimated heights
+				int lineY = renderer.getLineY(lineIndex);
+				int skipIndex = Math.max(lineIndex, renderer.getLineIndexAtY(lineY + delta - clientAreaHeight));
+				delta -= renderer.getLineY(skipIndex) - lineY;
+				lineIndex = skipIndex;
+			}
 			while (lineIndex < lineCount) {
 				if (delta <= 0) break;
 				delta -= renderer.getCachedLineHeight(lineIndex++);
@@ -1098,6 +1132,13 @@ void calculateTopIndex(int delta) {
 		} else {
 			delta -= topIndexY;
 			int lineIndex = topIndex;
+			if (clientAreaHeight > 0 && -delta > 2 * clientAreaHeight) {
+				// skip the lines that start a client area below the new top using the estimated heights
+				int lineY = renderer.getLineY(lineIndex);
+				int skipIndex = Math.min(lineIndex, renderer.getLineIndexAtY(lineY + delta + clientAreaHeight) + 1);
+				delta += lineY - renderer.getLineY(skipIndex);
+				lineIndex = skipIndex;
+			}
 			while (lineIndex > 0) {
 				int lineHeight = renderer.getCachedLineHeight(lineIndex - 1);
 				if (delta + lineHeight > 0) break;
@@ -1385,6 +1426,10 @@ int getAvailableHeightAbove(int height) {
 			maxHeight += renderer.getLineHeight(lineIndex--);
 		}
 		while (height > maxHeight && lineIndex >= 0) {
+			if (topIndex - lineIndex > MEASURED_LINES) {
+				maxHeight += renderer.getLineY(lineIndex + 1);
+				break;
+			}
 			maxHeight += renderer.getLineHeight(lineIndex--);
 		}
 	}
@@ -1402,6 +1447,10 @@ int getAvailableHeightBellow(int height) {
 	int lineIndex = partialBottomIndex + 1;
 	int lineCount = content.getLineCount();
 	while (height > availableHeight && lineIndex < lineCount) {
+		if (lineIndex - partialBottomIndex > MEASURED_LINES) {
+			availableHeight += renderer.getLineY(lineCount) - renderer.getLineY(lineIndex);
+			break;
+		}
 		availableHeight += renderer.getLineHeight(lineIndex++);
 	}
 	return Math.min(height, availableHeight);
@@ -3069,6 +3118,90 @@ void doWordPrevious() {
 void endAutoScroll() {
 	autoScrollDirection = SWT.NULL;
 }
+/**
+ * Searches the widget content for the next match of a regular expression.
+ * <p>
+ * When searching forward, the first match that starts at or after
+ * <code>start</code> is returned. When searching backward, the last match
+ * that ends at or before <code>start</code> is returned, which is the last
+ * range returned by <code>findAll(pattern, 0, start)</code>. Matches are
+ * searched in the text as a whole, so look-arounds and anchors see the
+ * text before and after the searched range.
+ * </p>
+ *
+ * @param pattern the regular expression
+ * @param start the offset to search from, relative to the first character of the widget content
+ * @param forward <code>true</code> to search forward, <code>false</code> to search backward
+ * @return the match, x is the offset of the first character of the match
+ * 	and y is the length of the match, or <code>null</code> if there is no match
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ * @exception IllegalArgumentException <ul>
+ *   <li>ERROR_NULL_ARGUMENT when pattern is null</li>
+ *   <li>ERROR_INVALID_RANGE when start is outside the widget content</li>
+ * </ul>
+ *
+ * @see #findAll(java.util.regex.Pattern, int, int)
+ * @since 3.123
+ */
+public Point find(java.util.regex.Pattern pattern, int start, boolean forward) {
+	checkWidget();
+	if (pattern == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	int charCount = getCharCount();
+	if (start < 0 || start > charCount) SWT.error(SWT.ERROR_INVALID_RANGE);
+	int[] match;
+	if (forward) {
+		match = StyledTextSearch.find(getTextSequence(), pattern, start, charCount);
+	} else {
+		int[] matches = StyledTextSearch.findAll(getTextSequence(), pattern, 0, start, content instanceof DefaultContent);
+		match = matches.length > 0 ? Arrays.copyOfRange(matches, matches.length - 2, matches.length) : null;
+	}
+	return match != null ? new Point(match[0], match[1] - match[0]) : null;
+}
+/**
+ * Searches a range of the widget content for all matches of a regular expression.
+ * <p>
+ * The ranges array contains start and length pairs of the matches, in the
+ * order of the content. Matches do not overlap and lie inside the searched
+ * range, they are the same as the ones found by repeatedly calling
+ * <code>Matcher.find()</code> on the range. Look-arounds and anchors see the
+ * text before and after the searched range.
+ * </p><p>
+ * Large ranges of the default content are searched in parallel, without
+ * copying the text.
+ * </p>
+ *
+ * @param pattern the regular expression
+ * @param start offset of the first character of the searched range
+ * @param length the length of the searched range
+ * @return the ranges array
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ * @exception IllegalArgumentException <ul>
+ *   <li>ERROR_NULL_ARGUMENT when pattern is null</li>
+ *   <li>ERROR_INVALID_RANGE when start and/or length are outside the widget content</li>
+ * </ul>
+ *
+ * @see #find(java.util.regex.Pattern, int, boolean)
+ * @since 3.123
+ */
+public int[] findAll(java.util.regex.Pattern pattern, int start, int length) {
+	checkWidget();
+	if (pattern == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	int end = start + length;
+	if (start > end || start < 0 || end > getCharCount()) SWT.error(SWT.ERROR_INVALID_RANGE);
+	int[] matches = StyledTextSearch.findAll(getTextSequence(), pattern, start, end, content instanceof DefaultContent);
+	for (int i = 0; i < matches.length; i += 2) {
+		matches[i + 1] -= matches[i];
+	}
+	return matches;
+}
 @Override
 public Color getBackground() {
 	checkWidget();
@@ -3517,6 +3650,16 @@ public int getCharCount() {
 	checkWidget();
 	return content.getCharCount();
 }
+/**
+ * Returns the widget content for searching. The default content is read
+ * in place, other contents are copied.
+ */
+CharSequence getTextSequence() {
+	if (content instanceof DefaultContent) {
+		return ((DefaultContent) content).getTextSequence();
+	}
+	return content.getTextRange(0, content.getCharCount());
+}
 /**
  * Returns the line at the given line index without delimiters.
  * Index 0 is the first line of the content. When there are not
@@ -3875,19 +4018,34 @@ public int getLinePixel(int lineIndex) {
 		int lineHeight = renderer.getLineHeight();
 		return lineIndex * lineHeight - getVerticalScrollOffset() + topMargin;
 	}
-	if (lineIndex == topIndex)
-		return topIndexY + topMargin;
+	return getVariableLinePixel(lineIndex) + topMargin;
+}
+/**
+ * Returns the top of a line relative to the top of the client area, without
+ * the top margin, when the line height is variable. The lines that are within
+ * a client area or MEASURED_LINES of the top index are measured, the position
+ * of a line further away is based on the estimated heights of the renderer.
+ */
+int getVariableLinePixel(int lineIndex) {
+	if (lineIndex == topIndex) return topIndexY;
 	int height = topIndexY;
+	int i = topIndex;
 	if (lineIndex > topIndex) {
-		for (int i = topIndex; i < lineIndex; i++) {
-			height += renderer.getLineHeight(i);
+		while (i < lineIndex && (height < clientAreaHeight || i - topIndex < MEASURED_LINES)) {
+			height += renderer.getLineHeight(i++);
+		}
+		if (i < lineIndex) {
+			height += renderer.getLineY(lineIndex) - renderer.getLineY(i);
 		}
 	} else {
-		for (int i = topIndex - 1; i >= lineIndex; i--) {
-			height -= renderer.getLineHeight(i);
+		while (i > lineIndex && (height > -clientAreaHeight || topIndex - i < MEASURED_LINES)) {
+			height -= renderer.getLineHeight(--i);
+		}
+		if (i > lineIndex) {
+			height -= renderer.getLineY(i) - renderer.getLineY(lineIndex);
 		}
 	}
-	return height + topMargin;
+	return height;
 }
 /**
  * Returns the line index for a y, relative to the client area.
@@ -3913,6 +4071,10 @@ public int getLineIndex(int y) {
 	int line = topIndex;
 	if (y < topIndexY) {
 		while (y < topIndexY && line > 0) {
+			if (topIndexY - y > clientAreaHeight && topIndex - line >= MEASURED_LINES) {
+				/* Far above the client area, use the estimated line heights */
+				return renderer.getLineIndexAtY(renderer.getLineY(line) - (topIndexY - y));
+			}
 			y += renderer.getLineHeight(--line);
 		}
 	} else {
@@ -3920,7 +4082,12 @@ public int getLineIndex(int y) {
 		int lineHeight = renderer.getLineHeight(line);
 		while (y - lineHeight >= topIndexY && line < lineCount - 1) {
 			y -= lineHeight;
-			lineHeight = renderer.getLineHeight(++line);
+			line++;
+			if (y - topIndexY > clientAreaHeight && line - topIndex >= MEASURED_LINES) {
+				/* Far below the client area, use the estimated line heights */
+				return renderer.getLineIndexAtY(renderer.getLineY(line) + (y - topIndexY));
+			}
+			lineHeight = renderer.getLineHeight(line);
 		}
 	}
 	return line;
@@ -5027,13 +5194,17 @@ int getVerticalIncrement() {
 }
 int getVerticalScrollOffset() {
 	if (verticalScrollOffset == -1) {
-		renderer.calculate(0, topIndex);
-		int height = 0;
-		for (int i = 0; i < topIndex; i++) {
-			height += renderer.getCachedLineHeight(i);
+		if (isFixedLineHeight()) {
+			renderer.calculate(0, topIndex);
+			int height = 0;
+			for (int i = 0; i < topIndex; i++) {
+				height += renderer.getCachedLineHeight(i);
+			}
+			height -= topIndexY;
+			verticalScrollOffset = height;
+		} else {
+			verticalScrollOffset = -getVariableLinePixel(0);
 		}
-		height -= topIndexY;
-		verticalScrollOffset = height;
 	}
 	return verticalScrollOffset;
 }
@@ -6077,7 +6248,11 @@ void handleTextChanged(TextChangedEvent event) {
 	// in some cases new text would be drawn in scroll source area even
 	// though the intent is to scroll it.
 	if (!(blockSelection && blockXLocation != -1)) {
-		updateSelection(lastTextChangeStart, lastTextChangeReplaceCharCount, lastTextChangeNewCharCount);
+		if (textEdits != null) {
+			updateSelection(textEdits);
+		} else {
+			updateSelection(lastTextChangeStart, lastTextChangeReplaceCharCount, lastTextChangeNewCharCount);
+		}
 	}
 	if (lastTextChangeReplaceLineCount > 0 || wordWrap || visualWrap) {
 		claimBottomFreeSpace();
@@ -6107,6 +6282,10 @@ void handleTextChanging(TextChangingEvent event) {
 		event.start += event.replaceCharCount;
 		event.replaceCharCount *= -1;
 	}
+	if (textEdits != null && (event.start != textEdits.start() || event.replaceCharCount != textEdits.end() - textEdits.start() || event.newCharCount != textEdits.text.length())) {
+		// the content did not replace the range of the edits at once
+		textEdits = null;
+	}
 	lastTextChangeStart = event.start;
 	lastTextChangeNewLineCount = event.newLineCount;
 	lastTextChangeNewCharCount = event.newCharCount;
@@ -7096,6 +7275,10 @@ void modifyContent(Event event, boolean updateCaret) {
 	event.doit = true;
 	notifyListeners(SWT.Verify, event);
 	if (event.doit) {
+		if (textEdits != null && (event.start != textEdits.start() || event.end != textEdits.end() || event.text != textEdits.text)) {
+			// a verify listener changed the text, replace the whole range
+			textEdits = null;
+		}
 		StyledTextEvent styledTextEvent = null;
 		int replacedLength = event.end - event.start;
 		if (isListening(ST.ExtendedModify)) {
@@ -7777,6 +7960,91 @@ public void replaceTextRange(int start, int length, String text) {
 	event.text = text;
 	modifyContent(event, false);
 }
+/**
+ * Replaces several text ranges with new text in a single change.
+ * <p>
+ * The ranges array contains start and length pairs, the pair that starts
+ * at ranges[n] with length ranges[n+1] is replaced with texts[n/2]. The
+ * result is the same as replacing each range with its text, starting with
+ * the last one, but the listeners are notified once: the change is sent
+ * to the content and to the verify and modify listeners as a replace of
+ * the text from the start of the first range to the end of the last range.
+ * The text in between the ranges keeps its styles and line attributes.
+ * The ranges returned by {@link #findAll(java.util.regex.Pattern, int, int)}
+ * can be replaced with this method.
+ * </p><p>
+ * The selection is changed as described in {@link #replaceTextRange(int, int, String)}
+ * for each of the ranges. If a verify listener changes the text of the
+ * change, the whole range from the start of the first range to the end
+ * of the last range is replaced with it.
+ * </p>
+ *
+ * @param ranges the start and length pairs of the ranges to replace. The ranges must not overlap and must be in order.
+ * @param texts the new text of each range. May be empty to delete text.
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ * @exception IllegalArgumentException <ul>
+ *   <li>ERROR_NULL_ARGUMENT when ranges or texts or an element of texts is null</li>
+ *   <li>ERROR_INVALID_ARGUMENT when the number of ranges and texts do not match (ranges.length == texts.length * 2)</li>
+ *   <li>ERROR_INVALID_RANGE when a range is outside the valid range (0 &lt;= offset &lt;= getCharCount()) or when ranges overlap</li>
+ *   <li>ERROR_INVALID_ARGUMENT when a start or end offset is inside a multi byte line delimiter</li>
+ * </ul>
+ *
+ * @see #replaceTextRange(int, int, String)
+ * @since 3.123
+ */
+public void replaceTextRanges(int[] ranges, String[] texts) {
+	checkWidget();
+	if (ranges == null || texts == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	int count = texts.length;
+	if (ranges.length != count << 1) SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+	if (count == 0) return;
+	int contentLength = getCharCount();
+	int[] starts = new int[count], ends = new int[count];
+	for (int i = 0, previousEnd = 0; i < count; i++) {
+		int start = ranges[i << 1];
+		int end = start + ranges[(i << 1) + 1];
+		if (texts[i] == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+		if (start > end || start < previousEnd || end > contentLength) {
+			SWT.error(SWT.ERROR_INVALID_RANGE);
+		}
+		// the content validates the start and end of the whole change
+		if ((i > 0 && isInsideLineDelimiter(start)) || (i < count - 1 && isInsideLineDelimiter(end))) {
+			SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+		}
+		starts[i] = start;
+		ends[i] = previousEnd = end;
+	}
+	if (count == 1) {
+		replaceTextRange(starts[0], ends[0] - starts[0], texts[0]);
+		return;
+	}
+	StringBuilder buffer = new StringBuilder();
+	for (int i = 0; i < count; i++) {
+		if (i > 0) buffer.append(content.getTextRange(ends[i - 1], starts[i] - ends[i - 1]));
+		buffer.append(texts[i]);
+	}
+	Event event = new Event();
+	event.start = starts[0];
+	event.end = ends[count - 1];
+	event.text = buffer.toString();
+	textEdits = new TextEdits(starts, ends, texts.clone(), event.text);
+	try {
+		modifyContent(event, false);
+	} finally {
+		textEdits = null;
+	}
+}
+/**
+ * Returns whether the offset is between the CR and LF of a line delimiter.
+ */
+boolean isInsideLineDelimiter(int offset) {
+	if (offset <= 0 || offset >= content.getCharCount()) return false;
+	if (!"\r\n".equals(content.getTextRange(offset - 1, 2))) return false;
+	return content.getLineAtOffset(offset - 1) == content.getLineAtOffset(offset);
+}
 /**
  * Resets the caret position, selection and scroll offsets. Recalculate
  * the content width and scroll bars. Redraw the widget.
@@ -8624,13 +8892,28 @@ void setClipboardContent(int start, int length, int clipboardType) throws SWTErr
 		data = new Object[]{plainText};
 		types = new Transfer[]{plainTextTransfer};
 	} else {
+		/*
+		 * RTF and HTML are only produced when a consumer asks for them. They
+		 * are written from a snapshot of the copied text and its styles, so
+		 * later changes of the widget do not affect them. The line style and
+		 * background listeners are only queried for the requested format.
+		 */
+		StyledTextSnapshot snapshot = new StyledTextSnapshot(this, start, length);
 		RTFTransfer rtfTransfer = RTFTransfer.getInstance();
-		RTFWriter rtfWriter = new RTFWriter(this, start, length);
-		String rtfText = getPlatformDelimitedText(rtfWriter);
+		DeferredClipboardData rtfText = new DeferredClipboardData() {
+			@Override
+			protected Object produce() {
+				return snapshot.write(new RTFWriter(snapshot));
+			}
+		};
 
 		HTMLTransfer htmlTransfer = HTMLTransfer.getInstance();
-		HTMLWriter htmlWriter = new HTMLWriter(this, start, length);
-		String htmlText = getPlatformDelimitedText(htmlWriter);
+		DeferredClipboardData htmlText = new DeferredClipboardData() {
+			@Override
+			protected Object produce() {
+				return snapshot.write(new HTMLWriter(snapshot));
+			}
+		};
 
 		data = new Object[]{rtfText, htmlText, plainText};
 		types = new Transfer[]{rtfTransfer, htmlTransfer, plainTextTransfer};
@@ -10844,5 +11127,32 @@ void updateSelection(int startOffset, int replacedLength, int newLength) {
 		.toArray(), true, false);
 	setCaretLocations();
 }
+/**
+ * Updates the selection and caret position after a multi-range replace,
+ * applying the rules of {@link #updateSelection(int, int, int)} for each
+ * edit from the last to the first.
+ */
+void updateSelection(TextEdits edits) {
+	int[] ranges = new int[selection.length << 1];
+	for (int i = 0; i < selection.length; i++) {
+		int x = selection[i].x, y = selection[i].y;
+		for (int j = edits.starts.length - 1; j >= 0; j--) {
+			int startOffset = edits.starts[j];
+			if (y <= startOffset) continue;
+			int replacedLength = edits.ends[j] - startOffset, newLength = edits.texts[j].length();
+			if (x < startOffset + replacedLength) {
+				// selection intersects replaced text. set caret behind text change
+				x = y = startOffset + newLength;
+			} else {
+				x += newLength - replacedLength;
+				y += newLength - replacedLength;
+			}
+		}
+		ranges[i << 1] = x;
+		ranges[(i << 1) + 1] = y - x;
+	}
+	setSelection(ranges, true, false);
+	setCaretLocations();
+}
 
 }
@@ -48,6 +48,7 @@ class StyledTextRenderer {
 	TextLayout[] layouts;
 	int lineCount;
 	LineSizeInfo[] lineSizes;
+	LineHeightIndex heightIndex;
 	LineInfo[] lines;
 	int maxWidth;
 	int maxWidthLineIndex;
@@ -151,6 +152,75 @@ class StyledTextRenderer {
 		}
 	}
 
+	/**
+	 * Sums of the line heights, stored as a Fenwick tree so that the y of a
+	 * line and the line at a y are found in O(log n). Only measured heights
+	 * are stored, each node also counts its measured lines so that the lines
+	 * that are not measured yet can be given an estimated height at query time.
+	 */
+	static class LineHeightIndex {
+		int size;
+		int[] heights;
+		int[] counts;
+
+		LineHeightIndex(LineSizeInfo[] lineSizes, int lineCount) {
+			size = lineCount;
+			heights = new int[size + 1];
+			counts = new int[size + 1];
+			for (int i = 0; i < size; i++) {
+				LineSizeInfo line = lineSizes[i];
+				if (line != null && !line.needsRecalculateHeight()) {
+					heights[i + 1] += line.height;
+					counts[i + 1]++;
+				}
+			}
+			for (int i = 1; i <= size; i++) {
+				int parent = i + (i & -i);
+				if (parent <= size) {
+					heights[parent] += heights[i];
+					counts[parent] += counts[i];
+				}
+			}
+		}
+
+		void add(int lineIndex, int height, int count) {
+			for (int i = lineIndex + 1; i <= size; i += i & -i) {
+				heights[i] += height;
+				counts[i] += count;
+			}
+		}
+
+		/**
+		 * Returns the sum of the heights of the lines before the given line.
+		 */
+		int getY(int lineIndex, int estimatedHeight) {
+			int height = 0, count = 0;
+			for (int i = lineIndex; i > 0; i -= i & -i) {
+				height += heights[i];
+				count += counts[i];
+			}
+			return height + (lineIndex - count) * estimatedHeight;
+		}
+
+		/**
+		 * Returns the line that contains the given y, clamped to the valid lines.
+		 */
+		int getLineIndex(int y, int estimatedHeight) {
+			int lineIndex = 0;
+			for (int bit = Integer.highestOneBit(size); bit > 0; bit >>= 1) {
+				int next = lineIndex + bit;
+				if (next <= size) {
+					int height = heights[next] + (bit - counts[next]) * estimatedHeight;
+					if (height <= y) {
+						lineIndex = next;
+						y -= height;
+					}
+				}
+			}
+			return Math.max(0, Math.min(lineIndex, size - 1));
+		}
+	}
+
 	static class LineInfo {
 		int flags;
 		Color background;
@@ -298,7 +368,7 @@ void calculate(int startLine, int lineCount) {
 			TextLayout layout = getTextLayout(i);
 			Rectangle rect = layout.getBounds();
 			line.width = rect.width + hTrim;
-			line.height = rect.height;
+			setLineHeight(i, line, rect.height);
 			averageLineHeight += (line.height - Math.round(averageLineHeight)) / ++linesInAverageLineHeight;
 			disposeTextLayout(layout);
 		}
@@ -308,6 +378,16 @@ void calculate(int startLine, int lineCount) {
 		}
 	}
 }
+void setLineHeight(int lineIndex, LineSizeInfo line, int height) {
+	if (heightIndex != null) {
+		if (line.needsRecalculateHeight()) {
+			heightIndex.add(lineIndex, height, 1);
+		} else {
+			heightIndex.add(lineIndex, height - line.height, 0);
+		}
+	}
+	line.height = height;
+}
 LineSizeInfo getLineSize(int i) {
 	if (lineSizes[i] == null) {
 		lineSizes[i] = new LineSizeInfo();
@@ -559,6 +639,16 @@ int getBaseline() {
 int getCachedLineHeight(int lineIndex) {
 	return getLineHeight(lineIndex, false);
 }
+/**
+ * Returns the height used for lines that have not been measured yet.
+ */
+int getEstimatedLineHeight() {
+	if (linesInAverageLineHeight > 0) {
+		int height = Math.round(averageLineHeight);
+		if (height > 0) return height;
+	}
+	return getLineHeight();
+}
 Font getFont(int style) {
 	switch (style) {
 		case SWT.BOLD:
@@ -681,14 +771,29 @@ int getLineHeight(int lineIndex, boolean exact) {
 			if (exact) {
 				calculate(lineIndex, 1);
 			} else {
-				return Math.round(averageLineHeight);
+				return getEstimatedLineHeight();
 			}
 		} else {
-			line.height = getLineHeight() + getLineSpacing(lineIndex) + getLineVerticalIndent(lineIndex);
+			setLineHeight(lineIndex, line, getLineHeight() + getLineSpacing(lineIndex) + getLineVerticalIndent(lineIndex));
 		}
 	}
 	return line.height;
 }
+/**
+ * Returns the sum of the heights of the lines before the given line,
+ * using the estimated line height for lines that have not been measured.
+ */
+int getLineY(int lineIndex) {
+	if (heightIndex == null) heightIndex = new LineHeightIndex(lineSizes, lineCount);
+	return heightIndex.getY(lineIndex, getEstimatedLineHeight());
+}
+/**
+ * Returns the line at the given y, the inverse of {@link #getLineY(int)}.
+ */
+int getLineIndexAtY(int y) {
+	if (heightIndex == null) heightIndex = new LineHeightIndex(lineSizes, lineCount);
+	return heightIndex.getLineIndex(y, getEstimatedLineHeight());
+}
 /**
  * Returns true if the given line can use the default line height and false
  * otherwise.
@@ -1326,6 +1431,7 @@ void reset() {
 	stylesSet = null;
 	lines = null;
 	lineSizes = null;
+	heightIndex = null;
 	bullets = null;
 	bulletsIndices = null;
 	redrawLines = null;
@@ -1346,7 +1452,11 @@ void reset(Set<Integer> lines) {
 	for (Integer line : lines) {
 		if (line >= 0 || line < lineCount) {
 			resetLineCount++;
-			getLineSize(line.intValue()).resetSize();
+			LineSizeInfo lineSize = getLineSize(line.intValue());
+			if (heightIndex != null && !lineSize.needsRecalculateHeight()) {
+				heightIndex.add(line.intValue(), -lineSize.height, -1);
+			}
+			lineSize.resetSize();
 		}
 	}
 	if (linesInAverageLineHeight > resetLineCount) {
@@ -1374,6 +1484,7 @@ void setContent(StyledTextContent content) {
 	this.content = content;
 	lineCount = content.getLineCount();
 	lineSizes = new LineSizeInfo[lineCount];
+	heightIndex = null;
 	maxWidth = 0;
 	maxWidthLineIndex = -1;
 	reset(0, lineCount);
@@ -1489,7 +1600,7 @@ void setLineVerticalIndent(int lineIndex, int verticalLineIndent) {
 	lines[lineIndex].verticalIndent = verticalLineIndent;
 	LineSizeInfo info = getLineSize(lineIndex);
 	if (!info.needsRecalculateHeight()) {
-		info.height += delta;
+		setLineHeight(lineIndex, info, info.height + delta);
 	}
 }
 void setLineWrapIndent(int startLine, int count, int wrapIndent) {
@@ -1703,10 +1814,17 @@ void textChanging(TextChangingEvent event) {
 	int newCharCount = event.newCharCount, replaceCharCount = event.replaceCharCount;
 	int newLineCount = event.newLineCount, replaceLineCount = event.replaceLineCount;
 
-	updateRanges(start, replaceCharCount, newCharCount);
+	StyledText.TextEdits edits = styledText.textEdits;
+	if (edits != null) {
+		updateRanges(edits);
+	} else {
+		updateRanges(start, replaceCharCount, newCharCount);
+	}
 
 	int startLine = content.getLineAtOffset(start);
 	if (replaceCharCount == content.getCharCount()) lines = null;
+	/* Rebuilt on demand, the line sizes are shifted below */
+	heightIndex = null;
 	if (replaceLineCount == lineCount) {
 		lineCount = newLineCount;
 		lineSizes = new LineSizeInfo[lineCount];
@@ -1721,6 +1839,20 @@ void textChanging(TextChangingEvent event) {
 			SWT.error(SWT.ERROR_INVALID_RANGE, null, "bug 478020: lineCount < startIndex: " + lineCount + ":" + startIndex);
 		}
 		int delta = newLineCount - replaceLineCount;
+		/* Lines in between the edits of a multi-range replace are moved, not reset */
+		int[] keptLines = edits != null ? getUntouchedLines(edits, startLine, replaceLineCount) : null;
+		LineSizeInfo[] keptSizes = null;
+		LineInfo[] keptInfos = null;
+		if (keptLines != null) {
+			int keptCount = keptLines.length >> 1;
+			keptSizes = new LineSizeInfo[keptCount];
+			keptInfos = new LineInfo[keptCount];
+			for (int i = 0; i < keptCount; i++) {
+				int line = keptLines[i << 1];
+				keptSizes[i] = lineSizes[line];
+				if (lines != null) keptInfos[i] = lines[line];
+			}
+		}
 		if (lineCount + delta > lineSizes.length) {
 			LineSizeInfo[] newLineSizes = new LineSizeInfo[lineCount + delta + GROW];
 			System.arraycopy(lineSizes, 0, newLineSizes, 0, lineCount);
@@ -1806,6 +1938,13 @@ void textChanging(TextChangingEvent event) {
 				}
 			}
 		}
+		if (keptLines != null) {
+			for (int i = 0; i < keptSizes.length; i++) {
+				int line = keptLines[(i << 1) + 1];
+				lineSizes[line] = keptSizes[i];
+				if (lines != null) lines[line] = keptInfos[i];
+			}
+		}
 		lineCount += delta;
 		if (maxWidthLineIndex != -1 && startLine <= maxWidthLineIndex && maxWidthLineIndex <= startLine + replaceLineCount) {
 			maxWidth = 0;
@@ -1957,6 +2096,107 @@ void updateRanges(int start, int replaceCharCount, int newCharCount) {
 	}
 }
 
+/**
+ * Updates the style ranges for a multi-range replace. The result is the
+ * same as updating them for each edit, starting with the last one, but
+ * the ranges are moved once.
+ */
+void updateRanges(StyledText.TextEdits edits) {
+	if (styleCount == 0) return;
+	int[] starts = edits.starts, ends = edits.ends;
+	String[] texts = edits.texts;
+	/* Each edit splits at most one range */
+	int capacity = styleCount + starts.length;
+	int[] newRanges = ranges != null ? new int[capacity << 1] : null;
+	StyleRange[] newStyles = new StyleRange[capacity];
+	int count = 0, edit = 0, offset = 0;
+	for (int i = 0; i < styleCount; i++) {
+		int rangeStart, rangeEnd;
+		if (ranges != null) {
+			rangeStart = ranges[i << 1];
+			rangeEnd = rangeStart + ranges[(i << 1) + 1];
+		} else {
+			rangeStart = styles[i].start;
+			rangeEnd = rangeStart + styles[i].length;
+		}
+		int first = count;
+		int position = rangeStart;
+		while (position < rangeEnd) {
+			while (edit < starts.length && ends[edit] <= position) {
+				offset += texts[edit].length() - (ends[edit] - starts[edit]);
+				edit++;
+			}
+			if (edit < starts.length && starts[edit] <= position) {
+				/* The text at position is replaced, continue after the edit */
+				position = ends[edit];
+				continue;
+			}
+			int end = edit < starts.length ? Math.min(rangeEnd, starts[edit]) : rangeEnd;
+			int newStart = position + offset, newLength = end - position;
+			if (count > first && getRangeEnd(newRanges, newStyles, count - 1) == newStart) {
+				/* Only deleted text was in between, join the parts of the range */
+				if (newRanges != null) {
+					newRanges[((count - 1) << 1) + 1] += newLength;
+				} else {
+					newStyles[count - 1].length += newLength;
+				}
+			} else {
+				if (newRanges != null) {
+					newRanges[count << 1] = newStart;
+					newRanges[(count << 1) + 1] = newLength;
+					newStyles[count] = styles[i];
+				} else {
+					StyleRange style = count == first ? styles[i] : (StyleRange)styles[i].clone();
+					style.start = newStart;
+					style.length = newLength;
+					newStyles[count] = style;
+				}
+				count++;
+			}
+			position = end;
+		}
+	}
+	ranges = newRanges;
+	styles = newStyles;
+	styleCount = count;
+}
+static int getRangeEnd(int[] ranges, StyleRange[] styles, int index) {
+	if (ranges != null) return ranges[index << 1] + ranges[(index << 1) + 1];
+	return styles[index].start + styles[index].length;
+}
+/**
+ * Returns the lines of a multi-range replace that are not touched by any
+ * of its edits, as pairs of the line index before and after the change.
+ */
+int[] getUntouchedLines(StyledText.TextEdits edits, int startLine, int replaceLineCount) {
+	int[] starts = edits.starts, ends = edits.ends;
+	String[] texts = edits.texts;
+	String text = edits.text;
+	int[] result = new int[8];
+	int count = 0, edit = 0, offset = 0;
+	int newLine = startLine, newOffset = 0;	// the line of newOffset in the new text
+	/* The first and the last line contain the start and the end of the change */
+	for (int line = startLine + 1; line < startLine + replaceLineCount; line++) {
+		int lineStart = content.getOffsetAtLine(line);
+		int lineEnd = content.getOffsetAtLine(line + 1);
+		/* An edit that ends at the line start touches the line, it removes the preceding line delimiter or inserts before the line */
+		while (edit < starts.length && ends[edit] < lineStart) {
+			offset += texts[edit].length() - (ends[edit] - starts[edit]);
+			edit++;
+		}
+		if (edit < starts.length && starts[edit] < lineEnd) continue;
+		int target = lineStart + offset - edits.start();
+		while (newOffset < target) {
+			char ch = text.charAt(newOffset++);
+			if (ch == '\n' || (ch == '\r' && (newOffset == text.length() || text.charAt(newOffset) != '\n'))) newLine++;
+		}
+		if (count == result.length) result = Arrays.copyOf(result, count << 1);
+		result[count++] = line;
+		result[count++] = newLine;
+	}
+	return count > 0 ? Arrays.copyOf(result, count) : null;
+}
+
 public boolean hasVerticalIndent() {
 	return Arrays.stream(lines).filter(Objects::nonNull) //
 			.mapToInt(line -> line.verticalIndent) //
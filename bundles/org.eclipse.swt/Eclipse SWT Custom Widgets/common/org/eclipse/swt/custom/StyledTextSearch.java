@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.custom;
+
+import java.util.*;
+import java.util.regex.*;
+import java.util.stream.*;
+
+/**
+ * Regular expression search over the text of a <code>StyledText</code>.
+ * <p>
+ * Large ranges are split into chunks that are scanned in parallel. The
+ * matches of the chunks are merged so that the result is the same as the
+ * one of a single sequential scan: a chunk whose first matches overlap the
+ * last match of the previous chunk is scanned again sequentially until it
+ * is back in step with the matches found by its own scan.
+ * </p>
+ */
+class StyledTextSearch {
+	/** the number of characters scanned by each parallel task */
+	static final int CHUNK_SIZE = 1 << 16;
+
+/**
+ * Returns the first match that starts at or after <code>start</code>.
+ *
+ * @return the start and end offset of the match, or <code>null</code>
+ */
+static int[] find(CharSequence text, Pattern pattern, int start, int end) {
+	Matcher matcher = matcher(text, pattern, start, end);
+	return matcher.find() ? new int[] {matcher.start(), matcher.end()} : null;
+}
+
+/**
+ * Returns the matches within the range as start and end offset pairs.
+ * The text must not change during the search. It is split into chunks
+ * that are scanned in parallel when <code>parallel</code> is true, in
+ * which case reading the text must be thread safe.
+ */
+static int[] findAll(CharSequence text, Pattern pattern, int start, int end, boolean parallel) {
+	int chunkCount = (end - start + CHUNK_SIZE - 1) / CHUNK_SIZE;
+	if (!parallel || chunkCount < 2) {
+		return scan(text, pattern, end, start, end);
+	}
+	int[] bounds = new int[chunkCount + 1];
+	bounds[0] = start;
+	for (int i = 1; i < chunkCount; i++) {
+		bounds[i] = chunkStart(text, start + i * CHUNK_SIZE, end);
+	}
+	bounds[chunkCount] = end;
+	int[][] chunks = IntStream.range(0, chunkCount).parallel()
+			.mapToObj(i -> scan(text, pattern, end, bounds[i], bounds[i + 1]))
+			.toArray(int[][]::new);
+	return merge(text, pattern, start, end, bounds, chunks);
+}
+
+/**
+ * Moves the chunk boundary to the start of the next line, which keeps
+ * most matches inside a single chunk.
+ */
+static int chunkStart(CharSequence text, int offset, int end) {
+	int limit = Math.min(end, offset + CHUNK_SIZE / 4);
+	for (int i = offset; i < limit; i++) {
+		char ch = text.charAt(i - 1);
+		if (ch == '\n' || ch == '\r' && text.charAt(i) != '\n') return i;
+	}
+	return offset;
+}
+
+static Matcher matcher(CharSequence text, Pattern pattern, int from, int end) {
+	Matcher matcher = pattern.matcher(text);
+	matcher.region(from, end);
+	/* Look-arounds and anchors see the text outside of the region */
+	matcher.useTransparentBounds(true);
+	matcher.useAnchoringBounds(false);
+	return matcher;
+}
+
+/**
+ * Returns the matches found by scanning from <code>chunkStart</code>
+ * that start before <code>chunkEnd</code>, or at it for the last chunk.
+ * Matches may extend up to the end of the searched range.
+ */
+static int[] scan(CharSequence text, Pattern pattern, int end, int chunkStart, int chunkEnd) {
+	Matcher matcher = matcher(text, pattern, chunkStart, end);
+	int[] matches = new int[8];
+	int count = 0;
+	while (matcher.find() && (matcher.start() < chunkEnd || chunkEnd == end)) {
+		if (count == matches.length) matches = Arrays.copyOf(matches, count * 2);
+		matches[count++] = matcher.start();
+		matches[count++] = matcher.end();
+	}
+	return Arrays.copyOf(matches, count);
+}
+
+static int[] merge(CharSequence text, Pattern pattern, int start, int end, int[] bounds, int[][] chunks) {
+	int length = 0;
+	for (int[] chunk : chunks) length += chunk.length;
+	int[] result = new int[length];
+	int count = 0, lastEnd = start;
+	for (int i = 0; i < chunks.length; i++) {
+		int[] chunk = chunks[i];
+		int chunkEnd = bounds[i + 1], index = 0;
+		if (lastEnd > bounds[i]) {
+			/*
+			 * The previous match extends into this chunk. Continue the sequential
+			 * scan until it finds a match of the chunk, the remaining matches of the
+			 * chunk follow from the same position.
+			 */
+			index = chunk.length;
+			Matcher matcher = matcher(text, pattern, lastEnd, end);
+			int j = 0;
+			while (matcher.find() && (matcher.start() < chunkEnd || chunkEnd == end)) {
+				int matchStart = matcher.start(), matchEnd = matcher.end();
+				while (j < chunk.length && chunk[j] < matchStart) j += 2;
+				if (j < chunk.length && chunk[j] == matchStart && chunk[j + 1] == matchEnd) {
+					index = j;
+					break;
+				}
+				if (count + 2 > result.length) result = Arrays.copyOf(result, result.length * 2 + 2);
+				result[count++] = matchStart;
+				result[count++] = matchEnd;
+				lastEnd = matchEnd;
+			}
+		}
+		int remaining = chunk.length - index;
+		if (remaining > 0) {
+			if (count + remaining > result.length) result = Arrays.copyOf(result, count + remaining);
+			System.arraycopy(chunk, index, result, count, remaining);
+			count += remaining;
+			lastEnd = chunk[chunk.length - 1];
+		}
+	}
+	return count == result.length ? result : Arrays.copyOf(result, count);
+}
+}
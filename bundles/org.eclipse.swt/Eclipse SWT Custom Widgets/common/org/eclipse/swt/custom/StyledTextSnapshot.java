@@ -0,0 +1,305 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.custom;
+
+import java.util.*;
+
+import org.eclipse.swt.*;
+import org.eclipse.swt.graphics.*;
+
+/**
+ * The {@code StyledTextSnapshot} class captures what the rich format writers
+ * need to write a range of a {@link StyledText}: the text of the lines in the
+ * range, the styles set in the widget and the appearance of the widget.
+ *
+ * <p>Capturing only copies the text and the style arrays of the renderer, the
+ * formatted output is written later from the snapshot. The line style and line
+ * background listeners are queried once per line when the output is written,
+ * with the captured line text and offset. Changes of the widget or its content
+ * after the capture do not affect the snapshot. The widget colors are copied
+ * and the widget font is captured as its {@link FontData}, so disposing them
+ * does not affect the snapshot either. Style colors and fonts that are disposed
+ * before the output is written are ignored.</p>
+ */
+class StyledTextSnapshot {
+	final StyledText styledText;
+	final int start, length;
+	final String text;
+	final int textOffset;
+	final int[] lineOffsets;
+	final boolean endsWithDelimiter;
+
+	/* The styles set in the widget, null if there are none */
+	final int[] ranges;
+	final StyleRange[] styles;
+
+	/* The line attributes set in the widget, null if there are none */
+	final Color[] lineBackgrounds;
+	final int[] indents, verticalIndents, alignments;
+	final boolean[] justifies;
+
+	/* The appearance of the widget */
+	final Color foreground, background, marginColor;
+	final FontData fontData;
+	final int leftMargin, topMargin, rightMargin, bottomMargin;
+	final int indent, alignment;
+	final boolean justify, wordWrap, rightToLeft;
+
+	final Map<Font, FontData> fonts = new IdentityHashMap<>();
+
+	/**
+	 * Captures the content of the widget starting at offset "start".
+	 * {@code start} and {@code length} can be set to specify partial lines.
+	 *
+	 * @param styledText the widget to capture
+	 * @param start start offset of content to capture, 0 based from beginning of document
+	 * @param length length of content to capture
+	 */
+	StyledTextSnapshot(StyledText styledText, int start, int length) {
+		this.styledText = styledText;
+		this.start = start;
+		this.length = length;
+		StyledTextContent content = styledText.content;
+		StyledTextRenderer renderer = styledText.renderer;
+		int end = start + length;
+		int startLine = content.getLineAtOffset(start);
+		int endLine = content.getLineAtOffset(end);
+		int lineCount = endLine - startLine + 1;
+		lineOffsets = new int[lineCount];
+		for (int i = 0; i < lineCount; i++) {
+			lineOffsets[i] = content.getOffsetAtLine(startLine + i);
+		}
+		textOffset = lineOffsets[0];
+		int textEnd = lineOffsets[lineCount - 1] + content.getLine(endLine).length();
+		text = content.getTextRange(textOffset, textEnd - textOffset);
+		endsWithDelimiter = end > textEnd;
+
+		/*
+		 * The ranges are copied by the renderer and the style ranges are not
+		 * modified once set, only their start and length are.
+		 */
+		ranges = renderer.getRanges(start, length);
+		styles = ranges != null ? renderer.getStyleRanges(start, length, false) : null;
+
+		if (renderer.lines != null) {
+			lineBackgrounds = new Color[lineCount];
+			indents = new int[lineCount];
+			verticalIndents = new int[lineCount];
+			alignments = new int[lineCount];
+			justifies = new boolean[lineCount];
+			for (int i = 0; i < lineCount; i++) {
+				int lineIndex = startLine + i;
+				lineBackgrounds[i] = renderer.getLineBackground(lineIndex, null);
+				indents[i] = renderer.getLineIndent(lineIndex, styledText.indent);
+				verticalIndents[i] = renderer.getLineVerticalIndent(lineIndex);
+				alignments[i] = renderer.getLineAlignment(lineIndex, styledText.alignment);
+				justifies[i] = renderer.getLineJustify(lineIndex, styledText.justify);
+			}
+		} else {
+			lineBackgrounds = null;
+			indents = verticalIndents = alignments = null;
+			justifies = null;
+		}
+
+		foreground = copy(styledText.getForeground());
+		background = copy(styledText.getBackground());
+		marginColor = copy(styledText.getMarginColor());
+		fontData = getFontData(styledText.getFont());
+		leftMargin = styledText.getLeftMargin();
+		topMargin = styledText.getTopMargin();
+		rightMargin = styledText.getRightMargin();
+		bottomMargin = styledText.getBottomMargin();
+		indent = styledText.getIndent();
+		alignment = styledText.getAlignment();
+		justify = styledText.getJustify();
+		wordWrap = styledText.getWordWrap();
+		rightToLeft = styledText.getOrientation() == SWT.RIGHT_TO_LEFT || styledText.getTextDirection() == SWT.RIGHT_TO_LEFT;
+	}
+
+	/**
+	 * Returns the index of the captured line at the given offset.
+	 *
+	 * @param lineOffset offset of the line, 0 based from the start of the widget document
+	 * @return the index of the line in the snapshot
+	 */
+	int getLineIndex(int lineOffset) {
+		int index = Arrays.binarySearch(lineOffsets, lineOffset);
+		if (index < 0) {
+			SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+		}
+		return index;
+	}
+
+	/**
+	 * Returns the text of the captured line, without its line delimiter.
+	 *
+	 * @param index the index of the line in the snapshot
+	 * @return the line text
+	 */
+	String getLine(int index) {
+		int lineStart = lineOffsets[index] - textOffset;
+		int lineEnd = index < lineOffsets.length - 1 ? lineOffsets[index + 1] - textOffset : text.length();
+		while (lineEnd > lineStart) {
+			char ch = text.charAt(lineEnd - 1);
+			if (ch != '\r' && ch != '\n') break;
+			lineEnd--;
+		}
+		return text.substring(lineStart, lineEnd);
+	}
+
+	/**
+	 * Returns the style data of the captured line. The line style listeners
+	 * are queried, if any, otherwise the styles set in the widget are used.
+	 *
+	 * @param index the index of the line in the snapshot
+	 * @param line the line text
+	 * @return the style data of the line, never {@code null}
+	 */
+	StyledTextEvent getLineStyleData(int index, String line) {
+		int lineOffset = lineOffsets[index];
+		StyledTextEvent event = null;
+		if (!styledText.isDisposed()) {
+			event = styledText.getLineStyleData(lineOffset, line);
+		}
+		if (event == null) {
+			event = new StyledTextEvent(null);
+			if (indents != null) {
+				event.indent = indents[index];
+				event.verticalIndent = verticalIndents[index];
+				event.alignment = alignments[index];
+				event.justify = justifies[index];
+			} else {
+				event.indent = indent;
+				event.alignment = alignment;
+				event.justify = justify;
+			}
+			getLineRanges(event, lineOffset, line.length());
+		}
+		event.styles = resolve(event.styles);
+		return event;
+	}
+
+	/**
+	 * Returns the background color of the captured line. The line background
+	 * listeners are queried, if any, otherwise the background set in the
+	 * widget is used.
+	 *
+	 * @param index the index of the line in the snapshot
+	 * @param line the line text
+	 * @return the background color of the line, or {@code null} if none
+	 */
+	Color getLineBackground(int index, String line) {
+		Color lineBackground = null;
+		if (!styledText.isDisposed()) {
+			StyledTextEvent event = styledText.getLineBackgroundData(lineOffsets[index], line);
+			if (event != null) lineBackground = event.lineBackground;
+		}
+		if (lineBackground == null && lineBackgrounds != null) {
+			lineBackground = lineBackgrounds[index];
+		}
+		return isDisposed(lineBackground) ? null : lineBackground;
+	}
+
+	/**
+	 * Returns the captured font data of the given font, which is the
+	 * font of the widget or of a style.
+	 *
+	 * @param font the font
+	 * @return the font data, or {@code null} if font is {@code null} or disposed
+	 */
+	FontData getFontData(Font font) {
+		if (font == null) return null;
+		FontData data = fonts.get(font);
+		if (data == null) {
+			if (font.isDisposed()) return null;
+			data = font.getFontData()[0];
+			fonts.put(font, data);
+		}
+		return data;
+	}
+
+	/**
+	 * Writes the captured content using the platform line delimiter
+	 * to separate lines, and closes the writer.
+	 *
+	 * @param writer the writer to write the line text into
+	 * @return the content written by the writer
+	 */
+	String write(TextWriter writer) {
+		for (int i = 0; i < lineOffsets.length; i++) {
+			writer.writeLine(getLine(i), lineOffsets[i]);
+			if (i < lineOffsets.length - 1) {
+				writer.writeLineDelimiter(StyledText.PlatformLineDelimiter);
+			}
+		}
+		if (endsWithDelimiter) {
+			writer.writeLineDelimiter(StyledText.PlatformLineDelimiter);
+		}
+		writer.close();
+		return writer.toString();
+	}
+
+	/**
+	 * Sets the captured ranges and styles which intersect the line into the event.
+	 */
+	private void getLineRanges(StyledTextEvent event, int lineOffset, int lineLength) {
+		if (ranges == null || lineLength == 0) return;
+		int rangeCount = ranges.length >> 1;
+		int low = -1, high = rangeCount;
+		while (high - low > 1) {
+			int index = (high + low) >>> 1;
+			if (ranges[index << 1] + ranges[(index << 1) + 1] > lineOffset) {
+				high = index;
+			} else {
+				low = index;
+			}
+		}
+		int lineEnd = lineOffset + lineLength, last = high;
+		while (last < rangeCount && ranges[last << 1] < lineEnd) last++;
+		if (last == high) return;
+		event.ranges = Arrays.copyOfRange(ranges, high << 1, last << 1);
+		event.styles = Arrays.copyOfRange(styles, high, last);
+	}
+
+	private static boolean isDisposed(Color color) {
+		return color != null && color.isDisposed();
+	}
+
+	/**
+	 * Returns the styles, without the colors that have been disposed since
+	 * the styles were set.
+	 */
+	private static StyleRange[] resolve(StyleRange[] styles) {
+		if (styles == null) return null;
+		StyleRange[] result = styles;
+		for (int i = 0; i < styles.length; i++) {
+			StyleRange style = styles[i];
+			if (isDisposed(style.foreground) || isDisposed(style.background) || isDisposed(style.underlineColor)
+					|| isDisposed(style.strikeoutColor) || isDisposed(style.borderColor)) {
+				if (result == styles) result = styles.clone();
+				style = result[i] = (StyleRange) style.clone();
+				if (isDisposed(style.foreground)) style.foreground = null;
+				if (isDisposed(style.background)) style.background = null;
+				if (isDisposed(style.underlineColor)) style.underlineColor = null;
+				if (isDisposed(style.strikeoutColor)) style.strikeoutColor = null;
+				if (isDisposed(style.borderColor)) style.borderColor = null;
+			}
+		}
+		return result;
+	}
+
+	private static Color copy(Color color) {
+		return color != null ? new Color(color.getRGBA()) : null;
+	}
+}
@@ -25,26 +25,23 @@ import org.eclipse.swt.graphics.*;
  * {@code close()} has been called.</p>
  *
  * <p>Whole and partial lines and line breaks can be written. Lines will be
- * formatted using the styles queried from the {@link LineStyleListener},
- * if set, or those set directly in the widget. All styles are applied to
- * the stream like they are rendered by the widget. In addition, the
- * widget font name and size is used for the whole text.</p>
+ * formatted using the styles provided by the {@link StyledTextSnapshot}, which
+ * are those queried from the {@link LineStyleListener}, if set, or those set
+ * directly in the widget when it was captured. All styles are applied to the stream like they are
+ * rendered by the widget. In addition, the widget font name and size is used
+ * for the whole text.</p>
  */
 abstract class StyledTextWriterBase extends TextWriter {
-	final StyledText styledText;
+	final StyledTextSnapshot snapshot;
 
 	/**
-	 * Creates a writer that processed content starting at offset "start"
-	 * in the document. {@code start} and {@code length} can be set to specify
-	 * partial lines.
+	 * Creates a writer that processes the content captured by the snapshot.
 	 *
-	 * @param start start offset of content to write, 0 based from beginning of document
-	 * @param length length of content to write
-	 * @param styledText the widget to produce the RTF from
+	 * @param snapshot the captured content to produce the output from
 	 */
-	public StyledTextWriterBase(StyledText styledText, int start, int length) {
-		super(start, length);
-		this.styledText = styledText;
+	public StyledTextWriterBase(StyledTextSnapshot snapshot) {
+		super(snapshot.start, snapshot.length);
+		this.snapshot = snapshot;
 	}
 
 	/**
@@ -63,12 +60,11 @@ abstract class StyledTextWriterBase extends TextWriter {
 
 	/**
 	 * Appends the specified line text to the output data. Lines will be formatted
-	 * using the styles queried from the LineStyleListener, if set, or those set
-	 * directly in the widget.
+	 * using the styles provided by the snapshot.
 	 *
 	 * @param line line text to write. Must not contain line breaks
 	 *  Line breaks should be written using {@link #writeLineDelimiter(String)}
-	 * @param lineOffset offset of the line. 0 based from the start of the
+	 * @param lineOffset offset of a captured line. 0 based from the start of the
 	 *  widget document. Any text occurring before the start offset or after the
 	 *  end offset specified during object creation is ignored.
 	 *
@@ -80,41 +76,15 @@ abstract class StyledTextWriterBase extends TextWriter {
 			SWT.error(SWT.ERROR_IO);
 		}
 
-		int lineIndex = styledText.content.getLineAtOffset(lineOffset);
-		int lineAlignment;
-		int lineIndent;
-		boolean lineJustify;
-		int verticalIndent;
-		int[] ranges;
-		StyleRange[] styles;
-
-		StyledTextEvent event = styledText.getLineStyleData(lineOffset, line);
-		if (event != null) {
-			verticalIndent = event.verticalIndent;
-			lineAlignment = event.alignment;
-			lineIndent = event.indent;
-			lineJustify = event.justify;
-			ranges = event.ranges;
-			styles = event.styles;
-		} else {
-			verticalIndent = styledText.renderer.getLineVerticalIndent(lineIndex);
-			lineAlignment = styledText.renderer.getLineAlignment(lineIndex, styledText.alignment);
-			lineIndent = styledText.renderer.getLineIndent(lineIndex, styledText.indent);
-			lineJustify = styledText.renderer.getLineJustify(lineIndex, styledText.justify);
-			ranges = styledText.renderer.getRanges(lineOffset, line.length());
-			styles = styledText.renderer.getStyleRanges(lineOffset, line.length(), false);
-		}
-
+		int index = snapshot.getLineIndex(lineOffset);
+		StyledTextEvent event = snapshot.getLineStyleData(index, line);
+		StyleRange[] styles = event.styles;
 		if (styles == null) {
 			styles = new StyleRange[0];
 		}
 
-		event = styledText.getLineBackgroundData(lineOffset, line);
-		Color lineBackground = (event != null && event.lineBackground != null)
-				? event.lineBackground
-				: styledText.renderer.getLineBackground(lineIndex, null);
-
-		writeStyledLine(line, lineOffset, ranges, styles, lineBackground, lineIndent, verticalIndent, lineAlignment, lineJustify);
+		writeStyledLine(line, lineOffset, event.ranges, styles, snapshot.getLineBackground(index, line),
+				event.indent, event.verticalIndent, event.alignment, event.justify);
 	}
 
 	/**
@@ -14,7 +14,10 @@
 package org.eclipse.swt.dnd;
 
 
+import java.util.concurrent.*;
+
 import org.eclipse.swt.*;
+import org.eclipse.swt.internal.*;
 import org.eclipse.swt.internal.cocoa.*;
 import org.eclipse.swt.widgets.*;
 
@@ -308,6 +311,82 @@ public Object getContents(Transfer transfer, int clipboards) {
 	return null;
 }
 
+/**
+ * Retrieve the data of the specified type currently available on the system
+ * clipboard asynchronously.  Refer to the specific subclass of
+ * <code>Transfer</code> to determine the type of object returned.
+ * <p>
+ * The returned future is completed by the user-interface thread when the
+ * data has been received, either before this method returns or later while
+ * the event loop runs.  It is completed with <code>null</code> if no data
+ * of this type is available, and cancelled if the clipboard is disposed before.
+ * </p>
+ * <p>NOTE: On Windows and macOS, and on GTK 4 for types other than text and
+ * RTF, the data is read synchronously and the future is completed before
+ * this method returns.</p>
+ *
+ * @param transfer the transfer agent for the type of data being requested
+ * @return a future which is completed with the data obtained from the clipboard
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if transfer is null</li>
+ * </ul>
+ *
+ * @see #getContents(Transfer)
+ *
+ * @since 3.123
+ */
+public CompletableFuture<Object> getContentsAsync(Transfer transfer) {
+	return getContentsAsync(transfer, DND.CLIPBOARD);
+}
+
+/**
+ * Retrieve the data of the specified type currently available on the specified
+ * clipboard asynchronously.  Refer to the specific subclass of
+ * <code>Transfer</code> to determine the type of object returned.
+ * <p>
+ * The returned future is completed by the user-interface thread when the
+ * data has been received, either before this method returns or later while
+ * the event loop runs.  It is completed with <code>null</code> if no data
+ * of this type is available, and cancelled if the clipboard is disposed before.
+ * </p>
+ * <p>NOTE: On Windows and macOS, and on GTK 4 for types other than text and
+ * RTF, the data is read synchronously and the future is completed before
+ * this method returns.</p>
+ *
+ * <p>The clipboards value is either one of the clipboard constants defined in
+ * class <code>DND</code>, or must be built by <em>bitwise OR</em>'ing together
+ * (that is, using the <code>int</code> "|" operator) two or more
+ * of those <code>DND</code> clipboard constants.</p>
+ *
+ * @param transfer the transfer agent for the type of data being requested
+ * @param clipboards on which to look for data
+ * @return a future which is completed with the data obtained from the clipboard
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if transfer is null</li>
+ * </ul>
+ *
+ * @see #getContents(Transfer, int)
+ * @see DND#CLIPBOARD
+ * @see DND#SELECTION_CLIPBOARD
+ *
+ * @since 3.123
+ */
+public CompletableFuture<Object> getContentsAsync(Transfer transfer, int clipboards) {
+	checkWidget();
+	if (transfer == null) DND.error(SWT.ERROR_NULL_ARGUMENT);
+	return CompletableFuture.completedFuture(getContents(transfer, clipboards));
+}
+
 /**
  * Returns <code>true</code> if the clipboard has been disposed,
  * and <code>false</code> otherwise.
@@ -440,7 +519,10 @@ public void setContents(Object[] data, Transfer[] dataTypes, int clipboards) {
 	if (data == null || dataTypes == null || data.length != dataTypes.length || data.length == 0) {
 		DND.error(SWT.ERROR_INVALID_ARGUMENT);
 	}
+	/* The pasteboard is written right away, produce the deferred data */
+	data = data.clone();
 	for (int i = 0; i < data.length; i++) {
+		data[i] = DeferredClipboardData.resolve(data[i]);
 		if (data[i] == null || dataTypes[i] == null || !dataTypes[i].validate(data[i])) {
 			DND.error(SWT.ERROR_INVALID_ARGUMENT);
 		}
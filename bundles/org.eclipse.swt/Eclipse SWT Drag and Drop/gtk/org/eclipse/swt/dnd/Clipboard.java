@@ -14,6 +14,8 @@
 package org.eclipse.swt.dnd;
 
 
+import java.util.concurrent.*;
+
 import org.eclipse.swt.*;
 import org.eclipse.swt.graphics.*;
 import org.eclipse.swt.internal.*;
@@ -39,7 +41,7 @@ public class Clipboard {
 
 	static long GTKCLIPBOARD;
 	static long GTKPRIMARYCLIPBOARD;
-	private static long TARGET;
+	static long TARGET;
 
 	static {
 		GTKCLIPBOARD = GTK.GTK4 ? GDK.gdk_display_get_clipboard(GDK.gdk_display_get_default()) : GTK3.gtk_clipboard_get (GDK.GDK_NONE);
@@ -320,6 +322,96 @@ public Object getContents(Transfer transfer, int clipboards) {
 	return result;
 }
 
+/**
+ * Retrieve the data of the specified type currently available on the system
+ * clipboard asynchronously.  Refer to the specific subclass of
+ * <code>Transfer</code> to determine the type of object returned.
+ * <p>
+ * The returned future is completed by the user-interface thread when the
+ * data has been received, either before this method returns or later while
+ * the event loop runs.  It is completed with <code>null</code> if no data
+ * of this type is available, and cancelled if the clipboard is disposed before.
+ * </p>
+ * <p>NOTE: On Windows and macOS, and on GTK 4 for types other than text and
+ * RTF, the data is read synchronously and the future is completed before
+ * this method returns.</p>
+ *
+ * @param transfer the transfer agent for the type of data being requested
+ * @return a future which is completed with the data obtained from the clipboard
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if transfer is null</li>
+ * </ul>
+ *
+ * @see #getContents(Transfer)
+ *
+ * @since 3.123
+ */
+public CompletableFuture<Object> getContentsAsync(Transfer transfer) {
+	return getContentsAsync(transfer, DND.CLIPBOARD);
+}
+
+/**
+ * Retrieve the data of the specified type currently available on the specified
+ * clipboard asynchronously.  Refer to the specific subclass of
+ * <code>Transfer</code> to determine the type of object returned.
+ * <p>
+ * The returned future is completed by the user-interface thread when the
+ * data has been received, either before this method returns or later while
+ * the event loop runs.  It is completed with <code>null</code> if no data
+ * of this type is available, and cancelled if the clipboard is disposed before.
+ * </p>
+ * <p>NOTE: On Windows and macOS, and on GTK 4 for types other than text and
+ * RTF, the data is read synchronously and the future is completed before
+ * this method returns.</p>
+ *
+ * <p>The clipboards value is either one of the clipboard constants defined in
+ * class <code>DND</code>, or must be built by <em>bitwise OR</em>'ing together
+ * (that is, using the <code>int</code> "|" operator) two or more
+ * of those <code>DND</code> clipboard constants.</p>
+ *
+ * @param transfer the transfer agent for the type of data being requested
+ * @param clipboards on which to look for data
+ * @return a future which is completed with the data obtained from the clipboard
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if transfer is null</li>
+ * </ul>
+ *
+ * @see #getContents(Transfer, int)
+ * @see DND#CLIPBOARD
+ * @see DND#SELECTION_CLIPBOARD
+ *
+ * @since 3.123
+ */
+public CompletableFuture<Object> getContentsAsync(Transfer transfer, int clipboards) {
+	checkWidget();
+	if (transfer == null) DND.error(SWT.ERROR_NULL_ARGUMENT);
+	if (GTK.GTK4) {
+		String typeName = transfer.getTypeNames()[0];
+		if (!typeName.equals("text/plain") && !typeName.equals("text/rtf")) { //$NON-NLS-1$ //$NON-NLS-2$
+			return CompletableFuture.completedFuture(getContents_gtk4(transfer, clipboards));
+		}
+	}
+	long[] sources = new long[2];
+	int count = 0;
+	if ((clipboards & DND.CLIPBOARD) != 0) sources[count++] = GTKCLIPBOARD;
+	if ((clipboards & DND.SELECTION_CLIPBOARD) != 0) sources[count++] = GTKPRIMARYCLIPBOARD;
+	long[] temp = new long[count];
+	System.arraycopy(sources, 0, temp, 0, count);
+	ClipboardRequest request = new ClipboardRequest(this, ClipboardProxy._getInstance(display), transfer, temp);
+	request.next();
+	return request.future;
+}
+
 private Object getContents_gtk4(Transfer transfer, int clipboards) {
 
 	long contents = GTK4.gdk_clipboard_get_content(Clipboard.GTKCLIPBOARD);
@@ -498,7 +590,11 @@ public void setContents(Object[] data, Transfer[] dataTypes, int clipboards) {
 		DND.error(SWT.ERROR_INVALID_ARGUMENT);
 	}
 	for (int i = 0; i < data.length; i++) {
-		if (data[i] == null || dataTypes[i] == null || !dataTypes[i].validate(data[i])) {
+		if (data[i] == null || dataTypes[i] == null) {
+			DND.error(SWT.ERROR_INVALID_ARGUMENT);
+		}
+		/* Deferred data is validated when it is produced */
+		if (!(data[i] instanceof DeferredClipboardData) && !dataTypes[i].validate(data[i])) {
 			DND.error(SWT.ERROR_INVALID_ARGUMENT);
 		}
 	}
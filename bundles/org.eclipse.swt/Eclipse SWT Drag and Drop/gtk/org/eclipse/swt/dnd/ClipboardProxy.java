@@ -14,6 +14,8 @@
 package org.eclipse.swt.dnd;
 
 
+import java.util.*;
+
 import org.eclipse.swt.*;
 import org.eclipse.swt.graphics.*;
 import org.eclipse.swt.internal.*;
@@ -39,6 +41,16 @@ class ClipboardProxy {
 	Callback getFunc;
 	Callback clearFunc;
 
+	/* The pending asynchronous reads of all proxies, by the id passed to GTK */
+	static Map<Long, ClipboardRequest> requests = new HashMap<>();
+	static long lastRequestId;
+	/*
+	 * The callbacks of the asynchronous reads are never disposed. GTK may call
+	 * them after the proxy is disposed, the cancelled request is not found then
+	 * and the call does nothing.
+	 */
+	static Callback receivedFunc, readTextFunc;
+
 	static String ID = "CLIPBOARD PROXY OBJECT"; //$NON-NLS-1$
 
 static ClipboardProxy _getInstance(final Display display) {
@@ -105,6 +117,11 @@ void dispose () {
 	getFunc = null;
 	if (clearFunc != null) clearFunc.dispose();
 	clearFunc = null;
+	requests.values().removeIf(request -> {
+		if (request.proxy != this) return false;
+		request.future.cancel(false);
+		return true;
+	});
 	clipboardData = null;
 	clipboardDataTypes = null;
 	primaryClipboardData = null;
@@ -119,6 +136,47 @@ void dispose () {
 	clipboardOwner = 0;
 }
 
+/**
+ * This function receives the targets or the contents requested
+ * by an asynchronous read.
+ */
+static long receivedFunc(long clipboard, long selection_data, long user_data) {
+	ClipboardRequest request = requests.remove(user_data);
+	if (request != null) request.received(selection_data);
+	return 0;
+}
+
+/**
+ * This function receives the text requested by an asynchronous
+ * read on GTK 4.
+ */
+static long readTextFunc(long clipboard, long result, long user_data) {
+	long text = GTK4.gdk_clipboard_read_text_finish(clipboard, result, null);
+	try {
+		ClipboardRequest request = requests.remove(user_data);
+		if (request != null) request.textReceived(text);
+	} finally {
+		if (text != 0) OS.g_free(text);
+	}
+	return 0;
+}
+
+long register(ClipboardRequest request) {
+	long id = ++lastRequestId;
+	requests.put(id, request);
+	return id;
+}
+
+void request(ClipboardRequest request, long clipboard, long target) {
+	if (receivedFunc == null) receivedFunc = new Callback(ClipboardProxy.class, "receivedFunc", 3); //$NON-NLS-1$
+	GTK3.gtk_clipboard_request_contents(clipboard, target, receivedFunc.getAddress(), register(request));
+}
+
+void readText(ClipboardRequest request, long clipboard) {
+	if (readTextFunc == null) readTextFunc = new Callback(ClipboardProxy.class, "readTextFunc", 3); //$NON-NLS-1$
+	GTK4.gdk_clipboard_read_text_async(clipboard, 0, readTextFunc.getAddress(), register(request));
+}
+
 /**
  * This function provides the data to the clipboard on request.
  * When this clipboard is disposed, the data will no longer be available.
@@ -138,7 +196,14 @@ long getFunc(long clipboard, long selection_data, long info, long user_data_or_o
 	}
 	if (index == -1) return 0;
 	Object[] data = (clipboard == Clipboard.GTKCLIPBOARD) ? clipboardData : primaryClipboardData;
-	types[index].javaToNative(data[index], tdata);
+	Object value = DeferredClipboardData.resolve(data[index]);
+	if (!types[index].validate(value)) return 0;
+	if (types[index] instanceof ImageTransfer) {
+		/* The formats of an image are requested in turn, convert it once */
+		((ImageTransfer)types[index]).javaToNative(value, tdata, data);
+	} else {
+		types[index].javaToNative(value, tdata);
+	}
 	if (tdata.format < 8 || tdata.format % 8 != 0) {
 		return 0;
 	}
@@ -151,6 +216,9 @@ boolean setData(Clipboard owner, Object[] data, Transfer[] dataTypes, int clipbo
 
 	if(GTK.GTK4) return setData_gtk4(owner, data, dataTypes, clipboards);
 
+	/* The contents array may be set again with other images */
+	ImageTransfer.getInstance().releasePixbuf();
+
 	GtkTargetEntry[] entries = new  GtkTargetEntry [0];
 	long pTargetsList = 0;
 	try {
@@ -227,7 +295,7 @@ private boolean setData_gtk4(Clipboard owner, Object[] data, Transfer[] dataType
 		Transfer transfer = dataTypes[i];
 		String[] typeNames = transfer.getTypeNames();
 		//Build the GdkContentProvider for each and store in array
-		long provider = setProviderFromType(typeNames[0], data[i]);
+		long provider = setProviderFromType(typeNames[0], DeferredClipboardData.resolve(data[i]));
 		if(provider != 0) {
 			long[] tmp = new long [providers.length + 1];
 			System.arraycopy(providers, 0, tmp, 0, providers.length);
@@ -262,13 +330,10 @@ private long setProviderFromType(String string, Object data) {
 		}
 		if(string.equals("PIXBUF")) {
 			if(!(data instanceof ImageData)) DND.error(DND.ERROR_INVALID_DATA);
-			ImageData imgData = (ImageData)data;
-			Image image = new Image(Display.getCurrent(), imgData);
-			long pixbuf = ImageList.createPixbuf(image);
+			long pixbuf = ImageTransfer.createPixbuf((ImageData)data);
 			if (pixbuf != 0) {
 				provider = GTK4.gdk_content_provider_new_typed(GDK.GDK_TYPE_PIXBUF(), pixbuf);
 			}
-			image.dispose();
 		}
 	}
 	return provider;
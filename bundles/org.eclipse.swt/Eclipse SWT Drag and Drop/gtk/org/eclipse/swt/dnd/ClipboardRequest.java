@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.dnd;
+
+
+import java.util.concurrent.*;
+
+import org.eclipse.swt.internal.*;
+import org.eclipse.swt.internal.gtk.*;
+import org.eclipse.swt.internal.gtk3.*;
+
+/**
+ * An asynchronous read of the contents of the clipboards.  The targets
+ * of a clipboard are requested once, then the contents of the first type
+ * of the transfer that is available.  On GTK 4 the text of the clipboard
+ * is read instead, only text transfers are read asynchronously.  The
+ * clipboards are tried in turn until one has contents of the transfer.
+ */
+class ClipboardRequest {
+	final Clipboard owner;
+	final ClipboardProxy proxy;
+	final Transfer transfer;
+	final long[] clipboards;
+	final CompletableFuture<Object> future = new CompletableFuture<>();
+	int index;
+	long clipboard;
+	boolean targets;
+
+ClipboardRequest(Clipboard owner, ClipboardProxy proxy, Transfer transfer, long[] clipboards) {
+	this.owner = owner;
+	this.proxy = proxy;
+	this.transfer = transfer;
+	this.clipboards = clipboards;
+}
+
+/**
+ * Returns the first type of the transfer which is in the targets, or 0.
+ */
+long findType(long selection_data) {
+	if (selection_data == 0) return 0;
+	int length = GTK3.gtk_selection_data_get_length(selection_data);
+	int format = GTK3.gtk_selection_data_get_format(selection_data);
+	long data = GTK3.gtk_selection_data_get_data(selection_data);
+	if (length <= 0 || format <= 0 || data == 0) return 0;
+	int[] types = new int[length * 8 / format];
+	C.memmove(types, data, length);
+	int[] typeIds = transfer.getTypeIds();
+	for (int typeId : typeIds) {
+		for (int type : types) {
+			if (type == typeId) return typeId;
+		}
+	}
+	return 0;
+}
+
+void next() {
+	if (index == clipboards.length) {
+		future.complete(null);
+		return;
+	}
+	clipboard = clipboards[index++];
+	if (GTK.GTK4) {
+		proxy.readText(this, clipboard);
+		return;
+	}
+	targets = true;
+	proxy.request(this, clipboard, Clipboard.TARGET);
+}
+
+void received(long selection_data) {
+	if (owner.isDisposed()) {
+		future.cancel(false);
+		return;
+	}
+	try {
+		if (targets) {
+			long type = findType(selection_data);
+			if (type == 0) {
+				next();
+			} else {
+				targets = false;
+				proxy.request(this, clipboard, type);
+			}
+			return;
+		}
+		if (selection_data == 0 || GTK3.gtk_selection_data_get_length(selection_data) < 0) {
+			next();
+			return;
+		}
+		TransferData tdata = new TransferData();
+		tdata.type = GTK3.gtk_selection_data_get_data_type(selection_data);
+		tdata.pValue = GTK3.gtk_selection_data_get_data(selection_data);
+		tdata.length = GTK3.gtk_selection_data_get_length(selection_data);
+		tdata.format = GTK3.gtk_selection_data_get_format(selection_data);
+		future.complete(transfer.nativeToJava(tdata));
+	} catch (RuntimeException | Error e) {
+		future.completeExceptionally(e);
+	}
+}
+
+void textReceived(long text) {
+	if (owner.isDisposed()) {
+		future.cancel(false);
+		return;
+	}
+	try {
+		String string = null;
+		if (text != 0) {
+			long [] items_written = new long [1];
+			long utf16Ptr = OS.g_utf8_to_utf16(text, -1, null, items_written, null);
+			if (utf16Ptr != 0) {
+				int length = (int)items_written[0];
+				char[] buffer = new char[length];
+				C.memmove(buffer, utf16Ptr, length * 2);
+				OS.g_free(utf16Ptr);
+				string = new String(buffer);
+			}
+		}
+		/* Both transfers read the text, tell them apart like getContents */
+		String typeName = transfer.getTypeNames()[0];
+		if (string != null && typeName.equals("text/rtf") != string.contains("{\\rtf1")) { //$NON-NLS-1$ //$NON-NLS-2$
+			string = null;
+		}
+		if (string == null) {
+			next();
+		} else {
+			future.complete(string);
+		}
+	} catch (RuntimeException | Error e) {
+		future.completeExceptionally(e);
+	}
+}
+}
@@ -13,6 +13,11 @@
  *******************************************************************************/
 package org.eclipse.swt.dnd;
 
+import java.io.*;
+import java.nio.*;
+import java.nio.charset.*;
+import java.util.*;
+
 import org.eclipse.swt.internal.*;
 import org.eclipse.swt.internal.gtk.*;
 
@@ -43,6 +48,8 @@ public class FileTransfer extends ByteArrayTransfer {
 	private static final int URI_LIST_ID = registerType(URI_LIST);
 	private static final String GNOME_LIST = "x-special/gnome-copied-files"; //$NON-NLS-1$
 	private static final int GNOME_LIST_ID = registerType(GNOME_LIST);
+	/* Whether glib encodes file names in UTF-8, which allows to decode them in Java */
+	private static final boolean UTF8_FILE_NAMES = isUtf8FileNames();
 
 private FileTransfer() {}
 
@@ -74,12 +81,12 @@ public void javaToNative(Object object, TransferData transferData) {
 		DND.error(DND.ERROR_INVALID_DATA);
 	}
 	boolean gnomeList = transferData.type == GNOME_LIST_ID;
-	byte[] buffer, separator;
+	ByteArrayOutputStream stream = new ByteArrayOutputStream();
+	byte[] separator;
 	if (gnomeList) {
-		buffer = new byte[] {'c','o','p','y'};
+		stream.write('c'); stream.write('o'); stream.write('p'); stream.write('y');
 		separator = new byte[] {'\n'};
 	} else {
-		buffer = new byte[0];
 		separator = new byte[] {'\r', '\n'};
 	}
 	String[] files = (String[])object;
@@ -103,18 +110,10 @@ public void javaToNative(Object object, TransferData transferData) {
 		byte[] temp = new byte[length];
 		C.memmove (temp, uriPtr, length);
 		OS.g_free(uriPtr);
-		int newLength = (buffer.length > 0) ? buffer.length+separator.length+temp.length :  temp.length;
-		byte[] newBuffer = new byte[newLength];
-		int offset = 0;
-		if (buffer.length > 0) {
-			System.arraycopy(buffer, 0, newBuffer, 0, buffer.length);
-			offset +=  buffer.length;
-			System.arraycopy(separator, 0, newBuffer, offset, separator.length);
-			offset += separator.length;
-		}
-		System.arraycopy(temp, 0, newBuffer, offset, temp.length);
-		buffer = newBuffer;
+		if (stream.size() > 0) stream.write(separator, 0, separator.length);
+		stream.write(temp, 0, temp.length);
 	}
+	byte[] buffer = stream.toByteArray();
 	if (buffer.length == 0) return;
 	long ptr = OS.g_malloc(buffer.length+1);
 	C.memset(ptr, '\0', buffer.length+1);
@@ -141,65 +140,103 @@ public Object nativeToJava(TransferData transferData) {
 	int length = transferData.length;
 	byte[] temp = new byte[length];
 	C.memmove(temp, transferData.pValue, length);
+	/* The data ends at the first null character */
+	for (int i = 0; i < length; i++) {
+		if (temp[i] == 0) {
+			length = i;
+			break;
+		}
+	}
 	boolean gnomeList = transferData.type == GNOME_LIST_ID;
 	int sepLength = gnomeList ? 1 : 2;
-	long [] files = new long [0];
+	CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder();
+	List<String> fileNames = new ArrayList<>();
 	int offset = 0;
-	for (int i = 0; i < temp.length - 1; i++) {
+	for (int i = 0; i < length - 1; i++) {
 		boolean terminator = gnomeList ? temp[i] == '\n' : temp[i] == '\r' && temp[i+1] == '\n';
 		if (terminator) {
 			if (!(gnomeList && offset == 0)) {
 				/* The content of the first line in a gnome-list is always either 'copy' or 'cut' */
-				int size =  i - offset;
-				long file = OS.g_malloc(size + 1);
-				byte[] fileBuffer = new byte[size + 1];
-				System.arraycopy(temp, offset, fileBuffer, 0, size);
-				C.memmove(file, fileBuffer, size + 1);
-				long [] newFiles = new long [files.length + 1];
-				System.arraycopy(files, 0, newFiles, 0, files.length);
-				newFiles[files.length] = file;
-				files = newFiles;
+				String name = uriToFileName(temp, offset, i, decoder);
+				if (name != null) fileNames.add(name);
 			}
 			offset = i + sepLength;
 		}
 	}
-	if (offset < temp.length - sepLength) {
-		int size =  temp.length - offset;
-		long file = OS.g_malloc(size + 1);
-		byte[] fileBuffer = new byte[size + 1];
-		System.arraycopy(temp, offset, fileBuffer, 0, size);
-		C.memmove(file, fileBuffer, size + 1);
-		long [] newFiles = new long [files.length + 1];
-		System.arraycopy(files, 0, newFiles, 0, files.length);
-		newFiles[files.length] = file;
-		files = newFiles;
+	if (offset < length - sepLength) {
+		String name = uriToFileName(temp, offset, length, decoder);
+		if (name != null) fileNames.add(name);
 	}
-	String[] fileNames = new String[0];
-	for (int i = 0; i < files.length; i++) {
-		long [] error = new long [1];
-		long localePtr = OS.g_filename_from_uri(files[i], null, error);
-		OS.g_free(files[i]);
-		if (error[0] != 0 || localePtr == 0) continue;
-		long utf8Ptr = OS.g_filename_to_utf8(localePtr, -1, null, null, null);
-		if (utf8Ptr == 0) utf8Ptr = OS.g_filename_display_name (localePtr);
-		if (localePtr != utf8Ptr) OS.g_free (localePtr);
-		if (utf8Ptr == 0) continue;
-		long [] items_written = new long [1];
-		long utf16Ptr = OS.g_utf8_to_utf16(utf8Ptr, -1, null, items_written, null);
-		OS.g_free(utf8Ptr);
-		if (utf16Ptr == 0) continue;
-		length = (int)items_written[0];
-		char[] buffer = new char[length];
-		C.memmove(buffer, utf16Ptr, length * 2);
-		OS.g_free(utf16Ptr);
-		String name = new String(buffer);
-		String[] newFileNames = new String[fileNames.length + 1];
-		System.arraycopy(fileNames, 0, newFileNames, 0, fileNames.length);
-		newFileNames[fileNames.length] = name;
-		fileNames = newFileNames;
+	if (fileNames.isEmpty()) return null;
+	return fileNames.toArray(new String[fileNames.size()]);
+}
+
+/*
+ * Converts the file URI between start and end to a file name, or returns null
+ * if it is not a valid file URI.  The common URIs of local files with UTF-8
+ * names are decoded in Java, the others with the conversions of glib.
+ */
+String uriToFileName(byte[] uri, int start, int end, CharsetDecoder decoder) {
+	if (UTF8_FILE_NAMES && end - start > 5 && (uri[start] | 0x20) == 'f' && (uri[start + 1] | 0x20) == 'i'
+			&& (uri[start + 2] | 0x20) == 'l' && (uri[start + 3] | 0x20) == 'e' && uri[start + 4] == ':' && uri[start + 5] == '/') {
+		int index = start + 5;
+		/* The authority must be empty, URIs with a host name are left to glib */
+		if (end - index > 1 && uri[index + 1] == '/') {
+			index = end - index > 2 && uri[index + 2] == '/' ? index + 2 : -1;
+		}
+		if (index != -1) {
+			byte[] path = new byte[end - index];
+			int count = 0;
+			for (int i = index; i < end && path != null; i++) {
+				byte b = uri[i];
+				if (b == '#') {
+					path = null;
+				} else if (b == '%') {
+					int high = i + 2 < end ? Character.digit(uri[i + 1], 16) : -1;
+					int low = high != -1 ? Character.digit(uri[i + 2], 16) : -1;
+					int c = low != -1 ? high << 4 | low : 0;
+					/* Escaped null and separator characters are invalid */
+					if (c == 0 || c == '/') {
+						path = null;
+					} else {
+						path[count++] = (byte) c;
+						i += 2;
+					}
+				} else {
+					path[count++] = b;
+				}
+			}
+			if (path != null) {
+				try {
+					return decoder.decode(ByteBuffer.wrap(path, 0, count)).toString();
+				} catch (CharacterCodingException e) {
+					/* Not UTF-8, let glib find a name for display */
+				}
+			}
+		}
 	}
-	if (fileNames.length == 0) return null;
-	return fileNames;
+	int size = end - start;
+	long file = OS.g_malloc(size + 1);
+	byte[] fileBuffer = new byte[size + 1];
+	System.arraycopy(uri, start, fileBuffer, 0, size);
+	C.memmove(file, fileBuffer, size + 1);
+	long [] error = new long [1];
+	long localePtr = OS.g_filename_from_uri(file, null, error);
+	OS.g_free(file);
+	if (error[0] != 0 || localePtr == 0) return null;
+	long utf8Ptr = OS.g_filename_to_utf8(localePtr, -1, null, null, null);
+	if (utf8Ptr == 0) utf8Ptr = OS.g_filename_display_name (localePtr);
+	if (localePtr != utf8Ptr) OS.g_free (localePtr);
+	if (utf8Ptr == 0) return null;
+	long [] items_written = new long [1];
+	long utf16Ptr = OS.g_utf8_to_utf16(utf8Ptr, -1, null, items_written, null);
+	OS.g_free(utf8Ptr);
+	if (utf16Ptr == 0) return null;
+	int length = (int)items_written[0];
+	char[] buffer = new char[length];
+	C.memmove(buffer, utf16Ptr, length * 2);
+	OS.g_free(utf16Ptr);
+	return new String(buffer);
 }
 
 @Override
@@ -221,6 +258,21 @@ boolean checkFile(Object object) {
 	return true;
 }
 
+/*
+ * Returns whether glib encodes the file names in UTF-8, as it does
+ * unless the environment selects another encoding.
+ */
+static boolean isUtf8FileNames() {
+	String encoding = System.getenv("G_FILENAME_ENCODING"); //$NON-NLS-1$
+	if (encoding != null) {
+		int index = encoding.indexOf(',');
+		if (index != -1) encoding = encoding.substring(0, index);
+		encoding = encoding.trim();
+		return encoding.equalsIgnoreCase("UTF-8") || encoding.equalsIgnoreCase("UTF8"); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+	return System.getenv("G_BROKEN_FILENAMES") == null; //$NON-NLS-1$
+}
+
 @Override
 protected boolean validate(Object object) {
 	return checkFile(object);
@@ -62,8 +62,82 @@ public class ImageTransfer extends ByteArrayTransfer {
 	private static final String XV = "image/xv"; //$NON-NLS-1$
 	private static final int XV_ID = GTK.GTK4 ? 0:registerType(XV);
 
+	/*
+	 * The pixbuf of the image converted last for the clipboard.  Targets often
+	 * request several formats of the same image in turn, the pixbuf is kept
+	 * until no format has been requested for RELEASE_DELAY milliseconds.  It
+	 * belongs to a single set operation of the clipboard, identified by the
+	 * contents passed to Clipboard.setContents(), and is released when the
+	 * clipboard contents are set again.
+	 */
+	private static final int RELEASE_DELAY = 2000;
+	private Object pixbufContents;
+	private ImageData pixbufData;
+	private long pixbuf;
+	private final Runnable releasePixbuf = this::releasePixbuf;
+
 private ImageTransfer() {}
 
+/**
+ * Creates a pixbuf with the pixels of the image data, with an alpha channel
+ * if the data has transparency.  The pixels are converted directly, which
+ * avoids creating an image and converting its premultiplied surface.
+ */
+static long createPixbuf(ImageData data) {
+	int width = data.width, height = data.height;
+	boolean hasMask = data.maskData != null || data.transparentPixel != -1;
+	boolean hasAlpha = hasMask || data.alpha != -1 || data.alphaData != null;
+	long pixbuf = GDK.gdk_pixbuf_new(GDK.GDK_COLORSPACE_RGB, hasAlpha, 8, width, height);
+	if (pixbuf == 0) SWT.error(SWT.ERROR_NO_HANDLES);
+	int stride = GDK.gdk_pixbuf_get_rowstride(pixbuf);
+	long pixels = GDK.gdk_pixbuf_get_pixels(pixbuf);
+	int channels = hasAlpha ? 4 : 3;
+	PaletteData palette = data.palette;
+	int[] colors = null;
+	if (!palette.isDirect) {
+		colors = new int[palette.colors.length];
+		for (int i = 0; i < colors.length; i++) {
+			RGB rgb = palette.colors[i];
+			colors[i] = rgb.red << 16 | rgb.green << 8 | rgb.blue;
+		}
+	}
+	ImageData mask = hasMask ? data.getTransparencyMask() : null;
+	int[] row = new int[width];
+	int[] maskRow = mask != null ? new int[width] : null;
+	byte[] alphas = mask == null && data.alpha == -1 && data.alphaData != null ? new byte[width] : null;
+	byte[] line = new byte[width * channels];
+	for (int y = 0; y < height; y++) {
+		data.getPixels(0, y, width, row, 0);
+		if (maskRow != null) mask.getPixels(0, y, width, maskRow, 0);
+		if (alphas != null) data.getAlphas(0, y, width, alphas, 0);
+		for (int x = 0, offset = 0; x < width; x++, offset += channels) {
+			int pixel = row[x];
+			if (colors != null) {
+				int rgb = pixel < colors.length ? colors[pixel] : 0;
+				line[offset] = (byte)(rgb >> 16);
+				line[offset + 1] = (byte)(rgb >> 8);
+				line[offset + 2] = (byte)rgb;
+			} else {
+				int r = pixel & palette.redMask, g = pixel & palette.greenMask, b = pixel & palette.blueMask;
+				line[offset] = (byte)(palette.redShift < 0 ? r >>> -palette.redShift : r << palette.redShift);
+				line[offset + 1] = (byte)(palette.greenShift < 0 ? g >>> -palette.greenShift : g << palette.greenShift);
+				line[offset + 2] = (byte)(palette.blueShift < 0 ? b >>> -palette.blueShift : b << palette.blueShift);
+			}
+			if (hasAlpha) {
+				if (maskRow != null) {
+					line[offset + 3] = maskRow[x] == 0 ? 0 : (byte)0xFF;
+				} else if (alphas != null) {
+					line[offset + 3] = alphas[x];
+				} else {
+					line[offset + 3] = (byte)data.alpha;
+				}
+			}
+		}
+		C.memmove(pixels + (long)y * stride, line, line.length);
+	}
+	return pixbuf;
+}
+
 /**
  * Returns the singleton instance of the ImageTransfer class.
  *
@@ -85,13 +159,32 @@ public static ImageTransfer getInstance () {
  */
 @Override
 public void javaToNative(Object object, TransferData transferData) {
+	javaToNative(object, transferData, null);
+}
+
+/**
+ * Converts the image data, reusing the pixbuf converted for a previous
+ * request of the same clipboard contents.
+ *
+ * @param contents the contents set on the clipboard, or <code>null</code>
+ * 		if the image data is not converted for the clipboard
+ */
+void javaToNative(Object object, TransferData transferData, Object contents) {
 	if (!checkImage(object) || !isSupportedType(transferData)) {
 		DND.error(DND.ERROR_INVALID_DATA);
 	}
 	ImageData imgData = (ImageData)object;
 	if (imgData == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
-	Image image = new Image(Display.getCurrent(), imgData);
-	long pixbuf = ImageList.createPixbuf(image);
+	Display display = contents != null ? Display.getCurrent() : null;
+	if (display == null || contents != pixbufContents || imgData != pixbufData) {
+		releasePixbuf();
+		pixbuf = createPixbuf(imgData);
+		if (display != null) {
+			pixbufContents = contents;
+			pixbufData = imgData;
+		}
+	}
+	if (display != null) display.timerExec(RELEASE_DELAY, releasePixbuf);
 	if (pixbuf != 0) {
 		String typeStr = "";
 		if (transferData.type ==  JPEG_ID) typeStr = "jpeg";
@@ -110,7 +203,6 @@ public void javaToNative(Object object, TransferData transferData) {
 		long [] len = new long [1];
 		if (type == null) return;
 		GDK.gdk_pixbuf_save_to_bufferv(pixbuf, buffer, len, type, null, null, null);
-		OS.g_object_unref(pixbuf);
 		transferData.pValue = buffer[0];
 		transferData.length = (int)(len[0] + 3) / 4 * 4;
 		transferData.result = 1;
@@ -120,7 +212,7 @@ public void javaToNative(Object object, TransferData transferData) {
 		// needs to be byte-swapped or not. Usually it will be 8 - i.e. a character - or 32 - i.e. a. integer."
 		transferData.format = 8;
 	}
-	image.dispose();
+	if (display == null) releasePixbuf();
 }
 
 /**
@@ -154,6 +246,13 @@ public Object nativeToJava(TransferData transferData) {
 	return imgData;
 }
 
+void releasePixbuf() {
+	if (pixbuf != 0) OS.g_object_unref(pixbuf);
+	pixbuf = 0;
+	pixbufContents = null;
+	pixbufData = null;
+}
+
 @Override
 protected int[] getTypeIds(){
 	if(GTK.GTK4) {
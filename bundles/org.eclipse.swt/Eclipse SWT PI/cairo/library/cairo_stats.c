@@ -133,6 +133,7 @@ char * Cairo_nativeFunctionNames[] = {
 	"cairo_1surface_1flush",
 	"cairo_1surface_1get_1content",
 	"cairo_1surface_1get_1device_1scale",
+	"cairo_1surface_1get_1reference_1count",
 	"cairo_1surface_1get_1type",
 	"cairo_1surface_1mark_1dirty",
 	"cairo_1surface_1reference",
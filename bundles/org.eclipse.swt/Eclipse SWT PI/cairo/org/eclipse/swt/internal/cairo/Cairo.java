@@ -301,6 +301,8 @@ public static final native void cairo_surface_destroy(long surface);
 public static final native void cairo_surface_flush(long surface);
 /** @param surface cast=(cairo_surface_t *) */
 public static final native void cairo_surface_finish(long surface);
+/** @param surface cast=(cairo_surface_t *) */
+public static final native int cairo_surface_get_reference_count(long surface);
 /**
  * @param surface cast=(cairo_surface_t *)
  */
@@ -52,6 +52,7 @@ char * GTK3_nativeFunctionNames[] = {
 	"gtk_1check_1menu_1item_1set_1active",
 	"gtk_1clipboard_1clear",
 	"gtk_1clipboard_1get",
+	"gtk_1clipboard_1request_1contents",
 	"gtk_1clipboard_1set_1can_1store",
 	"gtk_1clipboard_1set_1with_1owner",
 	"gtk_1clipboard_1store",
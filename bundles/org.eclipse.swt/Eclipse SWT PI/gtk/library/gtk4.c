@@ -53,6 +53,32 @@ JNIEXPORT jlong JNICALL GTK4_NATIVE(gdk_1clipboard_1get_1formats)
 }
 #endif
 
+#ifndef NO_gdk_1clipboard_1read_1text_1async
+JNIEXPORT void JNICALL GTK4_NATIVE(gdk_1clipboard_1read_1text_1async)
+	(JNIEnv *env, jclass that, jlong arg0, jlong arg1, jlong arg2, jlong arg3)
+{
+	GTK4_NATIVE_ENTER(env, that, gdk_1clipboard_1read_1text_1async_FUNC);
+	gdk_clipboard_read_text_async((GdkClipboard*)arg0, (GCancellable *)arg1, (GAsyncReadyCallback)arg2, (gpointer)arg3);
+	GTK4_NATIVE_EXIT(env, that, gdk_1clipboard_1read_1text_1async_FUNC);
+}
+#endif
+
+#ifndef NO_gdk_1clipboard_1read_1text_1finish
+JNIEXPORT jlong JNICALL GTK4_NATIVE(gdk_1clipboard_1read_1text_1finish)
+	(JNIEnv *env, jclass that, jlong arg0, jlong arg1, jlongArray arg2)
+{
+	jlong *lparg2=NULL;
+	jlong rc = 0;
+	GTK4_NATIVE_ENTER(env, that, gdk_1clipboard_1read_1text_1finish_FUNC);
+	if (arg2) if ((lparg2 = (*env)->GetLongArrayElements(env, arg2, NULL)) == NULL) goto fail;
+	rc = (jlong)gdk_clipboard_read_text_finish((GdkClipboard*)arg0, (GAsyncResult *)arg1, (GError **)lparg2);
+fail:
+	if (arg2 && lparg2) (*env)->ReleaseLongArrayElements(env, arg2, lparg2, 0);
+	GTK4_NATIVE_EXIT(env, that, gdk_1clipboard_1read_1text_1finish_FUNC);
+	return rc;
+}
+#endif
+
 #ifndef NO_gdk_1clipboard_1set
 JNIEXPORT void JNICALL GTK4_NATIVE(gdk_1clipboard_1set)
 	(JNIEnv *env, jclass that, jlong arg0, jlong arg1, jlong arg2)
@@ -23,6 +23,8 @@
 char * GTK4_nativeFunctionNames[] = {
 	"gdk_1clipboard_1get_1content",
 	"gdk_1clipboard_1get_1formats",
+	"gdk_1clipboard_1read_1text_1async",
+	"gdk_1clipboard_1read_1text_1finish",
 	"gdk_1clipboard_1set",
 	"gdk_1clipboard_1set_1content",
 	"gdk_1clipboard_1set_1text",
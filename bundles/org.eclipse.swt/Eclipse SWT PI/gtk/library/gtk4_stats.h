@@ -33,6 +33,8 @@ extern char* GTK4_nativeFunctionNames[];
 typedef enum {
 	gdk_1clipboard_1get_1content_FUNC,
 	gdk_1clipboard_1get_1formats_FUNC,
+	gdk_1clipboard_1read_1text_1async_FUNC,
+	gdk_1clipboard_1read_1text_1finish_FUNC,
 	gdk_1clipboard_1set_FUNC,
 	gdk_1clipboard_1set_1content_FUNC,
 	gdk_1clipboard_1set_1text_FUNC,
@@ -546,6 +546,13 @@ public class GTK3 {
 	public static final native void gtk_clipboard_clear(long clipboard);
 	/** @param selection cast=(GdkAtom) */
 	public static final native long gtk_clipboard_get(long selection);
+	/**
+	 * @param clipboard cast=(GtkClipboard *)
+	 * @param target cast=(GdkAtom)
+	 * @param callback cast=(GtkClipboardReceivedFunc)
+	 * @param user_data cast=(gpointer)
+	 */
+	public static final native void gtk_clipboard_request_contents(long clipboard, long target, long callback, long user_data);
 	/**
 	 * @param clipboard cast=(GtkClipboard *)
 	 * @param target cast=(const GtkTargetEntry *)
@@ -583,6 +583,19 @@ public class GTK4 {
 	 * @param clipboard cast=(GdkClipboard*)
 	 */
 	public static final native long gdk_clipboard_get_content(long clipboard);
+	/**
+	 * @param clipboard cast=(GdkClipboard*)
+	 * @param cancellable cast=(GCancellable *)
+	 * @param callback cast=(GAsyncReadyCallback)
+	 * @param user_data cast=(gpointer)
+	 */
+	public static final native void gdk_clipboard_read_text_async(long clipboard, long cancellable, long callback, long user_data);
+	/**
+	 * @param clipboard cast=(GdkClipboard*)
+	 * @param result cast=(GAsyncResult *)
+	 * @param error cast=(GError **)
+	 */
+	public static final native long gdk_clipboard_read_text_finish(long clipboard, long result, long[] error);
 	/**
 	 * @param provider cast=(GdkContentProvider *)
 	 * @param value cast=(GValue *)
@@ -48,6 +48,20 @@ public final class Program {
 	static long modTime;
 	static Map<String, List<String>> mimeTable;
 
+	/*
+	 * The programs found by extension and by mime type, and the icons, which
+	 * file explorers look up for every row.  The caches are cleared when the
+	 * files of the desktop database change, which is checked at most once
+	 * per CHECK_INTERVAL.
+	 */
+	static final long CHECK_INTERVAL = 1000_000_000L;
+	static final int ICON_SIZE = 16;
+	static final Map<String, Program> extensionPrograms = new HashMap<>();
+	static final Map<String, Program> mimeTypePrograms = new HashMap<>();
+	static final Map<String, ImageData> icons = new HashMap<>();
+	static Program[] allPrograms;
+	static long lastCheck, databaseStamp;
+
 	static final String PREFIX_HTTP = "http://"; //$NON-NLS-1$
 	static final String PREFIX_HTTPS = "https://"; //$NON-NLS-1$
 
@@ -115,9 +129,59 @@ public static Program findProgram(String extension) {
 	if (extension == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
 	if (extension.length() == 0) return null;
 	if (extension.charAt(0) != '.') extension = "." + extension;
+	synchronized (Program.class) {
+		checkDatabase();
+		if (extensionPrograms.containsKey(extension)) return extensionPrograms.get(extension);
+	}
 	String mimeType = gio_getMimeType(extension);
-	if (mimeType == null) return null;
-	return gio_getProgram(mimeType);
+	Program program = null;
+	if (mimeType != null) {
+		synchronized (Program.class) {
+			if (mimeTypePrograms.containsKey(mimeType)) {
+				program = mimeTypePrograms.get(mimeType);
+			} else {
+				program = gio_getProgram(mimeType);
+				mimeTypePrograms.put(mimeType, program);
+			}
+		}
+	}
+	synchronized (Program.class) {
+		extensionPrograms.put(extension, program);
+	}
+	return program;
+}
+
+/*
+ * Clears the caches when the desktop database, the mime associations
+ * or the file extensions have changed since they were filled.
+ */
+static synchronized void checkDatabase() {
+	long now = System.nanoTime();
+	if (lastCheck != 0 && now - lastCheck < CHECK_INTERVAL) return;
+	lastCheck = now;
+	long stamp = 17;
+	String home = System.getProperty("user.home"); //$NON-NLS-1$
+	List<String> dataDirs = new ArrayList<>();
+	String dataHome = System.getenv("XDG_DATA_HOME"); //$NON-NLS-1$
+	dataDirs.add(dataHome != null && !dataHome.isEmpty() ? dataHome : home + "/.local/share"); //$NON-NLS-1$
+	String dirs = System.getenv("XDG_DATA_DIRS"); //$NON-NLS-1$
+	dataDirs.addAll(Arrays.asList((dirs != null && !dirs.isEmpty() ? dirs : "/usr/local/share:/usr/share").split(":"))); //$NON-NLS-1$ //$NON-NLS-2$
+	for (String dir : dataDirs) {
+		/* The directory changes when desktop files are added or removed */
+		stamp = stamp * 31 + new File(dir, "applications").lastModified(); //$NON-NLS-1$
+		stamp = stamp * 31 + new File(dir, "applications/mimeinfo.cache").lastModified(); //$NON-NLS-1$
+		stamp = stamp * 31 + new File(dir, "applications/mimeapps.list").lastModified(); //$NON-NLS-1$
+		stamp = stamp * 31 + new File(dir, "mime/globs").lastModified(); //$NON-NLS-1$
+	}
+	String configHome = System.getenv("XDG_CONFIG_HOME"); //$NON-NLS-1$
+	stamp = stamp * 31 + new File(configHome != null && !configHome.isEmpty() ? configHome : home + "/.config", "mimeapps.list").lastModified(); //$NON-NLS-1$ //$NON-NLS-2$
+	if (stamp != databaseStamp) {
+		databaseStamp = stamp;
+		extensionPrograms.clear();
+		mimeTypePrograms.clear();
+		icons.clear();
+		allPrograms = null;
+	}
 }
 
 /**
@@ -129,6 +193,22 @@ public static Program findProgram(String extension) {
  */
 public ImageData getImageData() {
 	if (iconPath == null) return null;
+	ImageData data;
+	synchronized (Program.class) {
+		checkDatabase();
+		if (icons.containsKey(iconPath)) {
+			data = icons.get(iconPath);
+			return data != null ? (ImageData) data.clone() : null;
+		}
+	}
+	data = loadImageData();
+	synchronized (Program.class) {
+		icons.put(iconPath, data);
+	}
+	return data != null ? (ImageData) data.clone() : null;
+}
+
+ImageData loadImageData() {
 	ImageData data = null;
 
 	long gicon = OS.g_icon_new_for_string(Converter.javaStringToCString(iconPath), null);
@@ -142,7 +222,7 @@ public ImageData getImageData() {
 			 * return a error icon if gicon can't be found.
 			 */
 			long icon_theme = GTK4.gtk_icon_theme_get_for_display(GDK.gdk_display_get_default()); // default display needs to exist
-			long paintable = GTK4.gtk_icon_theme_lookup_by_gicon(icon_theme, gicon, 16, 1, GTK.GTK_TEXT_DIR_NONE, GTK.GTK_ICON_LOOKUP_FORCE_REGULAR);
+			long paintable = GTK4.gtk_icon_theme_lookup_by_gicon(icon_theme, gicon, ICON_SIZE, 1, GTK.GTK_TEXT_DIR_NONE, GTK.GTK_ICON_LOOKUP_FORCE_REGULAR);
 			long file = GTK4.gtk_icon_paintable_get_file(paintable);
 			long texture = GDK.gdk_texture_new_from_file(file, 0);
 			pixbuf = GDK.gdk_pixbuf_get_from_texture(texture);
@@ -152,7 +232,7 @@ public ImageData getImageData() {
 			OS.g_object_unref(paintable);
 		} else {
 			long icon_theme = GTK3.gtk_icon_theme_get_default();
-			long gicon_info = GTK3.gtk_icon_theme_lookup_by_gicon(icon_theme, gicon, 16/*size*/, 0);
+			long gicon_info = GTK3.gtk_icon_theme_lookup_by_gicon(icon_theme, gicon, ICON_SIZE, 0);
 			if (gicon_info != 0) {
 				pixbuf = GTK3.gtk_icon_info_load_icon(gicon_info, null);
 				OS.g_object_unref(gicon_info);
@@ -265,6 +345,7 @@ static Program gio_getProgram(String mimeType) {
 	long application = OS.g_app_info_get_default_for_type (mimeTypeBuffer, false);
 	if (application != 0) {
 		program = gio_getProgram(application);
+		OS.g_object_unref(application);
 	}
 	return program;
 }
@@ -316,6 +397,18 @@ static Program gio_getProgram (long application) {
  * @return an array of programs
  */
 public static Program[] getPrograms() {
+	synchronized (Program.class) {
+		checkDatabase();
+		if (allPrograms != null) return allPrograms.clone();
+	}
+	Program[] programs = gio_getPrograms();
+	synchronized (Program.class) {
+		allPrograms = programs;
+	}
+	return programs.clone();
+}
+
+static Program[] gio_getPrograms() {
 	long applicationList = OS.g_app_info_get_all ();
 	long list = applicationList;
 	Program program;
@@ -1268,6 +1268,30 @@ public void drawLine(int x1, int y1, int x2, int y2) {
 	}
 }
 
+/**
+ * Draws the operations recorded in the specified list, using the
+ * receiver's foreground color for outlines and the receiver's
+ * background color for interiors.
+ *
+ * @param list the list to draw
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the list is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_GRAPHIC_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see DrawList
+ *
+ * @since 3.123
+ */
+public void drawList(DrawList list) {
+	if (handle == 0) SWT.error(SWT.ERROR_GRAPHIC_DISPOSED);
+	if (list == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	list.replay(this);
+}
+
 /**
  * Draws the outline of an oval, using the foreground color,
  * within the specified rectangular area.
@@ -1454,6 +1478,36 @@ public void drawPolygon(int[] pointArray) {
 	}
 }
 
+/**
+ * Draws the closed polygon which is defined by the specified array
+ * of float coordinates, using the receiver's foreground color. Lines
+ * are drawn between each consecutive point, and between the first point
+ * and last point.
+ * The points are <code>count</code> pairs of alternating x and y values
+ * in the array, starting at <code>offset</code>. The coordinates are
+ * rounded on this platform.
+ *
+ * @param pointArray an array of alternating x and y values which are the vertices of the polygon
+ * @param offset the index of the x value of the first point
+ * @param count the number of points
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the point array is null</li>
+ *    <li>ERROR_INVALID_RANGE - if offset or count is negative, or if the points are not within the array</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_GRAPHIC_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see #drawPolygon(int[])
+ *
+ * @since 3.123
+ */
+public void drawPolygon(float[] pointArray, int offset, int count) {
+	if (handle == 0) SWT.error(SWT.ERROR_GRAPHIC_DISPOSED);
+	drawPolygon(toPointArray(pointArray, offset, count));
+}
+
 /**
  * Draws the polyline which is defined by the specified array
  * of integer coordinates, using the receiver's foreground color. The array
@@ -1502,6 +1556,46 @@ public void drawPolyline(int[] pointArray) {
 	}
 }
 
+/**
+ * Draws the polyline which is defined by the specified array of float
+ * coordinates, using the receiver's foreground color. Lines are drawn
+ * between each consecutive point, but not between the first point and
+ * last point.
+ * The points are <code>count</code> pairs of alternating x and y values
+ * in the array, starting at <code>offset</code>. The coordinates are
+ * rounded on this platform.
+ *
+ * @param pointArray an array of alternating x and y values which are the corners of the polyline
+ * @param offset the index of the x value of the first point
+ * @param count the number of points
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the point array is null</li>
+ *    <li>ERROR_INVALID_RANGE - if offset or count is negative, or if the points are not within the array</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_GRAPHIC_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see #drawPolyline(int[])
+ *
+ * @since 3.123
+ */
+public void drawPolyline(float[] pointArray, int offset, int count) {
+	if (handle == 0) SWT.error(SWT.ERROR_GRAPHIC_DISPOSED);
+	drawPolyline(toPointArray(pointArray, offset, count));
+}
+
+static int[] toPointArray(float[] pointArray, int offset, int count) {
+	if (pointArray == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	if (offset < 0 || count < 0 || offset + count * 2L > pointArray.length) SWT.error(SWT.ERROR_INVALID_RANGE);
+	int[] result = new int[count * 2];
+	for (int i = 0; i < result.length; i++) {
+		result[i] = Math.round(pointArray[offset + i]);
+	}
+	return result;
+}
+
 /**
  * Draws the outline of the rectangle specified by the arguments,
  * using the receiver's foreground color. The left and right edges
@@ -2223,6 +2317,35 @@ public void fillPolygon(int[] pointArray) {
 	}
 }
 
+/**
+ * Fills the interior of the closed polygon which is defined by the
+ * specified array of float coordinates, using the receiver's background
+ * color.
+ * The points are <code>count</code> pairs of alternating x and y values
+ * in the array, starting at <code>offset</code>. The coordinates are
+ * rounded on this platform.
+ *
+ * @param pointArray an array of alternating x and y values which are the vertices of the polygon
+ * @param offset the index of the x value of the first point
+ * @param count the number of points
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the point array is null</li>
+ *    <li>ERROR_INVALID_RANGE - if offset or count is negative, or if the points are not within the array</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_GRAPHIC_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see #fillPolygon(int[])
+ *
+ * @since 3.123
+ */
+public void fillPolygon(float[] pointArray, int offset, int count) {
+	if (handle == 0) SWT.error(SWT.ERROR_GRAPHIC_DISPOSED);
+	fillPolygon(toPointArray(pointArray, offset, count));
+}
+
 /**
  * Fills the interior of the rectangle specified by the arguments,
  * using the receiver's background color.
@@ -15,11 +15,13 @@ package org.eclipse.swt.graphics;
 
 
 import java.io.*;
+import java.util.concurrent.*;
 
 import org.eclipse.swt.*;
 import org.eclipse.swt.internal.*;
 import org.eclipse.swt.internal.cocoa.*;
 import org.eclipse.swt.internal.graphics.*;
+import org.eclipse.swt.widgets.*;
 
 /**
  * Instances of this class are graphics which have been prepared
@@ -843,6 +845,108 @@ public Image(Device device, ImageDataProvider imageDataProvider) {
 	}
 }
 
+/**
+ * Loads an image from the file retrieved from the ImageFileNameProvider,
+ * like {@link #Image(Device, ImageFileNameProvider)}, without blocking
+ * the user-interface thread. The file is decoded and scaled for the current
+ * zoom by the given executor, and the image is then created in one step on
+ * the user-interface thread of the display. Applications loading many images
+ * can use an executor with several threads to decode them in parallel.
+ * <p>
+ * The ImageFileNameProvider is called by the threads of the executor.
+ * The returned future is completed on the user-interface thread, either
+ * with the image or with the exception the constructor would have thrown.
+ * It is completed with an <code>SWTException</code> if the display is
+ * disposed before the image is created. You must dispose the image when
+ * it is no longer required. The image is not created, or disposed
+ * immediately, when the future was cancelled.
+ * </p>
+ *
+ * @param device the device on which to create the image
+ * @param imageFileNameProvider the ImageFileNameProvider object that is
+ * to be used to get the file name
+ * @param executor the executor decoding the file
+ * @return a future completed with the image
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if device is null and there is no current device</li>
+ *    <li>ERROR_NULL_ARGUMENT - if the ImageFileNameProvider or the executor is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_DEVICE_DISPOSED - if the device has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the user-interface thread of the display</li>
+ * </ul>
+ * @since 3.123
+ */
+public static CompletableFuture<Image> loadAsync(Device device, ImageFileNameProvider imageFileNameProvider, Executor executor) {
+	if (device == null) device = Display.getCurrent();
+	if (device == null || imageFileNameProvider == null || executor == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	if (device.isDisposed()) SWT.error(SWT.ERROR_DEVICE_DISPOSED);
+	Display display = Display.getCurrent();
+	if (display == null || (device instanceof Display && device != display)) SWT.error(SWT.ERROR_THREAD_INVALID_ACCESS);
+	Device target = device;
+	CompletableFuture<Image> future = new CompletableFuture<>();
+	completeOnDispose(display, future);
+	executor.execute(() -> {
+		if (future.isDone()) return;
+		/*
+		* NSImage loads the files on any thread, so the whole image is
+		* created by the executor and only the future is completed on the
+		* user-interface thread.
+		*/
+		Image image = null;
+		Throwable error = null;
+		try {
+			image = new Image(target, imageFileNameProvider);
+		} catch (RuntimeException | SWTError e) {
+			error = e;
+		}
+		Image loaded = image;
+		Throwable loadError = error;
+		if (future.isDone()) {
+			if (loaded != null) loaded.dispose();
+			return;
+		}
+		try {
+			display.asyncExec(() -> {
+				if (loadError != null) {
+					future.completeExceptionally(loadError);
+				} else if (!future.complete(loaded)) {
+					loaded.dispose();
+				}
+			});
+		} catch (SWTException e) {
+			if (loaded != null) loaded.dispose();
+			future.completeExceptionally(e);
+		}
+	});
+	return future;
+}
+
+/**
+ * Completes the future of {@link #loadAsync(Device, ImageFileNameProvider, Executor)}
+ * when the display is disposed first, the runnables posted to create the image
+ * do not run anymore then.
+ */
+static void completeOnDispose(Display display, CompletableFuture<Image> future) {
+	Listener listener = event -> future.completeExceptionally(new SWTException(SWT.ERROR_DEVICE_DISPOSED));
+	display.addListener(SWT.Dispose, listener);
+	future.whenComplete((image, error) -> {
+		Runnable remove = () -> {
+			if (!display.isDisposed()) display.removeListener(SWT.Dispose, listener);
+		};
+		if (display.getThread() == Thread.currentThread()) {
+			remove.run();
+		} else {
+			try {
+				display.asyncExec(remove);
+			} catch (SWTException e) {
+				/* The display is disposed already */
+			}
+		}
+	});
+}
+
 private AlphaInfo _getAlphaInfoAtCurrentZoom (NSBitmapImageRep rep) {
 	int deviceZoom = DPIUtil.getDeviceZoom();
 	if (deviceZoom != 100 && (imageFileNameProvider != null || imageDataProvider != null)) {
@@ -60,9 +60,9 @@ import org.eclipse.swt.widgets.Display.*;
  * @noextend This class is not intended to be subclassed by clients.
  */
 public class Text extends Scrollable {
-	int textLimit = LIMIT, tabs = 8;
+	int textLimit = LIMIT, tabs = 8, maxLines;
 	char echoCharacter;
-	boolean doubleClick, receivingFocus;
+	boolean doubleClick, receivingFocus, scrollPending;
 	char [] hiddenText;
 	String message;
 	NSRange selectionRange;
@@ -339,8 +339,27 @@ public void append (String string) {
 		NSRange range = new NSRange();
 		range.location = storage.length();
 		storage.replaceCharactersInRange (range, str);
+		trimLines ();
 		range.location = storage.length();
-		widget.scrollRangeToVisible (range);
+		if (maxLines > 0) {
+			/*
+			* In bounded mode, scroll once for all the strings appended
+			* before the event loop runs again.
+			*/
+			if (!scrollPending) {
+				scrollPending = true;
+				display.asyncExec (() -> {
+					scrollPending = false;
+					if (isDisposed ()) return;
+					NSTextView textView = (NSTextView) view;
+					NSRange end = new NSRange ();
+					end.location = textView.textStorage ().length ();
+					textView.scrollRangeToVisible (end);
+				});
+			}
+		} else {
+			widget.scrollRangeToVisible (range);
+		}
 		widget.setSelectedRange(range);
 	}
 	if (string.length () != 0) sendEvent (SWT.Modify);
@@ -1115,6 +1134,26 @@ public int getOrientation () {
 	return style & (SWT.LEFT_TO_RIGHT | SWT.RIGHT_TO_LEFT);
 }
 
+/**
+ * Returns the maximum number of lines kept by the receiver, or zero
+ * if the number of lines is not bounded.
+ *
+ * @return the maximum number of lines
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @see #setMaxLines(int)
+ *
+ * @since 3.123
+ */
+public int getMaxLines () {
+	checkWidget ();
+	return maxLines;
+}
+
 /**
  * Returns the widget message.  The message text is displayed
  * as a hint for the user, indicating the purpose of the field.
@@ -2043,6 +2082,36 @@ void setOrientation () {
 	}
 }
 
+/**
+ * Sets the maximum number of lines kept by the receiver. When more
+ * lines are appended, the lines at the beginning of the text are
+ * removed, which makes the receiver suitable for showing a log that
+ * is written to continuously. A count of zero or less removes the bound.
+ * The empty line after a final line delimiter is not counted.
+ * <p>
+ * Note: This operation is a hint and is only supported by multi-line
+ * text widgets. The strings appended before the event loop runs again
+ * are scrolled into view at once.
+ * </p>
+ *
+ * @param count the maximum number of lines, or zero
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @see #append(String)
+ *
+ * @since 3.123
+ */
+public void setMaxLines (int count) {
+	checkWidget ();
+	if ((style & SWT.SINGLE) != 0) return;
+	maxLines = Math.max (0, count);
+	if (trimLines ()) sendEvent (SWT.Modify);
+}
+
 /**
  * Sets the widget message. The message text is displayed
  * as a hint for the user, indicating the purpose of the field.
@@ -2262,6 +2331,7 @@ public void setText (String string) {
 		string.getChars (0, buffer.length, buffer, 0);
 		NSString str = NSString.stringWithCharacters(buffer, buffer.length);
 		widget.setString (str);
+		trimLines ();
 		widget.setSelectedRange(new NSRange());
 	}
 	sendEvent (SWT.Modify);
@@ -2315,6 +2385,7 @@ public void setTextChars (char[] text) {
 		int length = Math.min(text.length, textLimit);
 		NSString str = NSString.stringWithCharacters(text, length);
 		widget.setString (str);
+		trimLines ();
 		widget.setSelectedRange(new NSRange());
 	}
 	sendEvent (SWT.Modify);
@@ -2441,6 +2512,26 @@ public void showSelection () {
 	}
 }
 
+/*
+* Removes the lines at the beginning of the text which exceed the
+* maximum number of lines.  The removed range is the sum of the
+* lengths of the first paragraphs, which only walks the removed lines.
+*/
+boolean trimLines () {
+	if (maxLines <= 0 || (style & SWT.SINGLE) != 0) return false;
+	NSTextStorage storage = ((NSTextView) view).textStorage ();
+	NSArray paragraphs = storage.paragraphs ();
+	/* The paragraphs do not include the empty line after a final line delimiter */
+	int extra = (int)paragraphs.count () - maxLines;
+	if (extra <= 0) return false;
+	NSRange range = new NSRange ();
+	for (int i = 0; i < extra; i++) {
+		range.length += new NSAttributedString (paragraphs.objectAtIndex (i)).length ();
+	}
+	storage.replaceCharactersInRange (range, NSString.string ());
+	return true;
+}
+
 @Override
 void textViewDidChangeSelection(long id, long sel, long aNotification) {
 	NSNotification notification = new NSNotification (aNotification);
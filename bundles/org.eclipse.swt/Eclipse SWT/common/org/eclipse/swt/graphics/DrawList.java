@@ -0,0 +1,231 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.graphics;
+
+import java.util.*;
+
+import org.eclipse.swt.*;
+
+/**
+ * Instances of this class record drawing operations, which are drawn
+ * with <code>GC.drawList(DrawList)</code>. The operations are drawn
+ * with the attributes of the GC at that time, in the order they were
+ * recorded, as if the corresponding methods of the GC had been called.
+ * A list can be drawn any number of times, for example on every paint
+ * of a canvas, and can be cleared and recorded again without allocating.
+ * <p>
+ * Drawing a list of many operations is faster than calling the GC for
+ * each of them, platforms can submit the whole list to the graphics
+ * library at once. Overlapping outlines drawn with a translucent GC
+ * can look different, as they may be drawn as a single path.
+ * </p>
+ *
+ * @see GC#drawList(DrawList)
+ * @see <a href="http://www.eclipse.org/swt/">Sample code and further information</a>
+ *
+ * @since 3.123
+ */
+public final class DrawList {
+	static final int LINE = 0;
+	static final int POLYLINE = 1;
+	static final int POLYGON = 2;
+	static final int RECTANGLE = 3;
+	static final int FILL_POLYGON = 4;
+	static final int FILL_RECTANGLE = 5;
+
+	/* The type of each operation followed by the number of its coordinates */
+	int[] operations = new int[32];
+	int operationCount;
+	/* The coordinates of the operations, rectangles are stored as their corners */
+	int[] coordinates = new int[128];
+	int coordinateCount;
+
+	/* Buffers reused by the platforms to submit the list */
+	long[] pathData;
+	int[] paths;
+
+/**
+ * Constructs a new empty list.
+ */
+public DrawList() {
+}
+
+void add(int type, int count) {
+	if (operationCount + 2 > operations.length) {
+		operations = Arrays.copyOf(operations, operations.length * 2);
+	}
+	operations[operationCount++] = type;
+	operations[operationCount++] = count;
+	if (coordinateCount + count > coordinates.length) {
+		coordinates = Arrays.copyOf(coordinates, Math.max(coordinateCount + count, coordinates.length * 2));
+	}
+}
+
+void add(int type, int[] pointArray) {
+	if (pointArray == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	int count = pointArray.length & ~1;
+	add(type, count);
+	System.arraycopy(pointArray, 0, coordinates, coordinateCount, count);
+	coordinateCount += count;
+}
+
+void add(int type, int x1, int y1, int x2, int y2) {
+	add(type, 4);
+	coordinates[coordinateCount++] = x1;
+	coordinates[coordinateCount++] = y1;
+	coordinates[coordinateCount++] = x2;
+	coordinates[coordinateCount++] = y2;
+}
+
+/**
+ * Removes all the operations of the receiver.
+ */
+public void clear() {
+	operationCount = coordinateCount = 0;
+}
+
+/**
+ * Records a line between the points (<code>x1</code>, <code>y1</code>)
+ * and (<code>x2</code>, <code>y2</code>).
+ *
+ * @param x1 the first point's x coordinate
+ * @param y1 the first point's y coordinate
+ * @param x2 the second point's x coordinate
+ * @param y2 the second point's y coordinate
+ *
+ * @see GC#drawLine(int, int, int, int)
+ */
+public void drawLine(int x1, int y1, int x2, int y2) {
+	add(LINE, x1, y1, x2, y2);
+}
+
+/**
+ * Records the outline of a closed polygon.
+ *
+ * @param pointArray an array of alternating x and y values which are the vertices of the polygon
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT if pointArray is null</li>
+ * </ul>
+ *
+ * @see GC#drawPolygon(int[])
+ */
+public void drawPolygon(int[] pointArray) {
+	add(POLYGON, pointArray);
+}
+
+/**
+ * Records a polyline.
+ *
+ * @param pointArray an array of alternating x and y values which are the corners of the polyline
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the point array is null</li>
+ * </ul>
+ *
+ * @see GC#drawPolyline(int[])
+ */
+public void drawPolyline(int[] pointArray) {
+	add(POLYLINE, pointArray);
+}
+
+/**
+ * Records the outline of a rectangle.
+ *
+ * @param x the x coordinate of the rectangle to be drawn
+ * @param y the y coordinate of the rectangle to be drawn
+ * @param width the width of the rectangle to be drawn
+ * @param height the height of the rectangle to be drawn
+ *
+ * @see GC#drawRectangle(int, int, int, int)
+ */
+public void drawRectangle(int x, int y, int width, int height) {
+	add(RECTANGLE, x, y, x + width, y + height);
+}
+
+/**
+ * Records the interior of a closed polygon.
+ *
+ * @param pointArray an array of alternating x and y values which are the vertices of the polygon
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT if pointArray is null</li>
+ * </ul>
+ *
+ * @see GC#fillPolygon(int[])
+ */
+public void fillPolygon(int[] pointArray) {
+	add(FILL_POLYGON, pointArray);
+}
+
+/**
+ * Records the interior of a rectangle.
+ *
+ * @param x the x coordinate of the rectangle to be filled
+ * @param y the y coordinate of the rectangle to be filled
+ * @param width the width of the rectangle to be filled
+ * @param height the height of the rectangle to be filled
+ *
+ * @see GC#fillRectangle(int, int, int, int)
+ */
+public void fillRectangle(int x, int y, int width, int height) {
+	add(FILL_RECTANGLE, x, y, x + width, y + height);
+}
+
+/**
+ * Returns <code>true</code> if the receiver has no operations,
+ * and <code>false</code> otherwise.
+ *
+ * @return <code>true</code> if the receiver is empty
+ */
+public boolean isEmpty() {
+	return operationCount == 0;
+}
+
+/**
+ * Draws the operations with the methods of a GC.
+ */
+void replay(GC gc) {
+	int[] coordinates = this.coordinates;
+	for (int i = 0, offset = 0; i < operationCount; i += 2) {
+		int type = operations[i], count = operations[i + 1];
+		switch (type) {
+			case LINE:
+				gc.drawLine(coordinates[offset], coordinates[offset + 1], coordinates[offset + 2], coordinates[offset + 3]);
+				break;
+			case POLYLINE:
+				gc.drawPolyline(Arrays.copyOfRange(coordinates, offset, offset + count));
+				break;
+			case POLYGON:
+				gc.drawPolygon(Arrays.copyOfRange(coordinates, offset, offset + count));
+				break;
+			case FILL_POLYGON:
+				gc.fillPolygon(Arrays.copyOfRange(coordinates, offset, offset + count));
+				break;
+			case RECTANGLE:
+			case FILL_RECTANGLE: {
+				int x = coordinates[offset], y = coordinates[offset + 1];
+				int width = coordinates[offset + 2] - x, height = coordinates[offset + 3] - y;
+				if (type == RECTANGLE) {
+					gc.drawRectangle(x, y, width, height);
+				} else {
+					gc.fillRectangle(x, y, width, height);
+				}
+				break;
+			}
+		}
+		offset += count;
+	}
+}
+}
@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.graphics;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.*;
+
+/**
+ * The resources tracked by a device, with the stack of their allocation.
+ * Resources are tracked at random with a probability of one in
+ * <code>sampleRate</code> and the stacks are limited to <code>stackDepth</code>
+ * frames, so that tracking can be enabled in production. Random sampling
+ * does not follow allocation patterns which repeat at a fixed period.
+ */
+class TrackedResources {
+	final int sampleRate, stackDepth;
+	final Map<Object, Error> errors = new IdentityHashMap<> ();
+
+	/**
+	 * The stack of an allocation when the stack depth is limited, which is
+	 * set from a stack walk instead of being filled in. The stack starts at
+	 * the allocation site.
+	 */
+	static class AllocationError extends Error {
+		static final long serialVersionUID = 1L;
+
+		@Override
+		public synchronized Throwable fillInStackTrace () {
+			return this;
+		}
+	}
+
+TrackedResources (int sampleRate, int stackDepth) {
+	this.sampleRate = Math.max (1, sampleRate);
+	this.stackDepth = Math.max (0, stackDepth);
+}
+
+void add (Object object) {
+	if (sampleRate > 1 && ThreadLocalRandom.current ().nextInt (sampleRate) != 0) return;
+	Error error = createError ();
+	synchronized (this) {
+		errors.put (object, error);
+	}
+}
+
+synchronized void remove (Object object) {
+	errors.remove (object);
+}
+
+Error createError () {
+	if (stackDepth == 0) return new Error ();
+	/* Skip the frames of the tracking code and of the resource classes, which would use up the stack depth */
+	StackTraceElement [] stack = StackWalker.getInstance (StackWalker.Option.RETAIN_CLASS_REFERENCE).walk (frames -> frames
+		.dropWhile (frame -> {
+			Class<?> clazz = frame.getDeclaringClass ();
+			return clazz == TrackedResources.class || clazz == Device.class || Resource.class.isAssignableFrom (clazz);
+		})
+		.limit (stackDepth)
+		.map (StackWalker.StackFrame::toStackTraceElement)
+		.toArray (StackTraceElement []::new));
+	Error error = new AllocationError ();
+	error.setStackTrace (stack);
+	return error;
+}
+
+/**
+ * Returns the frame of a stack which allocated a resource, that is the
+ * frame following the last frame of the class of the resource.
+ */
+static StackTraceElement getAllocationSite (Object object, Error error) {
+	StackTraceElement [] stack = error.getStackTrace ();
+	if (error instanceof AllocationError) return stack.length > 0 ? stack [0] : null;
+	for (Class<?> clazz = object.getClass (); clazz != null && clazz != Resource.class; clazz = clazz.getSuperclass ()) {
+		String className = clazz.getName ();
+		for (int i = stack.length - 1; i >= 0; i--) {
+			if (stack [i].getClassName ().equals (className)) {
+				return i + 1 < stack.length ? stack [i + 1] : null;
+			}
+		}
+	}
+	return null;
+}
+
+/**
+ * Stores the tracked resources in <code>data</code>, with the histogram
+ * of the resources by type and allocation site sorted by decreasing count.
+ */
+synchronized void getDeviceData (DeviceData data) {
+	int count = errors.size (), index = 0;
+	data.objects = new Object [count];
+	data.errors = new Error [count];
+	for (Map.Entry<Object, Error> entry : errors.entrySet ()) {
+		data.objects [index] = entry.getKey ();
+		data.errors [index] = entry.getValue ();
+		index++;
+	}
+	Map<List<Object>, Integer> histogram = new HashMap<> ();
+	for (int i = 0; i < count; i++) {
+		Object object = data.objects [i];
+		List<Object> key = Arrays.asList (object.getClass ().getName (), getAllocationSite (object, data.errors [i]));
+		histogram.merge (key, 1, Integer::sum);
+	}
+	List<Map.Entry<List<Object>, Integer>> entries = histogram.entrySet ().stream ()
+		.sorted (Map.Entry.<List<Object>, Integer>comparingByValue ().reversed ())
+		.collect (Collectors.toList ());
+	int size = entries.size ();
+	data.allocationTypes = new String [size];
+	data.allocationSites = new StackTraceElement [size];
+	data.allocationCounts = new int [size];
+	for (int i = 0; i < size; i++) {
+		Map.Entry<List<Object>, Integer> entry = entries.get (i);
+		data.allocationTypes [i] = (String) entry.getKey ().get (0);
+		data.allocationSites [i] = (StackTraceElement) entry.getKey ().get (1);
+		data.allocationCounts [i] = entry.getValue ();
+	}
+}
+}
@@ -281,6 +281,14 @@ public static ImageData autoScaleUp (Device device, final ImageData imageData) {
 	return autoScaleImageData(device, imageData, scaleFactor);
 }
 
+/**
+ * Returns whether auto-scaling ImageData only computes on the image data,
+ * and so can be done on any thread. Smooth scaling draws with a GC.
+ */
+public static boolean isAutoScaleThreadSafe () {
+	return autoScaleMethod != AutoScaleMethod.SMOOTH;
+}
+
 public static int[] autoScaleUp(int[] pointArray) {
 	if (deviceZoom == 100 || pointArray == null) return pointArray;
 	float scaleFactor = getScalingFactor ();
@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.internal;
+
+/**
+ * Clipboard data that is produced only when it is requested. An instance
+ * can be used as an entry of the data passed to <code>Clipboard.setContents</code>.
+ * On platforms that provide the clipboard data on request, the data is produced
+ * when a consumer asks for the format of the entry, otherwise it is produced by
+ * <code>setContents</code>. The produced data is converted by the transfer of
+ * the entry and must be valid for it.
+ * <p>
+ * The data is produced at most once, in the user-interface thread.
+ * </p>
+ */
+public abstract class DeferredClipboardData {
+	private Object data;
+	private boolean produced;
+
+/**
+ * Returns the data, producing it on the first call.
+ *
+ * @return the data
+ */
+public final Object get () {
+	if (!produced) {
+		data = produce ();
+		produced = true;
+	}
+	return data;
+}
+
+/**
+ * Returns whether the data has been produced.
+ *
+ * @return <code>true</code> if the data has been produced
+ */
+public final boolean isProduced () {
+	return produced;
+}
+
+/**
+ * Produces the data.
+ *
+ * @return the data
+ */
+protected abstract Object produce ();
+
+/**
+ * Returns the data of the given clipboard entry, producing it if the
+ * entry is deferred.
+ *
+ * @param data a clipboard entry
+ * @return the data of the entry
+ */
+public static Object resolve (Object data) {
+	return data instanceof DeferredClipboardData ? ((DeferredClipboardData) data).get () : data;
+}
+}
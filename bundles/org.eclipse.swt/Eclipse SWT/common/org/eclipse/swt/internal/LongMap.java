@@ -0,0 +1,208 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.internal;
+
+import java.util.function.*;
+
+/**
+ * A map from non-zero <code>long</code> keys, typically native handles,
+ * to objects. Keys are stored unboxed in an open addressed table with
+ * linear probing, so lookups neither allocate nor call into native code.
+ * <p>
+ * The map is not synchronized.
+ * </p>
+ *
+ * @param <V> the type of the values
+ */
+public class LongMap<V> {
+	long [] keys;
+	Object [] values;
+	int size, mask;
+
+	static final int MIN_CAPACITY = 16;
+
+/**
+ * Constructs an empty map.
+ */
+public LongMap () {
+	this (MIN_CAPACITY);
+}
+
+/**
+ * Constructs an empty map that can hold the given number of
+ * entries without growing.
+ *
+ * @param expectedSize the expected number of entries
+ */
+public LongMap (int expectedSize) {
+	int capacity = MIN_CAPACITY;
+	while (capacity * 3 / 4 < expectedSize) capacity <<= 1;
+	keys = new long [capacity];
+	values = new Object [capacity];
+	mask = capacity - 1;
+}
+
+int indexOf (long key) {
+	/* Native pointers are aligned, mix the high bits into the low bits */
+	long hash = key * 0x9E3779B97F4A7C15L;
+	return (int) (hash ^ (hash >>> 32)) & mask;
+}
+
+/**
+ * Returns the value mapped to the key, or <code>null</code>.
+ *
+ * @param key the key
+ * @return the value or <code>null</code>
+ */
+@SuppressWarnings("unchecked")
+public V get (long key) {
+	if (key == 0) return null;
+	int index = indexOf (key);
+	long current;
+	while ((current = keys [index]) != 0) {
+		if (current == key) return (V) values [index];
+		index = (index + 1) & mask;
+	}
+	return null;
+}
+
+/**
+ * Maps the key to the value.
+ *
+ * @param key the key, must not be zero
+ * @param value the value, must not be <code>null</code>
+ * @return the value previously mapped to the key, or <code>null</code>
+ */
+@SuppressWarnings("unchecked")
+public V put (long key, V value) {
+	if (key == 0 || value == null) throw new IllegalArgumentException ();
+	int index = indexOf (key);
+	long current;
+	while ((current = keys [index]) != 0) {
+		if (current == key) {
+			V old = (V) values [index];
+			values [index] = value;
+			return old;
+		}
+		index = (index + 1) & mask;
+	}
+	keys [index] = key;
+	values [index] = value;
+	if (++size > (mask + 1) * 3 / 4) resize ((mask + 1) << 1);
+	return null;
+}
+
+/**
+ * Removes the mapping of the key.
+ *
+ * @param key the key
+ * @return the value that was mapped to the key, or <code>null</code>
+ */
+@SuppressWarnings("unchecked")
+public V remove (long key) {
+	if (key == 0) return null;
+	int index = indexOf (key);
+	long current;
+	while ((current = keys [index]) != key) {
+		if (current == 0) return null;
+		index = (index + 1) & mask;
+	}
+	V old = (V) values [index];
+	size--;
+	/* Shift the following entries of the cluster back instead of leaving a tombstone */
+	int hole = index;
+	index = (index + 1) & mask;
+	while ((current = keys [index]) != 0) {
+		int home = indexOf (current);
+		if (((index - home) & mask) >= ((index - hole) & mask)) {
+			keys [hole] = current;
+			values [hole] = values [index];
+			hole = index;
+		}
+		index = (index + 1) & mask;
+	}
+	keys [hole] = 0;
+	values [hole] = null;
+	return old;
+}
+
+/**
+ * Removes all keys that are mapped to the value. Values are compared
+ * by identity.
+ *
+ * @param value the value
+ * @return the number of removed entries
+ */
+public int removeValue (Object value) {
+	int count = 0;
+	for (int i = 0; i < keys.length; i++) {
+		/* Removing shifts the following entries back into the current slot */
+		while (keys [i] != 0 && values [i] == value) {
+			remove (keys [i]);
+			count++;
+		}
+	}
+	return count;
+}
+
+/**
+ * Returns the number of entries.
+ *
+ * @return the number of entries
+ */
+public int size () {
+	return size;
+}
+
+/**
+ * Removes all entries.
+ */
+public void clear () {
+	if (size == 0) return;
+	for (int i = 0; i < keys.length; i++) {
+		keys [i] = 0;
+		values [i] = null;
+	}
+	size = 0;
+}
+
+/**
+ * Calls the consumer for each value. The map must not be
+ * modified by the consumer.
+ *
+ * @param consumer the consumer
+ */
+@SuppressWarnings("unchecked")
+public void forEachValue (Consumer<? super V> consumer) {
+	for (int i = 0; i < keys.length; i++) {
+		if (keys [i] != 0) consumer.accept ((V) values [i]);
+	}
+}
+
+void resize (int capacity) {
+	long [] oldKeys = keys;
+	Object [] oldValues = values;
+	keys = new long [capacity];
+	values = new Object [capacity];
+	mask = capacity - 1;
+	for (int i = 0; i < oldKeys.length; i++) {
+		long key = oldKeys [i];
+		if (key == 0) continue;
+		int index = indexOf (key);
+		while (keys [index] != 0) index = (index + 1) & mask;
+		keys [index] = key;
+		values [index] = oldValues [i];
+	}
+}
+}
@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.internal;
+
+import jdk.jfr.*;
+
+/**
+ * The Flight Recorder event of the calls of a native function recorded by
+ * the {@link NativeProfiler} since the previous event. The class is only
+ * loaded when Flight Recorder is available.
+ */
+@Name("org.eclipse.swt.NativeCall")
+@Label("SWT Native Call")
+@Category("SWT")
+@Description("Calls of an SWT native function since the previous event")
+@Period("1 s")
+@StackTrace(false)
+public class NativeCallEvent extends Event {
+	@Label("Function")
+	String function;
+
+	@Label("Calls")
+	long calls;
+
+	@Label("Total Time")
+	@Timespan(Timespan.NANOSECONDS)
+	long totalTime;
+
+	@Label("Bytes Copied")
+	@DataAmount
+	long bytes;
+
+static void install() {
+	long[][] reported = new long[3][0];
+	FlightRecorder.addPeriodicEvent(NativeCallEvent.class, () -> NativeProfiler.report(reported, (function, calls, nanos, bytes) -> {
+		NativeCallEvent event = new NativeCallEvent();
+		event.function = function;
+		event.calls = calls;
+		event.totalTime = nanos;
+		event.bytes = bytes;
+		event.commit();
+	}));
+	/* Record the calls while a recording has the event enabled */
+	FlightRecorder.addListener(new FlightRecorderListener() {
+		@Override
+		public void recordingStateChanged(Recording recording) {
+			NativeProfiler.setEnabled(EventType.getEventType(NativeCallEvent.class).isEnabled());
+		}
+	});
+}
+}
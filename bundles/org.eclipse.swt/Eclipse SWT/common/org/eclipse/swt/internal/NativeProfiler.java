@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.internal;
+
+import java.util.*;
+
+/**
+ * Records the calls of native functions made by a profiling build of the
+ * natives classes, which is created by the <code>ProfileGenerator</code>
+ * of the SWT tools. The natives of such a build are wrapped by Java methods
+ * that count the calls, the time spent in the native function and, for
+ * <code>memmove</code>, the number of bytes copied.
+ * <p>
+ * The calls are reported as the <code>org.eclipse.swt.NativeCall</code> Java
+ * Flight Recorder event and are only recorded while a recording has the event
+ * enabled, for example with <code>jcmd &lt;pid&gt; JFR.start settings=profile</code>.
+ * Without Flight Recorder, recording is switched with {@link #setEnabled(boolean)}.
+ * </p><p>
+ * The counters are not synchronized, calls made concurrently by threads other
+ * than the user-interface thread can be lost.
+ * </p>
+ */
+public class NativeProfiler {
+	static volatile boolean enabled;
+	static String[] names = new String[0];
+	static long[] calls = new long[0], nanos = new long[0], bytes = new long[0];
+	static int count;
+	static boolean installed;
+
+/**
+ * Registers native functions.
+ *
+ * @param functions the names of the functions
+ * @return the identifiers of the functions
+ */
+public static synchronized int[] register(String[] functions) {
+	if (!installed) {
+		installed = true;
+		try {
+			NativeCallEvent.install();
+		} catch (LinkageError e) {
+			/* Flight Recorder is not available */
+		}
+	}
+	if (count + functions.length > names.length) {
+		int length = Math.max(count + functions.length, names.length * 2);
+		names = Arrays.copyOf(names, length);
+		calls = Arrays.copyOf(calls, length);
+		nanos = Arrays.copyOf(nanos, length);
+		bytes = Arrays.copyOf(bytes, length);
+	}
+	int[] result = new int[functions.length];
+	for (int i = 0; i < functions.length; i++) {
+		names[count] = functions[i];
+		result[i] = count++;
+	}
+	return result;
+}
+
+/**
+ * Returns whether calls are recorded.
+ *
+ * @return <code>true</code> if calls are recorded
+ */
+public static boolean isEnabled() {
+	return enabled;
+}
+
+/**
+ * Switches the recording of calls.
+ *
+ * @param enabled <code>true</code> to record calls
+ */
+public static void setEnabled(boolean enabled) {
+	NativeProfiler.enabled = enabled;
+}
+
+/**
+ * Called before a native function is called.
+ *
+ * @return the start time to pass to <code>exit()</code>, or 0 if calls are not recorded
+ */
+public static long enter() {
+	return enabled ? System.nanoTime() : 0;
+}
+
+/**
+ * Called after a native function returned.
+ *
+ * @param function the identifier of the function
+ * @param start the value returned by <code>enter()</code>
+ */
+public static void exit(int function, long start) {
+	if (start == 0) return;
+	nanos[function] += System.nanoTime() - start;
+	calls[function]++;
+}
+
+/**
+ * Called after a native function that copied memory returned.
+ *
+ * @param function the identifier of the function
+ * @param start the value returned by <code>enter()</code>
+ * @param size the number of bytes copied
+ */
+public static void exit(int function, long start, long size) {
+	if (start == 0) return;
+	nanos[function] += System.nanoTime() - start;
+	calls[function]++;
+	bytes[function] += size;
+}
+
+/**
+ * Reports the totals of the functions that were called since the last
+ * report, which are stored in <code>reported</code>.
+ */
+static synchronized void report(long[][] reported, Reporter reporter) {
+	for (int i = 0; i < reported.length; i++) {
+		if (reported[i].length < count) reported[i] = Arrays.copyOf(reported[i], count);
+	}
+	long[] reportedCalls = reported[0], reportedNanos = reported[1], reportedBytes = reported[2];
+	for (int i = 0; i < count; i++) {
+		long callCount = calls[i];
+		if (callCount == reportedCalls[i]) continue;
+		long time = nanos[i], size = bytes[i];
+		reporter.report(names[i], callCount - reportedCalls[i], time - reportedNanos[i], size - reportedBytes[i]);
+		reportedCalls[i] = callCount;
+		reportedNanos[i] = time;
+		reportedBytes[i] = size;
+	}
+}
+
+interface Reporter {
+	void report(String function, long calls, long nanos, long bytes);
+}
+}
@@ -401,6 +401,8 @@ public final class GridData {
 	int cacheWidth = -1, cacheHeight = -1;
 	int defaultWhint, defaultHhint, defaultWidth = -1, defaultHeight = -1;
 	int currentWhint, currentHhint, currentWidth = -1, currentHeight = -1;
+	/* Incremented whenever the cached sizes are flushed, see GridLayout.Solution */
+	int flushCount;
 
 /**
  * Constructs a new instance of GridData using
@@ -512,6 +514,7 @@ void computeSize (Control control, int wHint, int hHint, boolean flushCache) {
 }
 
 void flushCache () {
+	flushCount++;
 	cacheWidth = cacheHeight = -1;
 	defaultWidth = defaultHeight = -1;
 	currentWidth = currentHeight = -1;
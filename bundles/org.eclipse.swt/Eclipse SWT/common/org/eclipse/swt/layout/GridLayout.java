@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.swt.layout;
 
+import java.util.*;
+
 import org.eclipse.swt.*;
 import org.eclipse.swt.graphics.*;
 import org.eclipse.swt.widgets.*;
@@ -140,6 +142,54 @@ public final class GridLayout extends Layout {
 	 */
 	public int verticalSpacing = 5;
 
+	/*
+	 * The solutions of the last layout passes. A solution is reused as long
+	 * as the composite, its children, their GridData and the available size
+	 * are unchanged. Children whose cache was flushed since are measured
+	 * again, and only the parts of the solution depending on a changed size
+	 * are computed again, see layout(). Two solutions are kept since a parent
+	 * usually asks for the preferred size and then sets the bounds, which
+	 * alternates between two widths.
+	 */
+	Solution [] solutions = new Solution [2];
+	Listener disposeListener;
+
+	static final int LAYOUT_STATE = 10;
+	static final int DATA_STATE = 11;
+
+	static final class Solution {
+		Composite composite;
+		Control [] children;
+		GridData [] data;
+		int [] state, flushCounts;
+		int width, height;
+		/* The grid, the first row and column of every child and the first row of the cells spanning into every row */
+		Control [][] grid;
+		int rowCount, columnCount;
+		int [] rows, columns, rowStarts;
+		/* The widths of the children before wrapping, and the column widths */
+		int [] sizeWidths, widths;
+		/* The sizes of the children after wrapping */
+		int [] cacheWidths, cacheHeights;
+		boolean [] wrapped;
+		/* The row heights before and after distributing the available height */
+		int [] rowHeights, rowMinHeights, heights;
+		boolean [] rowExpand;
+		Point size;
+
+		/* A replaced GridData has an empty cache, as has a flushed one */
+		boolean isClean (int index, GridData data) {
+			return data == this.data [index] && data.flushCount == flushCounts [index];
+		}
+
+		boolean isClean (Control [] children, int count) {
+			for (int i=0; i<count; i++) {
+				if (!isClean (i, (GridData) children [i].getLayoutData ())) return false;
+			}
+			return true;
+		}
+	}
+
 /**
  * Constructs a new instance of this class
  * with a single column.
@@ -217,6 +267,22 @@ Point layout (Composite composite, boolean move, int x, int y, int width, int he
 	if (count == 0) {
 		return new Point (marginLeft + marginWidth * 2 + marginRight, marginTop + marginHeight * 2 + marginBottom);
 	}
+	Solution previous = flushCache ? null : findSolution (composite, children, count, width, height);
+	if (previous != null && previous.isClean (children, count)) {
+		for (int i=0; i<count; i++) {
+			GridData data = (GridData) children [i].getLayoutData ();
+			data.cacheWidth = previous.cacheWidths [i];
+			data.cacheHeight = previous.cacheHeights [i];
+		}
+		if (move) position (previous.grid, previous.rowCount, previous.columnCount, previous.widths, previous.heights, x, y);
+		for (int i=0; i<count; i++) {
+			if (previous.wrapped [i]) {
+				GridData data = (GridData) children [i].getLayoutData ();
+				data.cacheWidth = data.cacheHeight = -1;
+			}
+		}
+		return new Point (previous.size.x, previous.size.y);
+	}
 	for (int i=0; i<count; i++) {
 		Control child = children [i];
 		GridData data = (GridData) child.getLayoutData ();
@@ -242,8 +308,217 @@ Point layout (Composite composite, boolean move, int x, int y, int width, int he
 		}
 	}
 
-	/* Build the grid */
+	Solution solution = new Solution ();
+	solution.composite = composite;
+	solution.children = new Control [count];
+	System.arraycopy (children, 0, solution.children, 0, count);
+	solution.state = saveState (solution.children);
+	solution.width = width;
+	solution.height = height;
+	solution.data = new GridData [count];
+	solution.flushCounts = new int [count];
+	solution.sizeWidths = new int [count];
+	for (int i=0; i<count; i++) {
+		GridData data = (GridData) children [i].getLayoutData ();
+		solution.data [i] = data;
+		solution.flushCounts [i] = data.flushCount;
+		solution.sizeWidths [i] = data.cacheWidth;
+	}
+
+	/* Build the grid, it only depends on the spans of the children */
+	if (previous != null) {
+		solution.grid = previous.grid;
+		solution.rowCount = previous.rowCount;
+		solution.columnCount = previous.columnCount;
+		solution.rows = previous.rows;
+		solution.columns = previous.columns;
+		solution.rowStarts = previous.rowStarts;
+	} else {
+		buildGrid (solution, children, count);
+	}
+	int rowCount = solution.rowCount, columnCount = solution.columnCount;
+
+	/* Column widths, they only depend on the sizes of the children before wrapping */
+	if (previous != null && Arrays.equals (solution.sizeWidths, previous.sizeWidths)) {
+		solution.widths = previous.widths;
+	} else {
+		computeWidths (solution, width);
+	}
+	int [] widths = solution.widths;
+
+	/* Wrapping, children with unchanged cells and caches wrap as in the previous solution */
+	boolean sameWidths = previous != null && Arrays.equals (widths, previous.widths);
+	solution.wrapped = new boolean [count];
+	if (width != SWT.DEFAULT) {
+		for (int i=0; i<count; i++) {
+			Control child = children [i];
+			GridData data = (GridData) child.getLayoutData ();
+			if (data.heightHint == SWT.DEFAULT) {
+				if (sameWidths && previous.isClean (i, data)) {
+					if (previous.wrapped [i]) {
+						data.cacheWidth = previous.cacheWidths [i];
+						data.cacheHeight = previous.cacheHeights [i];
+						solution.wrapped [i] = true;
+					}
+					continue;
+				}
+				//TEMPORARY CODE
+				int hSpan = Math.max (1, Math.min (data.horizontalSpan, columnCount));
+				int j = solution.columns [i] + hSpan - 1;
+				int currentWidth = 0;
+				for (int k=0; k<hSpan; k++) {
+					currentWidth += widths [j-k];
+				}
+				currentWidth += (hSpan - 1) * horizontalSpacing - data.horizontalIndent;
+				if ((currentWidth != data.cacheWidth && data.horizontalAlignment == SWT.FILL) || (data.cacheWidth > currentWidth)) {
+					int trim = 0;
+					if (child instanceof Scrollable) {
+						Rectangle rect = ((Scrollable) child).computeTrim (0, 0, 0, 0);
+						trim = rect.width;
+					} else {
+						trim = child.getBorderWidth () * 2;
+					}
+					data.cacheWidth = data.cacheHeight = SWT.DEFAULT;
+					data.computeSize (child, Math.max (0, currentWidth - trim), data.heightHint, false);
+					if (data.grabExcessVerticalSpace && data.minimumHeight > 0) {
+						data.cacheHeight = Math.max (data.cacheHeight, data.minimumHeight);
+					}
+					solution.wrapped [i] = true;
+				}
+			}
+		}
+	}
+
+	/* Remember the sizes used to position the controls */
+	solution.cacheWidths = new int [count];
+	solution.cacheHeights = new int [count];
+	for (int i=0; i<count; i++) {
+		GridData data = (GridData) children [i].getLayoutData ();
+		solution.cacheWidths [i] = data.cacheWidth;
+		solution.cacheHeights [i] = data.cacheHeight;
+	}
+
+	/*
+	* Row heights. The rows are computed in order and a cell spanning several
+	* rows changes the heights of the rows above it, so the rows are computed
+	* again from the first row before a changed child that no cell spans into.
+	*/
+	int firstRow = 0;
+	if (previous != null) {
+		firstRow = rowCount;
+		for (int i=0; i<count; i++) {
+			if (solution.cacheHeights [i] != previous.cacheHeights [i]) {
+				firstRow = Math.min (firstRow, solution.rows [i]);
+			}
+		}
+		while (firstRow < rowCount && solution.rowStarts [firstRow] < firstRow) {
+			firstRow = solution.rowStarts [firstRow];
+		}
+	}
+	if (firstRow == rowCount) {
+		solution.rowHeights = previous.rowHeights;
+		solution.rowMinHeights = previous.rowMinHeights;
+		solution.rowExpand = previous.rowExpand;
+		solution.heights = previous.heights;
+	} else {
+		computeHeights (solution, height, previous, firstRow);
+	}
+	int [] heights = solution.heights;
+
+	/* Position the controls */
+	if (move) position (solution.grid, rowCount, columnCount, widths, heights, x, y);
+
+	// clean up cache
+	for (int i = 0; i < count; i++) {
+		if (solution.wrapped [i]) {
+			GridData data = (GridData) children [i].getLayoutData ();
+			data.cacheWidth = data.cacheHeight = -1;
+		}
+	}
+
+	int totalDefaultWidth = 0;
+	int totalDefaultHeight = 0;
+	for (int i=0; i<columnCount; i++) {
+		totalDefaultWidth += widths [i];
+	}
+	for (int i=0; i<rowCount; i++) {
+		totalDefaultHeight += heights [i];
+	}
+	totalDefaultWidth += horizontalSpacing * (columnCount - 1) + marginLeft + marginWidth * 2 + marginRight;
+	totalDefaultHeight += verticalSpacing * (rowCount - 1) + marginTop + marginHeight * 2 + marginBottom;
+
+	solution.size = new Point (totalDefaultWidth, totalDefaultHeight);
+	saveSolution (solution, previous);
+	return new Point (totalDefaultWidth, totalDefaultHeight);
+}
+
+/**
+ * Returns the solution of a previous layout pass of the composite with the
+ * same children, layout fields, GridData fields and available size, or
+ * <code>null</code> if there is none. The caches of the children may have
+ * been flushed, or their GridData replaced, since. Solutions with disposed
+ * children are dropped.
+ */
+Solution findSolution (Composite composite, Control [] children, int count, int width, int height) {
+	int [] state = null;
+	for (int s=0; s<solutions.length; s++) {
+		Solution solution = solutions [s];
+		if (solution == null || solution.composite != composite) continue;
+		boolean disposed = false;
+		for (int i=0; i<solution.children.length && !disposed; i++) {
+			disposed = solution.children [i].isDisposed ();
+		}
+		if (disposed) {
+			solutions [s] = null;
+			continue;
+		}
+		if (solution.width != width || solution.height != height) continue;
+		if (solution.children.length != count) continue;
+		boolean same = true;
+		for (int i=0; i<count && same; i++) {
+			same = children [i] == solution.children [i] && children [i].getLayoutData () instanceof GridData;
+		}
+		if (!same) continue;
+		if (state == null) state = saveState (solution.children);
+		if (Arrays.equals (state, solution.state)) return solution;
+	}
+	return null;
+}
+
+/**
+ * Keeps the solution for the following layout passes, replacing the
+ * previous solution it was computed from. The solutions of a composite
+ * are dropped when it is disposed.
+ */
+void saveSolution (Solution solution, Solution previous) {
+	Composite composite = solution.composite;
+	boolean known = false;
+	for (int s=0; s<solutions.length; s++) {
+		if (solutions [s] != null && solutions [s].composite == composite) known = true;
+	}
+	if (!known) {
+		if (disposeListener == null) {
+			disposeListener = event -> {
+				for (int s=0; s<solutions.length; s++) {
+					if (solutions [s] != null && solutions [s].composite == event.widget) solutions [s] = null;
+				}
+			};
+		}
+		composite.removeListener (SWT.Dispose, disposeListener);
+		composite.addListener (SWT.Dispose, disposeListener);
+	}
+	if (solutions [0] != previous) {
+		System.arraycopy (solutions, 0, solutions, 1, solutions.length - 1);
+	}
+	solutions [0] = solution;
+}
+
+/**
+ * Places the children in the cells of the grid.
+ */
+void buildGrid (Solution solution, Control [] children, int count) {
 	int row = 0, column = 0, rowCount = 0, columnCount = numColumns;
+	int [] rows = new int [count], columns = new int [count];
 	Control [][] grid = new Control [4] [columnCount];
 	for (int i=0; i<count; i++) {
 		Control child = children [i];
@@ -285,11 +560,36 @@ Point layout (Composite composite, boolean move, int x, int y, int width, int he
 				grid [row + j] [column + k] = child;
 			}
 		}
+		rows [i] = row;
+		columns [i] = column;
 		rowCount = Math.max (rowCount, row + vSpan);
 		column += hSpan;
 	}
+	int [] rowStarts = new int [rowCount];
+	for (int i=0; i<rowCount; i++) {
+		rowStarts [i] = i;
+	}
+	for (int i=0; i<count; i++) {
+		GridData data = (GridData) children [i].getLayoutData ();
+		int vSpan = Math.max (1, data.verticalSpan);
+		for (int k=1; k<vSpan && rows [i] + k < rowCount; k++) {
+			rowStarts [rows [i] + k] = Math.min (rowStarts [rows [i] + k], rows [i]);
+		}
+	}
+	solution.grid = grid;
+	solution.rowCount = rowCount;
+	solution.columnCount = columnCount;
+	solution.rows = rows;
+	solution.columns = columns;
+	solution.rowStarts = rowStarts;
+}
 
-	/* Column widths */
+/**
+ * Computes the column widths from the sizes of the children.
+ */
+void computeWidths (Solution solution, int width) {
+	Control [][] grid = solution.grid;
+	int rowCount = solution.rowCount, columnCount = solution.columnCount;
 	int availableWidth = width - horizontalSpacing * (columnCount - 1) - (marginLeft + marginWidth * 2 + marginRight);
 	int expandCount = 0;
 	int [] widths = new int [columnCount];
@@ -456,53 +756,30 @@ Point layout (Composite composite, boolean move, int x, int y, int width, int he
 			}
 		}
 	}
+	solution.widths = widths;
+}
 
-	/* Wrapping */
-	GridData [] flush = null;
-	int flushLength = 0;
-	if (width != SWT.DEFAULT) {
-		for (int j=0; j<columnCount; j++) {
-			for (int i=0; i<rowCount; i++) {
-				GridData data = getData (grid, i, j, rowCount, columnCount, false);
-				if (data != null) {
-					if (data.heightHint == SWT.DEFAULT) {
-						Control child = grid [i][j];
-						//TEMPORARY CODE
-						int hSpan = Math.max (1, Math.min (data.horizontalSpan, columnCount));
-						int currentWidth = 0;
-						for (int k=0; k<hSpan; k++) {
-							currentWidth += widths [j-k];
-						}
-						currentWidth += (hSpan - 1) * horizontalSpacing - data.horizontalIndent;
-						if ((currentWidth != data.cacheWidth && data.horizontalAlignment == SWT.FILL) || (data.cacheWidth > currentWidth)) {
-							int trim = 0;
-							if (child instanceof Scrollable) {
-								Rectangle rect = ((Scrollable) child).computeTrim (0, 0, 0, 0);
-								trim = rect.width;
-							} else {
-								trim = child.getBorderWidth () * 2;
-							}
-							data.cacheWidth = data.cacheHeight = SWT.DEFAULT;
-							data.computeSize (child, Math.max (0, currentWidth - trim), data.heightHint, false);
-							if (data.grabExcessVerticalSpace && data.minimumHeight > 0) {
-								data.cacheHeight = Math.max (data.cacheHeight, data.minimumHeight);
-							}
-							if (flush == null) flush = new GridData [count];
-							flush [flushLength++] = data;
-						}
-					}
-				}
-			}
-		}
-	}
-
-	/* Row heights */
+/**
+ * Computes the row heights from the first row on, the rows before it
+ * are taken from the previous solution.
+ */
+void computeHeights (Solution solution, int height, Solution previous, int firstRow) {
+	Control [][] grid = solution.grid;
+	int rowCount = solution.rowCount, columnCount = solution.columnCount;
 	int availableHeight = height - verticalSpacing * (rowCount - 1) - (marginTop + marginHeight * 2 + marginBottom);
-	expandCount = 0;
+	int expandCount = 0;
 	int [] heights = new int [rowCount];
 	int [] minHeights = new int [rowCount];
 	boolean [] expandRow = new boolean [rowCount];
-	for (int i=0; i<rowCount; i++) {
+	if (firstRow > 0) {
+		System.arraycopy (previous.rowHeights, 0, heights, 0, firstRow);
+		System.arraycopy (previous.rowMinHeights, 0, minHeights, 0, firstRow);
+		System.arraycopy (previous.rowExpand, 0, expandRow, 0, firstRow);
+		for (int i=0; i<firstRow; i++) {
+			if (expandRow [i]) expandCount++;
+		}
+	}
+	for (int i=firstRow; i<rowCount; i++) {
 		for (int j=0; j<columnCount; j++) {
 			GridData data = getData (grid, i, j, rowCount, columnCount, true);
 			if (data != null) {
@@ -574,6 +851,9 @@ Point layout (Composite composite, boolean move, int x, int y, int width, int he
 			}
 		}
 	}
+	solution.rowHeights = heights.clone ();
+	solution.rowMinHeights = minHeights.clone ();
+	solution.rowExpand = expandRow.clone ();
 	if (height != SWT.DEFAULT && expandCount > 0) {
 		int totalHeight = 0;
 		for (int i=0; i<rowCount; i++) {
@@ -640,85 +920,98 @@ Point layout (Composite composite, boolean move, int x, int y, int width, int he
 			last = -1;
 		}
 	}
+	solution.heights = heights;
+}
 
-	/* Position the controls */
-	if (move) {
-		int gridY = y + marginTop + marginHeight;
-		for (int i=0; i<rowCount; i++) {
-			int gridX = x + marginLeft + marginWidth;
-			for (int j=0; j<columnCount; j++) {
-				GridData data = getData (grid, i, j, rowCount, columnCount, true);
-				if (data != null) {
-					int hSpan = Math.max (1, Math.min (data.horizontalSpan, columnCount));
-					int vSpan = Math.max (1, data.verticalSpan);
-					int cellWidth = 0, cellHeight = 0;
-					for (int k=0; k<hSpan; k++) {
-						cellWidth += widths [j+k];
-					}
-					for (int k=0; k<vSpan; k++) {
-						cellHeight += heights [i+k];
-					}
-					cellWidth += horizontalSpacing * (hSpan - 1);
-					int childX = gridX + data.horizontalIndent;
-					int childWidth = Math.min (data.cacheWidth, cellWidth);
-					switch (data.horizontalAlignment) {
-						case SWT.CENTER:
-						case GridData.CENTER:
-							childX += Math.max (0, (cellWidth - data.horizontalIndent - childWidth) / 2);
-							break;
-						case SWT.RIGHT:
-						case SWT.END:
-						case GridData.END:
-							childX += Math.max (0, cellWidth - data.horizontalIndent - childWidth);
-							break;
-						case SWT.FILL:
-							childWidth = cellWidth - data.horizontalIndent;
-							break;
-					}
-					cellHeight += verticalSpacing * (vSpan - 1);
-					int childY = gridY + data.verticalIndent;
-					int childHeight = Math.min (data.cacheHeight, cellHeight);
-					switch (data.verticalAlignment) {
-						case SWT.CENTER:
-						case GridData.CENTER:
-							childY += Math.max (0, (cellHeight - data.verticalIndent - childHeight) / 2);
-							break;
-						case SWT.BOTTOM:
-						case SWT.END:
-						case GridData.END:
-							childY += Math.max (0, cellHeight - data.verticalIndent - childHeight);
-							break;
-						case SWT.FILL:
-							childHeight = cellHeight - data.verticalIndent;
-							break;
-					}
-					Control child = grid [i][j];
-					if (child != null) {
-						child.setBounds (childX, childY, childWidth, childHeight);
-					}
+void position (Control [][] grid, int rowCount, int columnCount, int [] widths, int [] heights, int x, int y) {
+	int gridY = y + marginTop + marginHeight;
+	for (int i=0; i<rowCount; i++) {
+		int gridX = x + marginLeft + marginWidth;
+		for (int j=0; j<columnCount; j++) {
+			GridData data = getData (grid, i, j, rowCount, columnCount, true);
+			if (data != null) {
+				int hSpan = Math.max (1, Math.min (data.horizontalSpan, columnCount));
+				int vSpan = Math.max (1, data.verticalSpan);
+				int cellWidth = 0, cellHeight = 0;
+				for (int k=0; k<hSpan; k++) {
+					cellWidth += widths [j+k];
+				}
+				for (int k=0; k<vSpan; k++) {
+					cellHeight += heights [i+k];
+				}
+				cellWidth += horizontalSpacing * (hSpan - 1);
+				int childX = gridX + data.horizontalIndent;
+				int childWidth = Math.min (data.cacheWidth, cellWidth);
+				switch (data.horizontalAlignment) {
+					case SWT.CENTER:
+					case GridData.CENTER:
+						childX += Math.max (0, (cellWidth - data.horizontalIndent - childWidth) / 2);
+						break;
+					case SWT.RIGHT:
+					case SWT.END:
+					case GridData.END:
+						childX += Math.max (0, cellWidth - data.horizontalIndent - childWidth);
+						break;
+					case SWT.FILL:
+						childWidth = cellWidth - data.horizontalIndent;
+						break;
+				}
+				cellHeight += verticalSpacing * (vSpan - 1);
+				int childY = gridY + data.verticalIndent;
+				int childHeight = Math.min (data.cacheHeight, cellHeight);
+				switch (data.verticalAlignment) {
+					case SWT.CENTER:
+					case GridData.CENTER:
+						childY += Math.max (0, (cellHeight - data.verticalIndent - childHeight) / 2);
+						break;
+					case SWT.BOTTOM:
+					case SWT.END:
+					case GridData.END:
+						childY += Math.max (0, cellHeight - data.verticalIndent - childHeight);
+						break;
+					case SWT.FILL:
+						childHeight = cellHeight - data.verticalIndent;
+						break;
+				}
+				Control child = grid [i][j];
+				if (child != null) {
+					child.setBounds (childX, childY, childWidth, childHeight);
 				}
-				gridX += widths [j] + horizontalSpacing;
 			}
-			gridY += heights [i] + verticalSpacing;
+			gridX += widths [j] + horizontalSpacing;
 		}
+		gridY += heights [i] + verticalSpacing;
 	}
+}
 
-	// clean up cache
-	for (int i = 0; i < flushLength; i++) {
-		flush [i].cacheWidth = flush [i].cacheHeight = -1;
-	}
-
-	int totalDefaultWidth = 0;
-	int totalDefaultHeight = 0;
-	for (int i=0; i<columnCount; i++) {
-		totalDefaultWidth += widths [i];
-	}
-	for (int i=0; i<rowCount; i++) {
-		totalDefaultHeight += heights [i];
+int [] saveState (Control [] children) {
+	int [] state = new int [LAYOUT_STATE + children.length * DATA_STATE];
+	int index = 0;
+	state [index++] = numColumns;
+	state [index++] = makeColumnsEqualWidth ? 1 : 0;
+	state [index++] = marginWidth;
+	state [index++] = marginHeight;
+	state [index++] = marginLeft;
+	state [index++] = marginTop;
+	state [index++] = marginRight;
+	state [index++] = marginBottom;
+	state [index++] = horizontalSpacing;
+	state [index++] = verticalSpacing;
+	for (int i=0; i<children.length; i++) {
+		GridData data = (GridData) children [i].getLayoutData ();
+		state [index++] = data.widthHint;
+		state [index++] = data.heightHint;
+		state [index++] = data.horizontalSpan;
+		state [index++] = data.verticalSpan;
+		state [index++] = data.horizontalIndent;
+		state [index++] = data.verticalIndent;
+		state [index++] = data.horizontalAlignment;
+		state [index++] = data.verticalAlignment;
+		state [index++] = data.minimumWidth;
+		state [index++] = data.minimumHeight;
+		state [index++] = (data.grabExcessHorizontalSpace ? 1 : 0) | (data.grabExcessVerticalSpace ? 2 : 0);
 	}
-	totalDefaultWidth += horizontalSpacing * (columnCount - 1) + marginLeft + marginWidth * 2 + marginRight;
-	totalDefaultHeight += verticalSpacing * (rowCount - 1) + marginTop + marginHeight * 2 + marginBottom;
-	return new Point (totalDefaultWidth, totalDefaultHeight);
+	return state;
 }
 
 String getName () {
@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.graphics;
+
+import java.util.*;
+
+import org.eclipse.swt.internal.cairo.*;
+
+/**
+ * The surfaces of the images disposed recently, which are reused by the
+ * images of the same size, format and zoom. Canvases painting through an
+ * image allocate one on every paint, which would otherwise create and
+ * destroy a surface at the frame rate of an animation.
+ * <p>
+ * The surfaces are destroyed once they were not reused for some time,
+ * or when the pool exceeds its size.
+ * </p>
+ */
+class BackBufferPool {
+	static final long MAX_BYTES = 64 * 1024 * 1024;
+	static final long IDLE_TIME = 1000_000_000L;
+
+	static final class BackBuffer {
+		final long surface;
+		final int format, width, height, zoom;
+		final long bytes, released;
+
+		BackBuffer (long surface, int format, int width, int height, int zoom, long bytes, long released) {
+			this.surface = surface;
+			this.format = format;
+			this.width = width;
+			this.height = height;
+			this.zoom = zoom;
+			this.bytes = bytes;
+			this.released = released;
+		}
+	}
+
+	/* The buffers in the order they were released */
+	final ArrayList<BackBuffer> buffers = new ArrayList<> ();
+	long bytes;
+	boolean disposed;
+
+/**
+ * Returns a surface released with the same attributes, or 0 if there is none.
+ */
+synchronized long acquire (int format, int width, int height, int zoom) {
+	for (int i = buffers.size () - 1; i >= 0; i--) {
+		BackBuffer buffer = buffers.get (i);
+		if (buffer.format == format && buffer.width == width && buffer.height == height && buffer.zoom == zoom) {
+			buffers.remove (i);
+			bytes -= buffer.bytes;
+			return buffer.surface;
+		}
+	}
+	return 0;
+}
+
+synchronized void dispose () {
+	for (BackBuffer buffer : buffers) {
+		Cairo.cairo_surface_destroy (buffer.surface);
+	}
+	buffers.clear ();
+	bytes = 0;
+	disposed = true;
+}
+
+/**
+ * Keeps a surface which is no longer used, returns <code>false</code>
+ * when it is not kept and must be destroyed by the caller.
+ */
+synchronized boolean release (long surface, int format, int width, int height, int zoom) {
+	long size = (long) width * height * 4;
+	if (disposed || size > MAX_BYTES / 4) return false;
+	buffers.add (new BackBuffer (surface, format, width, height, zoom, size, System.nanoTime ()));
+	bytes += size;
+	while (bytes > MAX_BYTES) {
+		BackBuffer buffer = buffers.remove (0);
+		Cairo.cairo_surface_destroy (buffer.surface);
+		bytes -= buffer.bytes;
+	}
+	return true;
+}
+
+/**
+ * Destroys the surfaces which were not reused for some time.
+ */
+synchronized void trim () {
+	if (buffers.isEmpty ()) return;
+	long now = System.nanoTime ();
+	while (!buffers.isEmpty () && now - buffers.get (0).released > IDLE_TIME) {
+		BackBuffer buffer = buffers.remove (0);
+		Cairo.cairo_surface_destroy (buffer.surface);
+		bytes -= buffer.bytes;
+	}
+}
+}
@@ -15,6 +15,7 @@ package org.eclipse.swt.graphics;
 
 
 import java.io.*;
+import java.util.*;
 import java.util.function.*;
 import java.util.stream.*;
 
@@ -63,9 +64,8 @@ public abstract class Device implements Drawable {
 	public static boolean DEBUG;
 	boolean debug = DEBUG;
 	boolean tracking = DEBUG;
-	Error [] errors;
-	Object [] objects;
-	Object trackingLock;
+	int trackingSampleRate, trackingStackDepth;
+	volatile TrackedResources trackedResources;
 
 	/* Disposed flag */
 	volatile boolean disposed;
@@ -100,6 +100,41 @@ public abstract class Device implements Drawable {
 
 	long emptyTab;
 
+	/* The surfaces of the images disposed recently */
+	final BackBufferPool backBuffers = new BackBufferPool ();
+
+	/* The extents of the strings measured recently by the GCs of the device */
+	static final int TEXT_EXTENT_CACHE_SIZE = 1024;
+	final Map<GC.TextKey, Point> textExtents = new LinkedHashMap<GC.TextKey, Point> (16, 0.75f, true) {
+		static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry (Map.Entry<GC.TextKey, Point> eldest) {
+			return size () > TEXT_EXTENT_CACHE_SIZE;
+		}
+	};
+
+	/*
+	* The layouts of the strings drawn recently by the GCs of the device, keyed
+	* by string, flags, font and direction, and the contexts they are created in.
+	* Pango objects are not thread safe, so the layouts are only shared by the
+	* GCs used in the thread that created the device. A GC holds a reference to
+	* the layout it uses, the cache releases its own reference on eviction.
+	*/
+	static final int LAYOUT_CACHE_SIZE = 256;
+	final Thread layoutThread = Thread.currentThread ();
+	final Map<GC.TextKey, GC.StringLayout> layouts = new LinkedHashMap<GC.TextKey, GC.StringLayout> (16, 0.75f, true) {
+		static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry (Map.Entry<GC.TextKey, GC.StringLayout> eldest) {
+			if (size () <= LAYOUT_CACHE_SIZE) return false;
+			OS.g_object_unref (eldest.getValue ().layout);
+			return true;
+		}
+	};
+	long [] layoutContexts = new long [2];
+
 	/*
 	* TEMPORARY CODE. When a graphics object is
 	* created and the device parameter is null,
@@ -160,6 +195,8 @@ public Device(DeviceData data) {
 		if (data != null) {
 			debug = data.debug;
 			tracking = data.tracking;
+			trackingSampleRate = data.trackingSampleRate;
+			trackingStackDepth = data.trackingStackDepth;
 		}
 		if (tracking) {
 			startTracking();
@@ -202,17 +239,11 @@ public void setTracking(boolean tracking) {
 }
 
 private void startTracking() {
-	errors = new Error [128];
-	objects = new Object [128];
-	trackingLock = new Object ();
+	trackedResources = new TrackedResources (trackingSampleRate, trackingStackDepth);
 }
 
 private void stopTracking() {
-	synchronized (trackingLock) {
-		objects = null;
-		errors = null;
-		trackingLock = null;
-	}
+	trackedResources = null;
 }
 
 /**
@@ -291,15 +322,8 @@ public void dispose () {
 }
 
 void dispose_Object (Object object) {
-	synchronized (trackingLock) {
-		for (int i=0; i<objects.length; i++) {
-			if (objects [i] == object) {
-				objects [i] = null;
-				errors [i] = null;
-				return;
-			}
-		}
-	}
+	TrackedResources resources = trackedResources;
+	if (resources != null) resources.remove (object);
 }
 
 static synchronized Device findDevice (long xDisplay) {
@@ -371,26 +395,17 @@ public DeviceData getDeviceData () {
 	DeviceData data = new DeviceData ();
 	data.debug = debug;
 	data.tracking = tracking;
-	if (tracking) {
-		synchronized (trackingLock) {
-			int count = 0, length = objects.length;
-			for (int i=0; i<length; i++) {
-				if (objects [i] != null) count++;
-			}
-			int index = 0;
-			data.objects = new Object [count];
-			data.errors = new Error [count];
-			for (int i=0; i<length; i++) {
-				if (objects [i] != null) {
-					data.objects [index] = objects [i];
-					data.errors [index] = errors [i];
-					index++;
-				}
-			}
-		}
+	data.trackingSampleRate = trackingSampleRate;
+	data.trackingStackDepth = trackingStackDepth;
+	TrackedResources resources = trackedResources;
+	if (resources != null) {
+		resources.getDeviceData (data);
 	} else {
 		data.objects = new Object [0];
 		data.errors = new Error [0];
+		data.allocationTypes = new String [0];
+		data.allocationSites = new StackTraceElement [0];
+		data.allocationCounts = new int [0];
 	}
 	return data;
 }
@@ -595,6 +610,39 @@ public Font getSystemFont () {
 	return systemFont;
 }
 
+GC.StringLayout getLayout (GC.TextKey key) {
+	synchronized (layouts) {
+		return layouts.get (key);
+	}
+}
+
+/**
+ * Returns the context of the shared layouts with the given direction.
+ */
+long getLayoutContext (boolean mirrored) {
+	int index = mirrored ? 1 : 0;
+	if (layoutContexts [index] == 0) {
+		long context;
+		if (GTK.GTK4) {
+			long fontMap = OS.pango_cairo_font_map_get_default ();
+			context = OS.pango_font_map_create_context (fontMap);
+		} else {
+			context = GDK.gdk_pango_context_get ();
+		}
+		if (context == 0) SWT.error (SWT.ERROR_NO_HANDLES);
+		OS.pango_context_set_language (context, GTK.gtk_get_default_language ());
+		OS.pango_context_set_base_dir (context, mirrored ? OS.PANGO_DIRECTION_RTL : OS.PANGO_DIRECTION_LTR);
+		layoutContexts [index] = context;
+	}
+	return layoutContexts [index];
+}
+
+Point getTextExtent (GC.TextKey key) {
+	synchronized (textExtents) {
+		return textExtents.get (key);
+	}
+}
+
 /**
  * Returns <code>true</code> if the underlying window system prints out
  * warning messages on the console, and <code>setWarnings</code>
@@ -911,22 +959,19 @@ long logProc (long log_domain, long log_level, long message, long user_data) {
 }
 
 void new_Object (Object object) {
-	synchronized (trackingLock) {
-		for (int i=0; i<objects.length; i++) {
-			if (objects [i] == null) {
-				objects [i] = object;
-				errors [i] = new Error ();
-				return;
-			}
-		}
-		Object [] newObjects = new Object [objects.length + 128];
-		System.arraycopy (objects, 0, newObjects, 0, objects.length);
-		newObjects [objects.length] = object;
-		objects = newObjects;
-		Error [] newErrors = new Error [errors.length + 128];
-		System.arraycopy (errors, 0, newErrors, 0, errors.length);
-		newErrors [errors.length] = new Error ();
-		errors = newErrors;
+	TrackedResources resources = trackedResources;
+	if (resources != null) resources.add (object);
+}
+
+void putLayout (GC.TextKey key, GC.StringLayout layout) {
+	synchronized (layouts) {
+		layouts.put (key, layout);
+	}
+}
+
+void putTextExtent (GC.TextKey key, Point extent) {
+	synchronized (textExtents) {
+		textExtents.put (key, extent);
 	}
 }
 
@@ -943,6 +988,38 @@ static synchronized void register (Device device) {
 	Devices = newDevices;
 }
 
+/**
+ * Destroys the surfaces kept for images, which were not reused for some time.
+ * <p>
+ * <b>IMPORTANT:</b> This method is <em>not</em> part of the SWT
+ * public API. It is marked protected only so that it can be shared
+ * within the packages provided by SWT. It should never be called
+ * from application code.
+ * </p>
+ *
+ * @noreference This method is not intended to be referenced by clients.
+ */
+protected void trimBackBuffers () {
+	backBuffers.trim ();
+}
+
+/**
+ * Forgets the layouts and extents of a font, whose handle is freed and
+ * can be reused for another font.
+ */
+void removeTextCaches (long font) {
+	synchronized (layouts) {
+		layouts.entrySet ().removeIf (entry -> {
+			if (entry.getKey ().font != font) return false;
+			OS.g_object_unref (entry.getValue ().layout);
+			return true;
+		});
+	}
+	synchronized (textExtents) {
+		textExtents.keySet ().removeIf (key -> key.font == font);
+	}
+}
+
 /**
  * Releases any internal resources back to the operating
  * system and clears all fields except the device handle.
@@ -987,6 +1064,21 @@ protected void release () {
 	if (emptyTab != 0) OS.pango_tab_array_free(emptyTab);
 	emptyTab = 0;
 
+	synchronized (layouts) {
+		for (GC.StringLayout layout : layouts.values ()) {
+			OS.g_object_unref (layout.layout);
+		}
+		layouts.clear ();
+	}
+	for (int i=0; i<layoutContexts.length; i++) {
+		if (layoutContexts [i] != 0) OS.g_object_unref (layoutContexts [i]);
+		layoutContexts [i] = 0;
+	}
+	synchronized (textExtents) {
+		textExtents.clear ();
+	}
+	backBuffers.dispose ();
+
 	/* Free the GTK error and warning handler */
 	if (xDisplay != 0) {
 		for (int i=0; i<handler_ids.length; i++) {
@@ -155,6 +155,7 @@ public Font(Device device, String name, int height, int style) {
 
 @Override
 void destroy() {
+	device.removeTextCaches(handle);
 	OS.pango_font_description_free(handle);
 	handle = 0;
 }
@@ -78,6 +78,19 @@ public final class GC extends Resource {
 	Drawable drawable;
 	GCData data;
 
+	/** The path elements written by the methods taking float coordinates */
+	long[] pathData;
+
+	/**
+	 * The layout of the current string, data.layout, when it is shared with
+	 * the other GCs of the device, see Device.layouts. Otherwise data.layout
+	 * is the layout of the GC.
+	 */
+	StringLayout stringLayout;
+	long privateLayout;
+	/** Whether the font options of the context were set, which can change the extents */
+	boolean fontOptionsSet;
+
 	/**
 	 * The current Cairo matrix, which positions widgets in the shell.
 	 * Client transformations come on top of this matrix.
@@ -117,6 +130,54 @@ public final class GC extends Resource {
 	static final float[] LINE_DASHDOT_ZERO = new float[]{9, 6, 3, 6};
 	static final float[] LINE_DASHDOTDOT_ZERO = new float[]{9, 3, 3, 3, 3, 3};
 
+	/* The kinds of the paths of a DrawList */
+	static final int LIST_DRAW = 0;
+	static final int LIST_FILL = 1;
+	static final int LIST_FILL_REGION = 2;
+	static final boolean BIG_ENDIAN = java.nio.ByteOrder.nativeOrder() == java.nio.ByteOrder.BIG_ENDIAN;
+
+	/**
+	 * Identifies the layout and the extents of a string drawn by the GCs
+	 * of a device.
+	 */
+	static final class TextKey {
+		final String string;
+		final int flags;
+		final long font;
+		final boolean mirrored;
+
+		TextKey(String string, int flags, long font, boolean mirrored) {
+			this.string = string;
+			this.flags = flags;
+			this.font = font;
+			this.mirrored = mirrored;
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			if (!(object instanceof TextKey)) return false;
+			TextKey key = (TextKey) object;
+			return flags == key.flags && font == key.font && mirrored == key.mirrored && string.equals(key.string);
+		}
+
+		@Override
+		public int hashCode() {
+			return string.hashCode() * 31 + flags + Long.hashCode(font);
+		}
+	}
+
+	/** A layout shared by the GCs of a device, with the font set on it and its extents */
+	static final class StringLayout {
+		final long layout;
+		final long font;
+		int width = -1, height = -1;
+
+		StringLayout(long layout, long font) {
+			this.layout = layout;
+			this.font = font;
+		}
+	}
+
 GC() {
 }
 
@@ -321,7 +382,14 @@ void checkGC (int mask) {
 	if ((state & FONT) != 0) {
 		if (data.layout != 0) {
 			Font font = data.font;
-			OS.pango_layout_set_font_description(data.layout, font.handle);
+			if (stringLayout == null) {
+				OS.pango_layout_set_font_description(data.layout, font.handle);
+			} else if (stringLayout.font != font.handle) {
+				/* A shared layout keeps its font, the string is laid out again by setString() */
+				releaseStringLayout();
+				data.layout = 0;
+				data.string = null;
+			}
 		}
 	}
 	if ((state & LINE_CAP) != 0) {
@@ -468,6 +536,7 @@ public void copyArea(Image image, int x, int y) {
 void copyAreaInPixels(Image image, int x, int y) {
 	long cairo = Cairo.cairo_create(image.surface);
 	if (cairo == 0) SWT.error(SWT.ERROR_NO_HANDLES);
+	image.contentsVersion++;
 	Cairo.cairo_translate(cairo, -x, -y);
 	Cairo.cairo_push_group(cairo);
 	if (data.image != null) {
@@ -628,7 +697,7 @@ void copyAreaInPixels(int srcX, int srcY, int width, int height, int destX, int
 	}
 }
 
-void createLayout() {
+void createContext() {
 	long context;
 	if (GTK.GTK4) {
 		long fontMap = OS.pango_cairo_font_map_get_default ();
@@ -638,18 +707,57 @@ void createLayout() {
 	}
 	if (context == 0) SWT.error(SWT.ERROR_NO_HANDLES);
 	data.context = context;
-	long layout = OS.pango_layout_new(context);
-	if (layout == 0) SWT.error(SWT.ERROR_NO_HANDLES);
-	data.layout = layout;
 	OS.pango_context_set_language(context, GTK.gtk_get_default_language());
 	OS.pango_context_set_base_dir(context, (data.style & SWT.MIRRORED) != 0 ? OS.PANGO_DIRECTION_RTL : OS.PANGO_DIRECTION_LTR);
+}
+
+long createLayout(long context) {
+	long layout = OS.pango_layout_new(context);
+	if (layout == 0) SWT.error(SWT.ERROR_NO_HANDLES);
 	OS.pango_layout_set_auto_dir(layout, false);
+	return layout;
+}
+
+void setLayoutText(long layout, String string, int flags) {
+	byte[] buffer;
+	int mnemonic, length = string.length ();
+	char[] text = new char[length];
+	string.getChars(0, length, text, 0);
+	if ((flags & SWT.DRAW_MNEMONIC) != 0 && (mnemonic = fixMnemonic(text)) != -1) {
+		char[] text1 = new char[mnemonic - 1];
+		System.arraycopy(text, 0, text1, 0, text1.length);
+		byte[] buffer1 = Converter.wcsToMbcs(text1, false);
+		char[] text2 = new char[text.length - mnemonic];
+		System.arraycopy(text, mnemonic - 1, text2, 0, text2.length);
+		byte[] buffer2 = Converter.wcsToMbcs(text2, false);
+		buffer = new byte[buffer1.length + buffer2.length];
+		System.arraycopy(buffer1, 0, buffer, 0, buffer1.length);
+		System.arraycopy(buffer2, 0, buffer, buffer1.length, buffer2.length);
+		long attr_list = OS.pango_attr_list_new();
+		long attr = OS.pango_attr_underline_new(OS.PANGO_UNDERLINE_LOW);
+		PangoAttribute attribute = new PangoAttribute();
+		OS.memmove(attribute, attr, PangoAttribute.sizeof);
+		attribute.start_index = buffer1.length;
+		attribute.end_index = buffer1.length + 1;
+		OS.memmove(attr, attribute, PangoAttribute.sizeof);
+		OS.pango_attr_list_insert(attr_list, attr);
+		OS.pango_layout_set_attributes(layout, attr_list);
+		OS.pango_attr_list_unref(attr_list);
+	} else {
+		buffer = Converter.wcsToMbcs(text, false);
+		OS.pango_layout_set_attributes(layout, 0);
+	}
+	OS.pango_layout_set_text(layout, buffer, buffer.length);
+	OS.pango_layout_set_single_paragraph_mode(layout, (flags & SWT.DRAW_DELIMITER) == 0);
+	OS.pango_layout_set_tabs(layout, (flags & SWT.DRAW_TAB) != 0 ? 0 : data.device.emptyTab);
 }
 
 void disposeLayout() {
 	data.string = null;
+	releaseStringLayout();
+	if (privateLayout != 0) OS.g_object_unref(privateLayout);
+	privateLayout = 0;
 	if (data.context != 0) OS.g_object_unref(data.context);
-	if (data.layout != 0) OS.g_object_unref(data.layout);
 	data.layout = data.context = 0;
 }
 
@@ -944,6 +1052,178 @@ void drawLineInPixels(int x1, int y1, int x2, int y2) {
 	Cairo.cairo_stroke(cairo);
 }
 
+/**
+ * Draws the operations recorded in the specified list, using the
+ * receiver's foreground color for outlines and the receiver's
+ * background color for interiors.
+ *
+ * @param list the list to draw
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the list is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_GRAPHIC_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see DrawList
+ *
+ * @since 3.123
+ */
+public void drawList(DrawList list) {
+	if (handle == 0) SWT.error(SWT.ERROR_GRAPHIC_DISPOSED);
+	if (list == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	if (list.isEmpty()) return;
+	/* The paths are written in native memory as the cairo_path_t and cairo_path_data_t structures of a 64 bit platform */
+	if (cairo_path_t.sizeof != 24 || cairo_path_data_t.sizeof != 16) {
+		list.replay(this);
+		return;
+	}
+	int operationCount = list.operationCount;
+	int[] operations = list.operations, coordinates = list.coordinates;
+	/* The cairo_path_t structures of the paths are followed by their elements */
+	int structures = operationCount / 2 * 3;
+	int size = structures + list.coordinateCount * 4 + operationCount * 10;
+	long[] pathData = list.pathData;
+	if (pathData == null || pathData.length < size) pathData = list.pathData = new long[size];
+	int[] paths = list.paths;
+	if (paths == null || paths.length < operationCount * 2) paths = list.paths = new int[operationCount * 2];
+	/*
+	* Outlines drawn with an opaque color are stroked together. Translucent
+	* outlines and interiors are drawn separately, as overlapping parts
+	* would be painted once in a single path.
+	*/
+	boolean merge = data.alpha == 0xFF && data.foregroundPattern == null;
+	/* The offsets of the outlines are set by checkGC(DRAW), see drawLineInPixels */
+	for (int i = 0; i < operationCount; i += 2) {
+		if (operations[i] != DrawList.FILL_POLYGON && operations[i] != DrawList.FILL_RECTANGLE) {
+			checkGC(DRAW);
+			break;
+		}
+	}
+	double xOffset = data.cairoXoffset, yOffset = data.cairoYoffset;
+	int index = structures, pathCount = 0;
+	for (int i = 0, offset = 0; i < operationCount; i += 2) {
+		int type = operations[i], count = operations[i + 1];
+		int kind = LIST_DRAW;
+		if (type == DrawList.FILL_POLYGON || type == DrawList.FILL_RECTANGLE) {
+			kind = type == DrawList.FILL_RECTANGLE && data.regionSet != 0 ? LIST_FILL_REGION : LIST_FILL;
+		}
+		if (kind != LIST_DRAW || !merge || pathCount == 0 || paths[(pathCount - 1) * 4] != LIST_DRAW) {
+			int path = pathCount++ * 4;
+			paths[path] = kind;
+			paths[path + 1] = paths[path + 2] = index;
+			paths[path + 3] = 0;
+		}
+		int path = (pathCount - 1) * 4;
+		switch (type) {
+			case DrawList.LINE:
+			case DrawList.POLYLINE:
+			case DrawList.POLYGON:
+			case DrawList.FILL_POLYGON: {
+				if (type == DrawList.LINE) paths[path + 3] = 1;
+				for (int j = 0; j < count; j += 2) {
+					double x = DPIUtil.autoScaleUp(drawable, coordinates[offset + j]) + xOffset;
+					double y = DPIUtil.autoScaleUp(drawable, coordinates[offset + j + 1]) + yOffset;
+					index = addPathPoint(pathData, index, j == 0 ? Cairo.CAIRO_PATH_MOVE_TO : Cairo.CAIRO_PATH_LINE_TO, x, y);
+				}
+				if (count > 0 && (type == DrawList.POLYGON || type == DrawList.FILL_POLYGON)) {
+					pathData[index++] = pathHeader(Cairo.CAIRO_PATH_CLOSE_PATH, 1);
+					pathData[index++] = 0;
+				}
+				break;
+			}
+			case DrawList.RECTANGLE:
+			case DrawList.FILL_RECTANGLE: {
+				if (kind == LIST_FILL_REGION) break;
+				int x1 = DPIUtil.autoScaleUp(drawable, coordinates[offset]);
+				int y1 = DPIUtil.autoScaleUp(drawable, coordinates[offset + 1]);
+				int x2 = DPIUtil.autoScaleUp(drawable, coordinates[offset + 2]);
+				int y2 = DPIUtil.autoScaleUp(drawable, coordinates[offset + 3]);
+				double x = Math.min(x1, x2), y = Math.min(y1, y2);
+				double width = Math.abs(x2 - x1), height = Math.abs(y2 - y1);
+				if (type == DrawList.RECTANGLE) {
+					x += xOffset;
+					y += yOffset;
+				}
+				index = addPathPoint(pathData, index, Cairo.CAIRO_PATH_MOVE_TO, x, y);
+				index = addPathPoint(pathData, index, Cairo.CAIRO_PATH_LINE_TO, x + width, y);
+				index = addPathPoint(pathData, index, Cairo.CAIRO_PATH_LINE_TO, x + width, y + height);
+				index = addPathPoint(pathData, index, Cairo.CAIRO_PATH_LINE_TO, x, y + height);
+				pathData[index++] = pathHeader(Cairo.CAIRO_PATH_CLOSE_PATH, 1);
+				pathData[index++] = 0;
+				break;
+			}
+		}
+		paths[path + 2] = index;
+		offset += count;
+	}
+	long address = C.malloc(index * 8L);
+	if (address == 0) SWT.error(SWT.ERROR_NO_HANDLES);
+	try {
+		for (int i = 0; i < pathCount; i++) {
+			setPath(pathData, i, address, paths[i * 4 + 1], paths[i * 4 + 2]);
+		}
+		C.memmove(address, pathData, index * 8L);
+		long cairo = data.cairo;
+		boolean antialias = Cairo.cairo_version() >= Cairo.CAIRO_VERSION_ENCODE(1, 12, 0);
+		for (int i = 0; i < pathCount; i++) {
+			switch (paths[i * 4]) {
+				case LIST_DRAW:
+					checkGC(DRAW);
+					if (antialias && paths[i * 4 + 3] != 0) {
+						Cairo.cairo_set_antialias(cairo, Cairo.CAIRO_ANTIALIAS_BEST);
+					}
+					Cairo.cairo_append_path(cairo, address + i * 24L);
+					Cairo.cairo_stroke(cairo);
+					break;
+				case LIST_FILL:
+					checkGC(FILL);
+					Cairo.cairo_append_path(cairo, address + i * 24L);
+					Cairo.cairo_fill(cairo);
+					break;
+				case LIST_FILL_REGION:
+					checkGC(FILL);
+					cairoClipRegion(cairo);
+					Cairo.cairo_fill(cairo);
+					break;
+			}
+		}
+	} finally {
+		C.free(address);
+	}
+}
+
+/**
+ * Stores the cairo_path_t structure of a path at the start of
+ * <code>pathData</code>, which is copied to <code>address</code>.
+ * The elements of the path are from <code>start</code> to
+ * <code>end</code> in <code>pathData</code>.
+ */
+static void setPath(long[] pathData, int path, long address, int start, int end) {
+	int count = (end - start) / 2;
+	/* The status is CAIRO_STATUS_SUCCESS */
+	pathData[path * 3] = 0;
+	pathData[path * 3 + 1] = address + start * 8L;
+	pathData[path * 3 + 2] = BIG_ENDIAN ? (long) count << 32 : count;
+}
+
+static int addPathPoint(long[] pathData, int index, int type, double x, double y) {
+	pathData[index++] = pathHeader(type, 2);
+	pathData[index++] = 0;
+	pathData[index++] = Double.doubleToRawLongBits(x);
+	pathData[index++] = Double.doubleToRawLongBits(y);
+	return index;
+}
+
+/**
+ * Returns the header of a cairo_path_data_t, which holds the type
+ * and length of a path element.
+ */
+static long pathHeader(int type, int length) {
+	return BIG_ENDIAN ? ((long) type << 32) | length : ((long) length << 32) | type;
+}
+
 /**
  * Draws the outline of an oval, using the foreground color,
  * within the specified rectangular area.
@@ -1094,6 +1374,39 @@ void drawPolygonInPixels(int[] pointArray) {
 	Cairo.cairo_stroke(cairo);
 }
 
+/**
+ * Draws the closed polygon which is defined by the specified array
+ * of float coordinates, using the receiver's foreground color. Lines
+ * are drawn between each consecutive point, and between the first point
+ * and last point.
+ * The points are <code>count</code> pairs of alternating x and y values
+ * in the array, starting at <code>offset</code>.
+ *
+ * @param pointArray an array of alternating x and y values which are the vertices of the polygon
+ * @param offset the index of the x value of the first point
+ * @param count the number of points
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the point array is null</li>
+ *    <li>ERROR_INVALID_RANGE - if offset or count is negative, or if the points are not within the array</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_GRAPHIC_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see #drawPolygon(int[])
+ *
+ * @since 3.123
+ */
+public void drawPolygon(float[] pointArray, int offset, int count) {
+	if (handle == 0) SWT.error(SWT.ERROR_GRAPHIC_DISPOSED);
+	checkPointArray(pointArray, offset, count);
+	checkGC(DRAW);
+	long cairo = data.cairo;
+	drawPolyline(cairo, pointArray, offset, count, true);
+	Cairo.cairo_stroke(cairo);
+}
+
 /**
  * Draws the polyline which is defined by the specified array
  * of integer coordinates, using the receiver's foreground color. The array
@@ -1135,6 +1448,80 @@ void drawPolyline(long cairo, int[] pointArray, boolean close) {
 	if (close) Cairo.cairo_close_path(cairo);
 }
 
+/**
+ * Draws the polyline which is defined by the specified array of float
+ * coordinates, using the receiver's foreground color. Lines are drawn
+ * between each consecutive point, but not between the first point and
+ * last point.
+ * The points are <code>count</code> pairs of alternating x and y values
+ * in the array, starting at <code>offset</code>.
+ *
+ * @param pointArray an array of alternating x and y values which are the corners of the polyline
+ * @param offset the index of the x value of the first point
+ * @param count the number of points
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the point array is null</li>
+ *    <li>ERROR_INVALID_RANGE - if offset or count is negative, or if the points are not within the array</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_GRAPHIC_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see #drawPolyline(int[])
+ *
+ * @since 3.123
+ */
+public void drawPolyline(float[] pointArray, int offset, int count) {
+	if (handle == 0) SWT.error(SWT.ERROR_GRAPHIC_DISPOSED);
+	checkPointArray(pointArray, offset, count);
+	checkGC(DRAW);
+	long cairo = data.cairo;
+	drawPolyline(cairo, pointArray, offset, count, false);
+	Cairo.cairo_stroke(cairo);
+}
+
+static void checkPointArray(float[] pointArray, int offset, int count) {
+	if (pointArray == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	if (offset < 0 || count < 0 || offset + count * 2L > pointArray.length) SWT.error(SWT.ERROR_INVALID_RANGE);
+}
+
+void drawPolyline(long cairo, float[] pointArray, int offset, int count, boolean close) {
+	if (count == 0) return;
+	float scale = DPIUtil.autoScaleUp(drawable, 1f);
+	double xOffset = data.cairoXoffset, yOffset = data.cairoYoffset;
+	if (cairo_path_t.sizeof != 24 || cairo_path_data_t.sizeof != 16) {
+		Cairo.cairo_move_to(cairo, pointArray[offset] * scale + xOffset, pointArray[offset + 1] * scale + yOffset);
+		for (int i = 1, j = offset + 2; i < count; i++, j += 2) {
+			Cairo.cairo_line_to(cairo, pointArray[j] * scale + xOffset, pointArray[j + 1] * scale + yOffset);
+		}
+		if (close) Cairo.cairo_close_path(cairo);
+		return;
+	}
+	/* The points are scaled into a reused buffer, which is appended to the path at once */
+	int size = 3 + count * 4 + 2;
+	long[] pathData = this.pathData;
+	if (pathData == null || pathData.length < size) pathData = this.pathData = new long[size];
+	int index = 3;
+	for (int i = 0, j = offset; i < count; i++, j += 2) {
+		double x = pointArray[j] * scale + xOffset, y = pointArray[j + 1] * scale + yOffset;
+		index = addPathPoint(pathData, index, i == 0 ? Cairo.CAIRO_PATH_MOVE_TO : Cairo.CAIRO_PATH_LINE_TO, x, y);
+	}
+	if (close) {
+		pathData[index++] = pathHeader(Cairo.CAIRO_PATH_CLOSE_PATH, 1);
+		pathData[index++] = 0;
+	}
+	long address = C.malloc(index * 8L);
+	if (address == 0) SWT.error(SWT.ERROR_NO_HANDLES);
+	try {
+		setPath(pathData, 0, address, 3, index);
+		C.memmove(address, pathData, index * 8L);
+		Cairo.cairo_append_path(cairo, address);
+	} finally {
+		C.free(address);
+	}
+}
+
 /**
  * Draws the outline of the rectangle specified by the arguments,
  * using the receiver's foreground color. The left and right edges
@@ -1759,6 +2146,38 @@ void fillPolygonInPixels(int[] pointArray) {
 	Cairo.cairo_fill(cairo);
 }
 
+/**
+ * Fills the interior of the closed polygon which is defined by the
+ * specified array of float coordinates, using the receiver's background
+ * color.
+ * The points are <code>count</code> pairs of alternating x and y values
+ * in the array, starting at <code>offset</code>.
+ *
+ * @param pointArray an array of alternating x and y values which are the vertices of the polygon
+ * @param offset the index of the x value of the first point
+ * @param count the number of points
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the point array is null</li>
+ *    <li>ERROR_INVALID_RANGE - if offset or count is negative, or if the points are not within the array</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_GRAPHIC_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see #fillPolygon(int[])
+ *
+ * @since 3.123
+ */
+public void fillPolygon(float[] pointArray, int offset, int count) {
+	if (handle == 0) SWT.error(SWT.ERROR_GRAPHIC_DISPOSED);
+	checkPointArray(pointArray, offset, count);
+	checkGC(FILL);
+	long cairo = data.cairo;
+	drawPolyline(cairo, pointArray, offset, count, true);
+	Cairo.cairo_fill(cairo);
+}
+
 /**
  * Fills the interior of the rectangle specified by the arguments,
  * using the receiver's background color.
@@ -2233,7 +2652,7 @@ public Font getFont() {
  */
 public FontMetrics getFontMetrics() {
 	if (handle == 0) SWT.error(SWT.ERROR_GRAPHIC_DISPOSED);
-	if (data.context == 0) createLayout();
+	if (data.context == 0) createContext();
 	checkGC(FONT);
 	Font font = data.font;
 	long context = data.context;
@@ -2682,6 +3101,10 @@ void computeStringSize() {
 	OS.pango_layout_get_pixel_size(data.layout, width, height);
 	data.stringHeight = height[0];
 	data.stringWidth = width[0];
+	if (stringLayout != null) {
+		stringLayout.width = width[0];
+		stringLayout.height = height[0];
+	}
 }
 
 /**
@@ -3668,45 +4091,50 @@ void setLineWidthInPixels(int lineWidth) {
 	data.state &= ~(LINE_WIDTH | DRAW_OFFSET);
 }
 
+void releaseStringLayout() {
+	if (stringLayout != null) OS.g_object_unref(stringLayout.layout);
+	stringLayout = null;
+}
+
 void setString(String string, int flags) {
-	if (data.layout == 0) createLayout();
 	if (string == data.string && (flags & ~SWT.DRAW_TRANSPARENT) == (data.drawFlags  & ~SWT.DRAW_TRANSPARENT)) {
-		return;
+		if (stringLayout == null || stringLayout.font == data.font.handle) return;
 	}
-	byte[] buffer;
-	int mnemonic, length = string.length ();
-	long layout = data.layout;
-	char[] text = new char[length];
-	string.getChars(0, length, text, 0);
-	if ((flags & SWT.DRAW_MNEMONIC) != 0 && (mnemonic = fixMnemonic(text)) != -1) {
-		char[] text1 = new char[mnemonic - 1];
-		System.arraycopy(text, 0, text1, 0, text1.length);
-		byte[] buffer1 = Converter.wcsToMbcs(text1, false);
-		char[] text2 = new char[text.length - mnemonic];
-		System.arraycopy(text, mnemonic - 1, text2, 0, text2.length);
-		byte[] buffer2 = Converter.wcsToMbcs(text2, false);
-		buffer = new byte[buffer1.length + buffer2.length];
-		System.arraycopy(buffer1, 0, buffer, 0, buffer1.length);
-		System.arraycopy(buffer2, 0, buffer, buffer1.length, buffer2.length);
-		long attr_list = OS.pango_attr_list_new();
-		long attr = OS.pango_attr_underline_new(OS.PANGO_UNDERLINE_LOW);
-		PangoAttribute attribute = new PangoAttribute();
-		OS.memmove(attribute, attr, PangoAttribute.sizeof);
-		attribute.start_index = buffer1.length;
-		attribute.end_index = buffer1.length + 1;
-		OS.memmove(attr, attribute, PangoAttribute.sizeof);
-		OS.pango_attr_list_insert(attr_list, attr);
-		OS.pango_layout_set_attributes(layout, attr_list);
-		OS.pango_attr_list_unref(attr_list);
+	/*
+	* Feature in Pango. Setting the text of a layout discards its lines, which
+	* are shaped again when it is drawn or measured. The layouts of the strings
+	* drawn recently are kept by the device, so that drawing the same strings
+	* on every paint, with a new GC every time, does not shape them again.
+	*/
+	Font font = data.font;
+	if (!fontOptionsSet && Thread.currentThread() == data.device.layoutThread) {
+		boolean mirrored = (data.style & SWT.MIRRORED) != 0;
+		TextKey key = new TextKey(string, flags & ~SWT.DRAW_TRANSPARENT, font.handle, mirrored);
+		StringLayout entry = data.device.getLayout(key);
+		if (entry == null) {
+			long layout = createLayout(data.device.getLayoutContext(mirrored));
+			setLayoutText(layout, string, flags);
+			OS.pango_layout_set_font_description(layout, font.handle);
+			entry = new StringLayout(layout, font.handle);
+			data.device.putLayout(key, entry);
+		}
+		OS.g_object_ref(entry.layout);
+		releaseStringLayout();
+		stringLayout = entry;
+		data.layout = entry.layout;
+		data.state |= FONT;
+		data.stringWidth = entry.width;
+		data.stringHeight = entry.height;
 	} else {
-		buffer = Converter.wcsToMbcs(text, false);
-		OS.pango_layout_set_attributes(layout, 0);
+		releaseStringLayout();
+		if (data.context == 0) createContext();
+		if (privateLayout == 0) privateLayout = createLayout(data.context);
+		setLayoutText(privateLayout, string, flags);
+		data.layout = privateLayout;
+		data.state &= ~FONT;
+		data.stringWidth = data.stringHeight = -1;
 	}
-	OS.pango_layout_set_text(layout, buffer, buffer.length);
-	OS.pango_layout_set_single_paragraph_mode(layout, (flags & SWT.DRAW_DELIMITER) == 0);
-	OS.pango_layout_set_tabs(layout, (flags & SWT.DRAW_TAB) != 0 ? 0 : data.device.emptyTab);
 	data.string = string;
-	data.stringWidth = data.stringHeight = -1;
 	data.drawFlags = flags;
 }
 
@@ -3753,9 +4181,15 @@ public void setTextAntialias(int antialias) {
 	initCairo();
 	long options = Cairo.cairo_font_options_create();
 	Cairo.cairo_font_options_set_antialias(options, mode);
-	if (data.context == 0) createLayout();
+	if (data.context == 0) createContext();
 	OS.pango_cairo_context_set_font_options(data.context, options);
 	Cairo.cairo_font_options_destroy(options);
+	/* The extents measured with the previous options can differ, the layouts of the device are not used */
+	fontOptionsSet = true;
+	releaseStringLayout();
+	data.layout = 0;
+	data.string = null;
+	data.stringWidth = data.stringHeight = -1;
 }
 
 /**
@@ -3914,11 +4348,19 @@ public Point textExtent(String string, int flags) {
 	return DPIUtil.autoScaleDown(drawable, textExtentInPixels(string, flags));
 }
 Point textExtentInPixels(String string, int flags) {
+	/* The extents measured by the GCs of the device are shared unless the font options were set */
+	TextKey key = null;
+	if (!fontOptionsSet) {
+		key = new TextKey(string, flags & ~SWT.DRAW_TRANSPARENT, data.font.handle, (data.style & SWT.MIRRORED) != 0);
+		Point extent = data.device.getTextExtent(key);
+		if (extent != null) return new Point(extent.x, extent.y);
+	}
 	setString(string, flags);
 	checkGC(FONT);
 	if (data.stringWidth == -1) {
 		computeStringSize();
 	}
+	if (key != null) data.device.putTextExtent(key, new Point(data.stringWidth, data.stringHeight));
 	return new Point(data.stringWidth, data.stringHeight);
 }
 
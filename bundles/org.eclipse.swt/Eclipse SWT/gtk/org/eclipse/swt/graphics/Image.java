@@ -15,11 +15,13 @@ package org.eclipse.swt.graphics;
 
 
 import java.io.*;
+import java.util.concurrent.*;
 
 import org.eclipse.swt.*;
 import org.eclipse.swt.internal.*;
 import org.eclipse.swt.internal.cairo.*;
 import org.eclipse.swt.internal.gtk.*;
+import org.eclipse.swt.widgets.*;
 
 /**
  * Instances of this class are graphics which have been prepared
@@ -115,6 +117,27 @@ public final class Image extends Resource implements Drawable {
 	 */
 	public long surface;
 
+	/**
+	 * Incremented whenever the pixels of the surface may change, so that
+	 * copies of them can be refreshed.
+	 * <p>
+	 * <b>IMPORTANT:</b> This field is <em>not</em> part of the SWT
+	 * public API. It is marked public only so that it can be shared
+	 * within the packages provided by SWT. It is not available on all
+	 * platforms and should never be accessed from application code.
+	 * </p>
+	 *
+	 * @noreference This field is not intended to be referenced by clients.
+	 */
+	public int contentsVersion;
+
+	/**
+	 * The surface taken from the back buffers of the device, which is
+	 * returned to them when the image is disposed and nothing else
+	 * references it.
+	 */
+	long backBuffer;
+
 	/**
 	 * specifies the transparent pixel
 	 */
@@ -666,6 +689,164 @@ public Image(Device device, ImageDataProvider imageDataProvider) {
 	init ();
 }
 
+/**
+ * Constructs an instance of this class from image data decoded by
+ * {@link #loadAsync(Device, ImageFileNameProvider, Executor)} for
+ * the current zoom.
+ */
+Image(Device device, ImageFileNameProvider imageFileNameProvider, ImageData data) {
+	super(device);
+	this.imageFileNameProvider = imageFileNameProvider;
+	currentDeviceZoom = DPIUtil.getDeviceZoom();
+	init(data);
+	init();
+}
+
+/**
+ * Constructs an instance of this class from a pixbuf loaded by
+ * {@link #loadAsync(Device, ImageFileNameProvider, Executor)} for
+ * the current zoom.
+ */
+Image(Device device, ImageFileNameProvider imageFileNameProvider, long pixbuf) {
+	super(device);
+	this.imageFileNameProvider = imageFileNameProvider;
+	currentDeviceZoom = DPIUtil.getDeviceZoom();
+	createFromPixbuf(SWT.BITMAP, pixbuf);
+	init();
+}
+
+/**
+ * Loads an image from the file retrieved from the ImageFileNameProvider,
+ * like {@link #Image(Device, ImageFileNameProvider)}, without blocking
+ * the user-interface thread. The file is loaded and scaled for the current
+ * zoom by the given executor, and the image is then created in one step on
+ * the user-interface thread of the display. Applications loading many images
+ * can use an executor with several threads to load them in parallel.
+ * <p>
+ * The ImageFileNameProvider is called by the threads of the executor.
+ * The returned future is completed on the user-interface thread, either
+ * with the image or with the exception the constructor would have thrown.
+ * It is completed with an <code>SWTException</code> if the display is
+ * disposed before the image is created. You must dispose the image when
+ * it is no longer required. The image is not created, or disposed
+ * immediately, when the future was cancelled.
+ * </p>
+ *
+ * @param device the device on which to create the image
+ * @param imageFileNameProvider the ImageFileNameProvider object that is
+ * to be used to get the file name
+ * @param executor the executor loading the file
+ * @return a future completed with the image
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if device is null and there is no current device</li>
+ *    <li>ERROR_NULL_ARGUMENT - if the ImageFileNameProvider or the executor is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_DEVICE_DISPOSED - if the device has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the user-interface thread of the display</li>
+ * </ul>
+ * @since 3.123
+ */
+public static CompletableFuture<Image> loadAsync(Device device, ImageFileNameProvider imageFileNameProvider, Executor executor) {
+	if (device == null) device = Display.getCurrent();
+	if (device == null || imageFileNameProvider == null || executor == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	if (device.isDisposed()) SWT.error(SWT.ERROR_DEVICE_DISPOSED);
+	Display display = Display.getCurrent();
+	if (display == null || (device instanceof Display && device != display)) SWT.error(SWT.ERROR_THREAD_INVALID_ACCESS);
+	Device target = device;
+	int zoom = DPIUtil.getDeviceZoom();
+	CompletableFuture<Image> future = new CompletableFuture<>();
+	completeOnDispose(display, future);
+	executor.execute(() -> {
+		if (future.isDone()) return;
+		long pixbuf = 0;
+		ImageData data = null;
+		boolean scale = false;
+		Throwable error = null;
+		try {
+			boolean[] found = new boolean[1];
+			String filename = DPIUtil.validateAndGetImagePathAtZoom(imageFileNameProvider, zoom, found);
+			if (found[0]) {
+				/* Like the constructor, load the file natively first */
+				pixbuf = GDK.gdk_pixbuf_new_from_file(Converter.javaStringToCString(filename), null);
+			}
+			if (pixbuf == 0) {
+				data = new ImageData(filename);
+				if (!found[0]) {
+					/* Smooth scaling draws with a GC and is left to the user-interface thread */
+					if (DPIUtil.isAutoScaleThreadSafe()) {
+						data = DPIUtil.autoScaleUp(target, data);
+					} else {
+						scale = true;
+					}
+				}
+			}
+		} catch (RuntimeException | SWTError e) {
+			error = e;
+		}
+		long loaded = pixbuf;
+		ImageData decoded = data;
+		boolean scaleDecoded = scale;
+		Throwable loadError = error;
+		try {
+			display.asyncExec(() -> {
+				try {
+					if (future.isDone()) return;
+					if (loadError != null) {
+						future.completeExceptionally(loadError);
+						return;
+					}
+					Image image;
+					try {
+						if (zoom != DPIUtil.getDeviceZoom()) {
+							image = new Image(target, imageFileNameProvider);
+						} else if (loaded != 0) {
+							image = new Image(target, imageFileNameProvider, loaded);
+						} else {
+							image = new Image(target, imageFileNameProvider, scaleDecoded ? DPIUtil.autoScaleUp(target, decoded) : decoded);
+						}
+					} catch (RuntimeException | SWTError e) {
+						future.completeExceptionally(e);
+						return;
+					}
+					if (!future.complete(image)) image.dispose();
+				} finally {
+					if (loaded != 0) OS.g_object_unref(loaded);
+				}
+			});
+		} catch (SWTException e) {
+			if (loaded != 0) OS.g_object_unref(loaded);
+			future.completeExceptionally(e);
+		}
+	});
+	return future;
+}
+
+/**
+ * Completes the future of {@link #loadAsync(Device, ImageFileNameProvider, Executor)}
+ * when the display is disposed first, the runnables posted to create the image
+ * do not run anymore then.
+ */
+static void completeOnDispose(Display display, CompletableFuture<Image> future) {
+	Listener listener = event -> future.completeExceptionally(new SWTException(SWT.ERROR_DEVICE_DISPOSED));
+	display.addListener(SWT.Dispose, listener);
+	future.whenComplete((image, error) -> {
+		Runnable remove = () -> {
+			if (!display.isDisposed()) display.removeListener(SWT.Dispose, listener);
+		};
+		if (display.getThread() == Thread.currentThread()) {
+			remove.run();
+		} else {
+			try {
+				display.asyncExec(remove);
+			} catch (SWTException e) {
+				/* The display is disposed already */
+			}
+		}
+	});
+}
+
 /**
  * Refreshes the image for the current device scale factor.
  * <p>
@@ -897,8 +1078,17 @@ void destroyMask() {
 void destroy() {
 	if (memGC != null) memGC.dispose();
 	if (mask != 0) OS.g_object_unref(mask);
-	if (surface != 0) Cairo.cairo_surface_destroy(surface);
-	surface = mask = 0;
+	if (surface != 0) {
+		/*
+		* Widgets and patterns may still reference the surface, it is only
+		* reused when the image is its sole owner.
+		*/
+		boolean reuse = surface == backBuffer && Cairo.cairo_surface_get_reference_count(surface) == 1;
+		if (!reuse || !device.backBuffers.release(surface, Cairo.CAIRO_FORMAT_RGB24, width, height, currentDeviceZoom)) {
+			Cairo.cairo_surface_destroy(surface);
+		}
+	}
+	surface = mask = backBuffer = 0;
 	memGC = null;
 }
 
@@ -1220,21 +1410,26 @@ void init(int width, int height) {
 	}
 	this.type = SWT.BITMAP;
 
-	/* Create the pixmap */
-	if (GTK.GTK4) {
-		surface = Cairo.cairo_image_surface_create(Cairo.CAIRO_FORMAT_RGB24, width, height);
-	} else {
-		surface = GDK.gdk_window_create_similar_surface(GDK.gdk_get_default_root_window(), Cairo.CAIRO_CONTENT_COLOR, width, height);
-	}
-	if (surface == 0) SWT.error(SWT.ERROR_NO_HANDLES);
 	// When we create a blank image we need to set it to 100 in GTK3 as we draw using 100% scale.
 	// Cairo will take care of scaling for us when image needs to be scaled.
+	currentDeviceZoom = DPIUtil.useCairoAutoScale() ? 100 : DPIUtil.getDeviceZoom();
+
+	/* Reuse the surface of an image disposed recently, it is cleared below */
+	surface = device.backBuffers.acquire(Cairo.CAIRO_FORMAT_RGB24, width, height, currentDeviceZoom);
+	if (surface == 0) {
+		/* Create the pixmap */
+		if (GTK.GTK4) {
+			surface = Cairo.cairo_image_surface_create(Cairo.CAIRO_FORMAT_RGB24, width, height);
+		} else {
+			surface = GDK.gdk_window_create_similar_surface(GDK.gdk_get_default_root_window(), Cairo.CAIRO_CONTENT_COLOR, width, height);
+		}
+		if (surface == 0) SWT.error(SWT.ERROR_NO_HANDLES);
+	}
+	/* A reused surface may have been scaled by a GC, see GC.fillGradientRectangle() */
 	if (DPIUtil.useCairoAutoScale()) {
-		currentDeviceZoom = 100;
 		Cairo.cairo_surface_set_device_scale(surface, 1f, 1f);
-	} else {
-		currentDeviceZoom = DPIUtil.getDeviceZoom();
 	}
+	backBuffer = surface;
 	long cairo = Cairo.cairo_create(surface);
 	if (cairo == 0) SWT.error(SWT.ERROR_NO_HANDLES);
 	Cairo.cairo_set_source_rgb(cairo, 1, 1, 1);
@@ -1411,6 +1606,7 @@ public long internal_new_GC (GCData data) {
 		SWT.error(SWT.ERROR_INVALID_ARGUMENT);
 	}
 	long gc = Cairo.cairo_create(surface);
+	contentsVersion++;
 	if (data != null) {
 		int mask = SWT.LEFT_TO_RIGHT | SWT.RIGHT_TO_LEFT;
 		if ((data.style & mask) == 0) {
@@ -1447,6 +1643,7 @@ public long internal_new_GC (GCData data) {
 @Override
 public void internal_dispose_GC (long hDC, GCData data) {
 	Cairo.cairo_destroy(hDC);
+	contentsVersion++;
 }
 
 /**
@@ -17,6 +17,7 @@ package org.eclipse.swt.internal;
 import java.io.*;
 import java.nio.*;
 import java.nio.charset.*;
+import java.util.*;
 
 import org.eclipse.swt.internal.gtk.*;
 
@@ -119,6 +120,151 @@ public final class Converter {
 	public static final byte [] EmptyByteArray = new byte [0];
 	public static final char [] EmptyCharArray = new char [0];
 
+	/*
+	* Every label, item and tooltip goes through the conversions below, so
+	* well-formed strings are converted in Java without a native round trip.
+	* Anything the strict UTF-8/UTF-16 coders reject falls back to glib, which
+	* keeps its handling of unpaired surrogates and malformed input.
+	*
+	* The scratch buffers are reused by the conversions of one thread, larger
+	* strings use temporary buffers so that no thread holds on to them.
+	*/
+	static final int MAX_SCRATCH = 16 * 1024;
+	static final ThreadLocal<byte []> ByteScratch = ThreadLocal.withInitial (() -> new byte [256]);
+	static final ThreadLocal<char []> CharScratch = ThreadLocal.withInitial (() -> new char [256]);
+
+static byte [] byteScratch (int length) {
+	if (length > MAX_SCRATCH) return new byte [length];
+	byte [] scratch = ByteScratch.get ();
+	if (scratch.length < length) ByteScratch.set (scratch = new byte [Math.max (length, scratch.length * 2)]);
+	return scratch;
+}
+
+static char [] charScratch (int length) {
+	if (length > MAX_SCRATCH) return new char [length];
+	char [] scratch = CharScratch.get ();
+	if (scratch.length < length) CharScratch.set (scratch = new char [Math.max (length, scratch.length * 2)]);
+	return scratch;
+}
+
+/**
+ * Returns the number of bytes of the UTF-8 encoding of the characters up to
+ * <code>end</code>, or -1 if they contain an unpaired surrogate.
+ */
+static int utf8Length (CharSequence string, int end) {
+	int length = end;
+	for (int i = 0; i < end; i++) {
+		char ch = string.charAt (i);
+		if (ch < 0x80) continue;
+		if (ch < 0x800) {
+			length++;
+		} else if (Character.isSurrogate (ch)) {
+			if (!Character.isHighSurrogate (ch) || i + 1 == end || !Character.isLowSurrogate (string.charAt (i + 1))) return -1;
+			length += 2;
+			i++;
+		} else {
+			length += 2;
+		}
+	}
+	return length;
+}
+
+/**
+ * Encodes the characters up to <code>end</code>, which must not contain an
+ * unpaired surrogate, and returns the index after the last byte written.
+ */
+static int utf8Encode (CharSequence string, int end, byte [] bytes, int offset) {
+	int j = offset;
+	for (int i = 0; i < end; i++) {
+		char ch = string.charAt (i);
+		if (ch < 0x80) {
+			bytes [j++] = (byte) ch;
+		} else if (ch < 0x800) {
+			bytes [j++] = (byte) (0xC0 | (ch >> 6));
+			bytes [j++] = (byte) (0x80 | (ch & 0x3F));
+		} else if (Character.isHighSurrogate (ch)) {
+			int codePoint = Character.toCodePoint (ch, string.charAt (++i));
+			bytes [j++] = (byte) (0xF0 | (codePoint >> 18));
+			bytes [j++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+			bytes [j++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+			bytes [j++] = (byte) (0x80 | (codePoint & 0x3F));
+		} else {
+			bytes [j++] = (byte) (0xE0 | (ch >> 12));
+			bytes [j++] = (byte) (0x80 | ((ch >> 6) & 0x3F));
+			bytes [j++] = (byte) (0x80 | (ch & 0x3F));
+		}
+	}
+	return j;
+}
+
+/**
+ * Decodes the first <code>length</code> bytes, which must not contain a null
+ * character, into <code>chars</code> and returns the number of characters,
+ * or -1 if the bytes are not well-formed UTF-8. The characters are never
+ * more than the bytes.
+ */
+static int utf8Decode (byte [] bytes, int length, char [] chars) {
+	int i = 0, j = 0;
+	while (i < length) {
+		int b0 = bytes [i];
+		if (b0 >= 0) {
+			chars [j++] = (char) b0;
+			i++;
+			continue;
+		}
+		b0 &= 0xFF;
+		if (b0 < 0xC2) return -1;
+		if (b0 < 0xE0) {
+			if (i + 1 >= length) return -1;
+			int b1 = bytes [i + 1];
+			if ((b1 & 0xC0) != 0x80) return -1;
+			chars [j++] = (char) (((b0 & 0x1F) << 6) | (b1 & 0x3F));
+			i += 2;
+		} else if (b0 < 0xF0) {
+			if (i + 2 >= length) return -1;
+			int b1 = bytes [i + 1], b2 = bytes [i + 2];
+			if ((b1 & 0xC0) != 0x80 || (b2 & 0xC0) != 0x80) return -1;
+			int ch = ((b0 & 0x0F) << 12) | ((b1 & 0x3F) << 6) | (b2 & 0x3F);
+			if (ch < 0x800 || Character.isSurrogate ((char) ch)) return -1;
+			chars [j++] = (char) ch;
+			i += 3;
+		} else if (b0 < 0xF5) {
+			if (i + 3 >= length) return -1;
+			int b1 = bytes [i + 1], b2 = bytes [i + 2], b3 = bytes [i + 3];
+			if ((b1 & 0xC0) != 0x80 || (b2 & 0xC0) != 0x80 || (b3 & 0xC0) != 0x80) return -1;
+			int codePoint = ((b0 & 0x07) << 18) | ((b1 & 0x3F) << 12) | ((b2 & 0x3F) << 6) | (b3 & 0x3F);
+			if (codePoint < 0x10000 || codePoint > Character.MAX_CODE_POINT) return -1;
+			chars [j++] = Character.highSurrogate (codePoint);
+			chars [j++] = Character.lowSurrogate (codePoint);
+			i += 4;
+		} else {
+			return -1;
+		}
+	}
+	return j;
+}
+
+static int nullIndex (byte [] bytes, int length) {
+	for (int i = 0; i < length; i++) {
+		if (bytes [i] == 0) return i;
+	}
+	return length;
+}
+
+static int nullIndex (CharSequence string) {
+	int length = string.length ();
+	for (int i = 0; i < length; i++) {
+		if (string.charAt (i) == 0) return i;
+	}
+	return length;
+}
+
+static boolean isAscii (byte [] bytes, int length) {
+	for (int i = 0; i < length; i++) {
+		if (bytes [i] < 0) return false;
+	}
+	return true;
+}
 
 /**
  * Convert a "C" multibyte UTF-8 string byte array into a Java UTF-16 Wide character array.
@@ -127,11 +273,20 @@ public final class Converter {
  * @return char array representing the string. Usually used for String construction like: new String(mbcsToWcs(..))
  */
 public static char [] mbcsToWcs (byte [] buffer) {
+	/*
+	* Note that g_utf8_to_utf16() stops converting
+	* when it finds the first NULL.
+	*/
+	int length = nullIndex (buffer, buffer.length);
+	if (length == 0) return EmptyCharArray;
+	char [] chars = charScratch (length);
+	int count = utf8Decode (buffer, length, chars);
+	if (count != -1) return Arrays.copyOf (chars, count);
 	long [] items_written = new long [1];
 	long ptr = OS.g_utf8_to_utf16 (buffer, buffer.length, null, items_written, null);
 	if (ptr == 0) return EmptyCharArray;
-	int length = (int)items_written [0];
-	char [] chars = new char [length];
+	length = (int)items_written [0];
+	chars = new char [length];
 	C.memmove (chars, ptr, length * 2);
 	OS.g_free (ptr);
 	return chars;
@@ -149,10 +304,53 @@ public static char [] mbcsToWcs (byte [] buffer) {
  * @return byte array that can be passed to a native function.
  */
 public static byte [] wcsToMbcs (String string, boolean terminate) {
-	int length = string.length ();
-	char [] buffer = new char [length];
-	string.getChars (0, length, buffer, 0);
-	return wcsToMbcs (buffer, terminate);
+	int end = nullIndex (string);
+	int length = utf8Length (string, end);
+	if (length == -1) return nativeWcsToMbcs (string.toCharArray (), terminate);
+	if (length == 0) return terminate ? new byte [1] : EmptyByteArray;
+	byte [] bytes = new byte [length + (terminate ? 1 : 0)];
+	utf8Encode (string, end, bytes, 0);
+	return bytes;
+}
+
+/**
+ * Convert a Java UTF-16 Wide character sequence into C UTF-8 Multibyte bytes
+ * written at the position of the given buffer, which is advanced past them.
+ * A direct buffer lets callers stage strings in memory shared with natives
+ * without an intermediate byte array per string.
+ *
+ * This algorithm stops when it finds the first NULL character, like {@link #wcsToMbcs(String, boolean)}.
+ *
+ * @param string - the characters to convert
+ * @param buffer - the buffer receiving the bytes
+ * @param terminate - if <code>true</code> the bytes should be terminated with a null character.
+ * @return the number of bytes written, including the null character.
+ * @throws BufferOverflowException if the bytes do not fit in the remaining buffer.
+ */
+public static int wcsToMbcs (CharSequence string, ByteBuffer buffer, boolean terminate) {
+	int end = nullIndex (string);
+	int length = utf8Length (string, end);
+	if (length == -1) {
+		char [] chars = new char [end];
+		for (int i = 0; i < end; i++) chars [i] = string.charAt (i);
+		byte [] bytes = nativeWcsToMbcs (chars, terminate);
+		buffer.put (bytes);
+		return bytes.length;
+	}
+	int count = length + (terminate ? 1 : 0);
+	if (buffer.remaining () < count) throw new BufferOverflowException ();
+	if (buffer.hasArray ()) {
+		int offset = buffer.arrayOffset () + buffer.position ();
+		utf8Encode (string, end, buffer.array (), offset);
+		if (terminate) buffer.array () [offset + length] = 0;
+		buffer.position (buffer.position () + count);
+	} else {
+		byte [] bytes = byteScratch (count);
+		utf8Encode (string, end, bytes, 0);
+		if (terminate) bytes [length] = 0;
+		buffer.put (bytes, 0, count);
+	}
+	return count;
 }
 
 /**
@@ -182,12 +380,16 @@ public static byte [] javaStringToCString (String string) {
  */
 public static String cCharPtrToJavaString(long cCharPtr, boolean freecCharPtr) {
 	int length = C.strlen (cCharPtr);
-	byte[] buffer = new byte [length];
+	byte[] buffer = byteScratch (length);
 	C.memmove (buffer, cCharPtr, length);
 	if (freecCharPtr) {
 		OS.g_free (cCharPtr);
 	}
-	return new String (mbcsToWcs (buffer));
+	if (isAscii (buffer, length)) return new String (buffer, 0, length, StandardCharsets.ISO_8859_1);
+	char [] chars = charScratch (length);
+	int count = utf8Decode (buffer, length, chars);
+	if (count != -1) return new String (chars, 0, count);
+	return new String (mbcsToWcs (Arrays.copyOf (buffer, length)));
 }
 
 /**
@@ -201,6 +403,17 @@ public static String cCharPtrToJavaString(long cCharPtr, boolean freecCharPtr) {
  * @return byte array that can be passed to a native function.
  */
 public static byte [] wcsToMbcs (char [] chars, boolean terminate) {
+	CharBuffer string = CharBuffer.wrap (chars);
+	int end = nullIndex (string);
+	int length = utf8Length (string, end);
+	if (length == -1) return nativeWcsToMbcs (chars, terminate);
+	if (length == 0) return terminate ? new byte [1] : EmptyByteArray;
+	byte [] bytes = new byte [length + (terminate ? 1 : 0)];
+	utf8Encode (string, end, bytes, 0);
+	return bytes;
+}
+
+static byte [] nativeWcsToMbcs (char [] chars, boolean terminate) {
 	long [] items_read = new long [1], items_written = new long [1];
 	/*
 	* Note that g_utf16_to_utf8()  stops converting
@@ -14,6 +14,8 @@
 package org.eclipse.swt.internal;
 
 
+import java.util.*;
+
 import org.eclipse.swt.*;
 import org.eclipse.swt.graphics.*;
 import org.eclipse.swt.internal.cairo.*;
@@ -23,10 +25,43 @@ public class ImageList {
 	long [] surfaces;
 	int width = -1, height = -1;
 	Image [] images;
+	/* Slot of each image and of each surface, replaces linear scans over the arrays */
+	Map<Image, Integer> imageIndices = new IdentityHashMap<> ();
+	LongMap<Integer> surfaceIndices = new LongMap<> ();
+	/* Index below which all slots are in use */
+	int firstFree;
+
+	/*
+	 * Pixbufs created from the surfaces, shared by all items showing the same
+	 * image. Each holds a reference owned by the list; items take their own
+	 * reference, so evicting a pixbuf never affects items that still use it.
+	 * A pixbuf is recreated when the zoom or the contents of its image change.
+	 */
+	long [] pixbufs;
+	int [] pixbufZooms, pixbufVersions;
+	/* The slots with a pixbuf, linked from the least to the most recently used */
+	int [] pixbufPrev, pixbufNext;
+	int pixbufHead = -1, pixbufTail = -1, pixbufCount;
+	static final int MAX_PIXBUFS = 256;
+
+	/* Maps (alpha << 8 | premultiplied component) to the unpremultiplied component */
+	static final byte [] UNPREMULTIPLY = new byte [256 * 256];
+	static {
+		for (int a = 1; a < 256; a++) {
+			for (int c = 0; c < 256; c++) {
+				UNPREMULTIPLY [(a << 8) | c] = (byte) Math.min (0xFF, ((c * 0xFF) + a / 2) / a);
+			}
+		}
+	}
 
 public ImageList() {
 	images = new Image [4];
 	surfaces = new long [4];
+	pixbufs = new long [4];
+	pixbufZooms = new int [4];
+	pixbufVersions = new int [4];
+	pixbufPrev = new int [4];
+	pixbufNext = new int [4];
 }
 
 public static long convertSurface(Image image) {
@@ -65,55 +100,7 @@ public static long convertSurface(Image image) {
 }
 
 public static long createPixbuf(long surface) {
-	int format = Cairo.cairo_image_surface_get_format(surface);
-	int width = Cairo.cairo_image_surface_get_width(surface);
-	int height = Cairo.cairo_image_surface_get_height(surface);
-	boolean hasAlpha = format == Cairo.CAIRO_FORMAT_ARGB32;
-	long pixbuf = GDK.gdk_pixbuf_new (GDK.GDK_COLORSPACE_RGB, hasAlpha, 8, width, height);
-	if (pixbuf == 0) SWT.error (SWT.ERROR_NO_HANDLES);
-	int stride = GDK.gdk_pixbuf_get_rowstride (pixbuf);
-	long pixels = GDK.gdk_pixbuf_get_pixels (pixbuf);
-	int oa, or, og, ob;
-	if (OS.BIG_ENDIAN) {
-		oa = 0; or = 1; og = 2; ob = 3;
-	} else {
-		oa = 3; or = 2; og = 1; ob = 0;
-	}
-	byte[] line = new byte[stride];
-	long surfaceData = Cairo.cairo_image_surface_get_data(surface);
-	if (hasAlpha) {
-		for (int y = 0; y < height; y++) {
-			C.memmove (line, surfaceData + (y * stride), stride);
-			for (int x = 0, offset = 0; x < width; x++, offset += 4) {
-				int a = line[offset + oa] & 0xFF;
-				int r = line[offset + or] & 0xFF;
-				int g = line[offset + og] & 0xFF;
-				int b = line[offset + ob] & 0xFF;
-				line[offset + 3] = (byte)a;
-				if (a != 0) {
-					line[offset + 0] = (byte)(((r * 0xFF) + a / 2) / a);
-					line[offset + 1] = (byte)(((g * 0xFF) + a / 2) / a);
-					line[offset + 2] = (byte)(((b * 0xFF) + a / 2) / a);
-				}
-			}
-			C.memmove (pixels + (y * stride), line, stride);
-		}
-	} else {
-		int cairoStride = Cairo.cairo_image_surface_get_stride(surface);
-		byte[] cairoLine = new byte[cairoStride];
-		for (int y = 0; y < height; y++) {
-			C.memmove (cairoLine, surfaceData + (y * cairoStride), cairoStride);
-			for (int x = 0, offset = 0, cairoOffset = 0; x < width; x++, offset += 3, cairoOffset += 4) {
-				byte r = cairoLine[cairoOffset + or];
-				byte g = cairoLine[cairoOffset + og];
-				byte b = cairoLine[cairoOffset + ob];
-				line[offset + 0] = r;
-				line[offset + 1] = g;
-				line[offset + 2] = b;
-			}
-			C.memmove (pixels + (y * stride), line, stride);
-		}
-	}
+	long pixbuf = copyPixels(surface);
 	/*
 	 * At this point the new pixbuf is created with the same size as surface.
 	 * if the surface has higher device scale we need to down size pixbuf accordingly
@@ -125,6 +112,8 @@ public static long createPixbuf(long surface) {
 		double sy[] = new double[1];
 		Cairo.cairo_surface_get_device_scale(surface, sx, sy);
 		if (sx[0] > 1 && sy[0] > 1){
+			int width = Cairo.cairo_image_surface_get_width(surface);
+			int height = Cairo.cairo_image_surface_get_height(surface);
 			long oldPixbuf = pixbuf;
 			pixbuf = GDK.gdk_pixbuf_scale_simple(pixbuf, width/(int)sx[0], height/(int)sy[0], GDK.GDK_INTERP_BILINEAR);
 			OS.g_object_unref(oldPixbuf);
@@ -135,6 +124,12 @@ public static long createPixbuf(long surface) {
 
 public static long createPixbuf(Image image) {
 	long surface = convertSurface(image);
+	long pixbuf = copyPixels(surface);
+	Cairo.cairo_surface_destroy(surface);
+	return pixbuf;
+}
+
+static long copyPixels(long surface) {
 	int format = Cairo.cairo_image_surface_get_format(surface);
 	int width = Cairo.cairo_image_surface_get_width(surface);
 	int height = Cairo.cairo_image_surface_get_height(surface);
@@ -160,10 +155,15 @@ public static long createPixbuf(Image image) {
 				int g = line[offset + og] & 0xFF;
 				int b = line[offset + ob] & 0xFF;
 				line[offset + 3] = (byte)a;
-				if (a != 0) {
-					line[offset + 0] = (byte)(((r * 0xFF) + a / 2) / a);
-					line[offset + 1] = (byte)(((g * 0xFF) + a / 2) / a);
-					line[offset + 2] = (byte)(((b * 0xFF) + a / 2) / a);
+				if (a == 0xFF) {
+					line[offset + 0] = (byte)r;
+					line[offset + 1] = (byte)g;
+					line[offset + 2] = (byte)b;
+				} else if (a != 0) {
+					int row = a << 8;
+					line[offset + 0] = UNPREMULTIPLY[row | r];
+					line[offset + 1] = UNPREMULTIPLY[row | g];
+					line[offset + 2] = UNPREMULTIPLY[row | b];
 				}
 			}
 			C.memmove (pixels + (y * stride), line, stride);
@@ -184,68 +184,119 @@ public static long createPixbuf(Image image) {
 			C.memmove (pixels + (y * stride), line, stride);
 		}
 	}
-	Cairo.cairo_surface_destroy(surface);
 	return pixbuf;
 }
 
 public int add (Image image) {
-	int index = 0;
-	while (index < images.length) {
-		if (images [index] != null) {
-			if (images [index].isDisposed ()) {
-				Cairo.cairo_surface_destroy (surfaces [index]);
-				images [index] = null;
-				surfaces [index] = 0;
+	int index = firstFree;
+	while (index < images.length && images [index] != null) index++;
+	if (index == images.length) {
+		/* Reclaim the slots of disposed images before growing */
+		for (int i = 0; i < images.length; i++) {
+			if (images [i] != null && images [i].isDisposed ()) {
+				clear (i);
+				if (i < index) index = i;
 			}
 		}
-		if (images [index] == null) break;
-		index++;
 	}
 	if (index == images.length) {
-		Image [] newImages = new Image [images.length + 4];
+		int length = images.length + Math.max (4, images.length / 2);
+		Image [] newImages = new Image [length];
 		System.arraycopy (images, 0, newImages, 0, images.length);
 		images = newImages;
-		long [] newPixbufs = new long [surfaces.length + 4];
-		System.arraycopy (surfaces, 0, newPixbufs, 0, surfaces.length);
-		surfaces = newPixbufs;
+		long [] newSurfaces = new long [length];
+		System.arraycopy (surfaces, 0, newSurfaces, 0, surfaces.length);
+		surfaces = newSurfaces;
+		pixbufs = Arrays.copyOf (pixbufs, length);
+		pixbufZooms = Arrays.copyOf (pixbufZooms, length);
+		pixbufVersions = Arrays.copyOf (pixbufVersions, length);
+		pixbufPrev = Arrays.copyOf (pixbufPrev, length);
+		pixbufNext = Arrays.copyOf (pixbufNext, length);
 	}
 	set (index, image);
+	firstFree = index + 1;
 	return index;
 }
 
+void clear (int index) {
+	if (images [index] != null) imageIndices.remove (images [index], index);
+	if (surfaces [index] != 0) {
+		surfaceIndices.remove (surfaces [index]);
+		Cairo.cairo_surface_destroy (surfaces [index]);
+	}
+	releasePixbuf (index);
+	images [index] = null;
+	surfaces [index] = 0;
+	firstFree = Math.min (firstFree, index);
+}
+
 public void dispose () {
 	if (surfaces == null) return;
 	for (int index = 0; index < surfaces.length; index++) {
 		long surface = surfaces[index];
 		if (surface != 0) Cairo.cairo_surface_destroy(surface);
+		releasePixbuf (index);
 	}
 
 	images = null;
 	surfaces = null;
+	pixbufs = null;
+	imageIndices = null;
+	surfaceIndices = null;
 }
 
 public Image get(int index) {
 	return images[index];
 }
 
+/**
+ * Returns a pixbuf of the image at the index. The caller owns
+ * a reference to the pixbuf and must unreference it.
+ */
+public long getPixbuf(int index) {
+	int zoom = DPIUtil.getDeviceZoom ();
+	int version = images [index].contentsVersion;
+	long pixbuf = pixbufs [index];
+	if (pixbuf != 0 && (pixbufZooms [index] != zoom || pixbufVersions [index] != version)) {
+		releasePixbuf (index);
+		pixbuf = 0;
+	}
+	if (pixbuf == 0) {
+		if (pixbufCount == MAX_PIXBUFS) releasePixbuf (pixbufHead);
+		pixbuf = pixbufs [index] = createPixbuf (surfaces [index]);
+		pixbufZooms [index] = zoom;
+		pixbufVersions [index] = version;
+		pixbufCount++;
+	} else {
+		unlinkPixbuf (index);
+	}
+	/* Move the slot to the tail, the most recently used */
+	pixbufPrev [index] = pixbufTail;
+	pixbufNext [index] = -1;
+	if (pixbufTail != -1) {
+		pixbufNext [pixbufTail] = index;
+	} else {
+		pixbufHead = index;
+	}
+	pixbufTail = index;
+	OS.g_object_ref (pixbuf);
+	return pixbuf;
+}
+
 public long getSurface(int index) {
 	return surfaces[index];
 }
 
 public int indexOf (Image image) {
 	if (image == null) return -1;
-	for (int index=0; index<images.length; index++) {
-		if (image == images [index]) return index;
-	}
-	return -1;
+	Integer index = imageIndices.get (image);
+	return index != null ? index.intValue () : -1;
 }
 
 public int indexOf (long pixbuf) {
 	if (pixbuf == 0) return -1;
-	for (int index=0; index<images.length; index++) {
-		if (pixbuf == surfaces [index]) return index;
-	}
-	return -1;
+	Integer index = surfaceIndices.get (pixbuf);
+	return index != null ? index.intValue () : -1;
 }
 
 public boolean isDisposed () {
@@ -259,24 +310,38 @@ public void put (int index, Image image) {
 	if (image != null) {
 		set (index, image);
 	} else {
-		images [index] = null;
-		if (surfaces [index] != 0) Cairo.cairo_surface_destroy (surfaces [index]);
-		surfaces [index] = 0;
+		clear (index);
 	}
 }
 
-public void remove(Image image) {
-	if (image == null) return;
-	for (int index = 0; index < images.length; index++) {
-		if (image == images[index]) {
-			images [index] = null;
+void releasePixbuf (int index) {
+	if (pixbufs [index] != 0) {
+		OS.g_object_unref (pixbufs [index]);
+		pixbufs [index] = 0;
+		pixbufCount--;
+		unlinkPixbuf (index);
+	}
+}
 
-			Cairo.cairo_surface_destroy (surfaces[index]);
-			surfaces[index] = 0;
-		}
+void unlinkPixbuf (int index) {
+	int prev = pixbufPrev [index], next = pixbufNext [index];
+	if (prev != -1) {
+		pixbufNext [prev] = next;
+	} else {
+		pixbufHead = next;
+	}
+	if (next != -1) {
+		pixbufPrev [next] = prev;
+	} else {
+		pixbufTail = prev;
 	}
 }
 
+public void remove(Image image) {
+	int index = indexOf (image);
+	if (index != -1) clear (index);
+}
+
 void set (int index, Image image) {
 	long surface = convertSurface(image);
 	int w = Cairo.cairo_image_surface_get_width(surface);
@@ -317,13 +382,11 @@ void set (int index, Image image) {
 		surface = scaleSurface(image, width, height);
 	}
 
-	long oldSurface = surfaces[index];
-	if (oldSurface != 0) {
-		Cairo.cairo_surface_destroy(oldSurface);
-	}
-
+	clear (index);
 	surfaces [index] = surface;
 	images [index] = image;
+	imageIndices.put (image, index);
+	surfaceIndices.put (surface, index);
 }
 
 long scaleSurface(Image image, int width, int height) {
@@ -72,6 +72,8 @@ public class Composite extends Scrollable {
 	Layout layout;
 	Control[] tabList;
 	int layoutCount, backgroundMode;
+	/* Number of deferred layout requests queued in Display.addLayoutDeferred() */
+	int layoutDeferredRequests;
 	/**
 	 * When this field is set, it indicates that a child widget of this Composite
 	 * needs to have its clip set to its allocation. This is because on GTK3.20+
@@ -266,6 +268,7 @@ Point computeSizeInPixels (int wHint, int hHint, boolean changed) {
 	if (layout != null) {
 		if (wHint == SWT.DEFAULT || hHint == SWT.DEFAULT) {
 			changed |= (state & LAYOUT_CHANGED) != 0;
+			display.computeSizesPerformed++;
 			size = DPIUtil.autoScaleUp(layout.computeSize (this, DPIUtil.autoScaleDown(wHint), DPIUtil.autoScaleDown(hHint), changed));
 			state &= ~LAYOUT_CHANGED;
 		} else {
@@ -1864,6 +1867,7 @@ void updateLayout (boolean all) {
 		boolean changed = (state & LAYOUT_CHANGED) != 0;
 		state &= ~(LAYOUT_NEEDED | LAYOUT_CHANGED);
 		display.runSkin();
+		display.layoutsPerformed++;
 		layout.layout (this, changed);
 	}
 	if (all) {
@@ -161,6 +161,8 @@ public class Display extends Device implements Executor {
 	long lastHandle;
 	Widget lastWidget;
 	Widget [] widgetTable;
+	/* Resolves handles without reading SWT_OBJECT_INDEX back from the GObject */
+	LongMap<Widget> widgetMap;
 	final static int GROW_SIZE = 1024;
 	static final int SWT_OBJECT_INDEX;
 	static final int SWT_OBJECT_INDEX1;
@@ -228,6 +230,11 @@ public class Display extends Device implements Executor {
 	Composite[] layoutDeferred;
 	int layoutDeferredCount;
 
+	/* Layout statistics, counted per iteration of the event loop */
+	int layoutsPerformed, computeSizesPerformed;
+	int [] lastLayoutStats = new int [2];
+	static final String LAYOUT_STATS_KEY = "org.eclipse.swt.internal.gtk.layoutStats"; //$NON-NLS-1$
+
 	/* System Tray */
 	Tray tray;
 	TrayItem currentTrayItem;
@@ -676,6 +683,8 @@ public void addFilter (int eventType, Listener listener) {
 }
 
 void addLayoutDeferred (Composite comp) {
+	/* A composite is queued once, further requests are counted by the composite */
+	if (comp.layoutDeferredRequests++ > 0) return;
 	if (layoutDeferred == null) layoutDeferred = new Composite [64];
 	if (layoutDeferredCount == layoutDeferred.length) {
 		Composite [] temp = new Composite [layoutDeferred.length + 64];
@@ -890,6 +899,7 @@ void addWidget (long handle, Widget widget) {
 		SWT.error(SWT.ERROR_INVALID_ARGUMENT, null, ". Trying to override non empty slot with " + widget + debugInfoForIndex(oldSlot));
 	}
 	widgetTable [oldSlot] = widget;
+	widgetMap.put (handle, widget);
 }
 
 /**
@@ -2073,6 +2083,9 @@ public Object getData (String key) {
 	if (key.equals (GET_EMISSION_PROC_KEY)) {
 		return new LONG (emissionProc);
 	}
+	if (key.equals (LAYOUT_STATS_KEY)) {
+		return lastLayoutStats.clone ();
+	}
 	if (keys == null) return null;
 	for (int i=0; i<keys.length; i++) {
 		if (keys [i].equals (key)) return values [i];
@@ -2794,6 +2807,10 @@ public Shell [] getShells () {
 					widgetTable[j] = null;
 				}
 			}
+			// The handles of the leaked shell are unknown, drop them from the map
+			// so that a handle reused by a new GObject cannot resolve to it
+			widgetMap.removeValue (widget);
+			if (lastWidget == widget) lastWidget = null;
 		}
 	}
 	if (index == result.length) return result;
@@ -3443,12 +3460,19 @@ public boolean getTouchEnabled() {
 Widget getWidget (long handle) {
 	if (handle == 0) return null;
 	if (lastWidget != null && lastHandle == handle) return lastWidget;
-	long index = OS.g_object_get_qdata (handle, SWT_OBJECT_INDEX) - 1;
-	if (0 <= index && index < widgetTable.length) {
+	Widget widget = widgetMap.get (handle);
+	if (strictChecks) {
+		long index = OS.g_object_get_qdata (handle, SWT_OBJECT_INDEX) - 1;
+		Widget expected = 0 <= index && index < widgetTable.length ? widgetTable [(int)index] : null;
+		if (widget != expected) {
+			SWT.error(SWT.ERROR_INVALID_ARGUMENT, null, ". Widget map returned " + widget + " instead of " + expected + debugInfoForIndex(index));
+		}
+	}
+	if (widget != null) {
 		lastHandle = handle;
-		return lastWidget = widgetTable [(int)index];
+		lastWidget = widget;
 	}
-	return null;
+	return widget;
 }
 
 long idleProc (long data) {
@@ -3815,6 +3839,7 @@ void initializeWidgetTable () {
 	widgetTable = new Widget [GROW_SIZE];
 	for (int i=0; i<GROW_SIZE-1; i++) indexTable [i] = i + 1;
 	indexTable [GROW_SIZE - 1] = -1;
+	widgetMap = new LongMap<> (GROW_SIZE);
 }
 
 void initializeSessionManager() {
@@ -4502,6 +4527,9 @@ void putGdkEvents () {
 public boolean readAndDispatch () {
 	checkDevice ();
 	runSkin ();
+	lastLayoutStats [0] = layoutsPerformed;
+	lastLayoutStats [1] = computeSizesPerformed;
+	layoutsPerformed = computeSizesPerformed = 0;
 	runDeferredLayouts ();
 	boolean events = false;
 	events |= runSettings ();
@@ -4843,6 +4871,7 @@ void releaseDisplay () {
 	flushData = closures = null;
 	indexTable = signalIds = null;
 	widgetTable = modalShells = null;
+	widgetMap = null;
 	data = null;
 	values = keys = null;
 	eventTable = filterTable = null;
@@ -4988,6 +5017,7 @@ Widget removeWidget (long handle) {
 		indexTable [index] = freeSlot;
 		freeSlot = index;
 		OS.g_object_set_qdata (handle, SWT_OBJECT_INDEX, 0);
+		widgetMap.remove (handle);
 
 		if(widget == null) {
 			SWT.error(SWT.ERROR_INVALID_ARGUMENT, null, ". Widget already released" + debugInfoForIndex(index));
@@ -5084,9 +5114,14 @@ boolean runDeferredLayouts () {
 		int count = layoutDeferredCount;
 		layoutDeferred = null;
 		layoutDeferredCount = 0;
+		sortDeferredLayouts (temp, count);
 		for (int i = 0; i < count; i++) {
 			Composite comp = temp[i];
-			if (!comp.isDisposed()) comp.setLayoutDeferred (false);
+			int requests = comp.layoutDeferredRequests;
+			comp.layoutDeferredRequests = 0;
+			for (int j = 0; j < requests && !comp.isDisposed(); j++) {
+				comp.setLayoutDeferred (false);
+			}
 		}
 		update ();
 		return true;
@@ -5094,6 +5129,32 @@ boolean runDeferredLayouts () {
 	return false;
 }
 
+/*
+ * Orders the deferred composites so that descendants are released before
+ * their ancestors. A descendant that is released while one of its ancestors
+ * is still deferred only marks that ancestor, so each subtree is laid out
+ * once, top-down, by the pass of its topmost deferred composite.
+ */
+void sortDeferredLayouts (Composite [] composites, int count) {
+	if (count < 2) return;
+	long [] keys = new long [count];
+	for (int i = 0; i < count; i++) {
+		int depth = 0;
+		Composite parent = composites [i].parent;
+		while (parent != null) {
+			depth++;
+			parent = parent.parent;
+		}
+		keys [i] = ((long) (Integer.MAX_VALUE - depth) << 32) | i;
+	}
+	Arrays.sort (keys);
+	Composite [] sorted = new Composite [count];
+	for (int i = 0; i < count; i++) {
+		sorted [i] = composites [(int) keys [i]];
+	}
+	System.arraycopy (sorted, 0, composites, 0, count);
+}
+
 boolean runPopups () {
 	if (popups == null) return false;
 	boolean result = false;
@@ -5605,6 +5666,7 @@ public boolean sleep () {
 		return false;
 	}
 	if (!synchronizer.isMessagesEmpty()) return true;
+	trimBackBuffers ();
 	sendPreExternalEventDispatchEvent ();
 	if (!GTK.GTK4) GDK.gdk_threads_leave ();
 	/*
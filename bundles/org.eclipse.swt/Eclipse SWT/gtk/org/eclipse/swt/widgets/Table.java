@@ -98,9 +98,21 @@ public class Table extends Composite {
 	int headerHeight;
 	boolean boundsChangedSinceLastDraw, headerVisible, wasScrolled;
 	boolean rowActivated;
+	TableItem [] virtualCache;
+	int [] virtualCacheStamps;
+	int virtualCacheStart, virtualCacheCount, virtualCacheStamp;
 
 	private long headerCSSProvider;
 
+	/*
+	 * Bounds the number of rows of a VIRTUAL table that keep their text,
+	 * image, font and color data in the GtkListStore. When more rows than
+	 * this have been filled through SetData, the least recently filled row
+	 * is cleared and its data is requested again the next time it is shown.
+	 */
+	static final String KEY_VIRTUAL_CACHE_SIZE = "org.eclipse.swt.internal.gtk.virtualCacheSize"; //$NON-NLS-1$
+	static final int MIN_VIRTUAL_CACHE_SIZE = 256;
+
 	static final int CHECKED_COLUMN = 0;
 	static final int GRAYED_COLUMN = 1;
 	static final int FOREGROUND_COLUMN = 2;
@@ -293,10 +305,36 @@ boolean checkData (TableItem item) {
 		if (isDisposed ()) return false;
 		OS.g_signal_handlers_unblock_matched (modelHandle, mask, signal_id, 0, 0, 0, handle);
 		if (item.isDisposed ()) return false;
+		if (virtualCache != null) addToVirtualCache (item);
 	}
 	return true;
 }
 
+void addToVirtualCache (TableItem item) {
+	int length = virtualCache.length;
+	item.cacheStamp = ++virtualCacheStamp;
+	if (virtualCacheCount < length) {
+		int slot = (virtualCacheStart + virtualCacheCount) % length;
+		virtualCache [slot] = item;
+		virtualCacheStamps [slot] = item.cacheStamp;
+		virtualCacheCount++;
+		return;
+	}
+	TableItem oldest = virtualCache [virtualCacheStart];
+	int oldestStamp = virtualCacheStamps [virtualCacheStart];
+	virtualCache [virtualCacheStart] = item;
+	virtualCacheStamps [virtualCacheStart] = item.cacheStamp;
+	virtualCacheStart = (virtualCacheStart + 1) % length;
+	/*
+	* An item that was cleared and filled again since it entered the
+	* cache has a newer stamp and a newer slot, so only the entry that
+	* matches the item's current stamp is allowed to evict it.
+	*/
+	if (oldest != null && !oldest.isDisposed () && oldest.cached && oldest.cacheStamp == oldestStamp) {
+		oldest.evict ();
+	}
+}
+
 @Override
 protected void checkSubclass () {
 	if (!isValidSubclass ()) error (SWT.ERROR_INVALID_SUBCLASS);
@@ -2635,6 +2673,8 @@ void releaseWidget () {
 	if (headerImageList != null) headerImageList.dispose ();
 	imageList = headerImageList = null;
 	currentItem = null;
+	virtualCache = null;
+	virtualCacheStamps = null;
 }
 
 /**
@@ -3493,6 +3533,14 @@ public void setColumnOrder (int [] order) {
 	}
 }
 
+@Override
+public void setData (String key, Object value) {
+	super.setData (key, value);
+	if (KEY_VIRTUAL_CACHE_SIZE.equals (key)) {
+		setVirtualCacheSize (value instanceof Integer ? ((Integer) value).intValue () : 0);
+	}
+}
+
 @Override
 void setFontDescription (long font) {
 	super.setFontDescription (font);
@@ -3693,6 +3741,22 @@ public void setLinesVisible (boolean show) {
 	GTK.gtk_tree_view_set_grid_lines (handle, show ? GTK.GTK_TREE_VIEW_GRID_LINES_VERTICAL : GTK.GTK_TREE_VIEW_GRID_LINES_NONE);
 }
 
+void setVirtualCacheSize (int size) {
+	if ((style & SWT.VIRTUAL) == 0) return;
+	virtualCache = null;
+	virtualCacheStamps = null;
+	virtualCacheStart = virtualCacheCount = 0;
+	if (size <= 0) return;
+	size = Math.max (size, MIN_VIRTUAL_CACHE_SIZE);
+	virtualCache = new TableItem [size];
+	virtualCacheStamps = new int [size];
+	/* Rows that were filled before the cache was enabled count as well */
+	for (int i=0; i<itemCount; i++) {
+		TableItem item = items [i];
+		if (item != null && item.cached) addToVirtualCache (item);
+	}
+}
+
 void setModel (long newModel) {
 	display.removeWidget (modelHandle);
 	OS.g_object_unref (modelHandle);
@@ -45,6 +45,7 @@ public class TableItem extends Item {
 	Font[] cellFont;
 	String [] strings;
 	boolean cached, grayed, settingData;
+	int cacheStamp;
 
 /**
  * Constructs a new instance of this class given its parent
@@ -239,6 +240,23 @@ void clear () {
 	strings = null;
 }
 
+/*
+* Releases the data of a row that SetData fills again when it is shown,
+* see Table#addToVirtualCache. The check and grayed state is kept, as the
+* user may have changed it.
+*/
+void evict () {
+	if (parent.currentItem == this || !cached) return;
+	int columnCount = GTK.gtk_tree_model_get_n_columns (parent.modelHandle);
+	for (int i=Table.FOREGROUND_COLUMN; i<columnCount; i++) {
+		GTK.gtk_list_store_set (parent.modelHandle, handle, i, (long )0, -1);
+	}
+	cached = false;
+	font = null;
+	cellFont = null;
+	strings = null;
+}
+
 @Override
 void destroyWidget () {
 	parent.destroyItem (this);
@@ -1192,15 +1210,16 @@ public void setImage(int index, Image image) {
 		ImageList imageList = parent.imageList;
 		if (imageList == null) imageList = parent.imageList = new ImageList();
 		int imageIndex = imageList.indexOf(image);
-		// When we create a blank image surface gets created with dimensions 0, 0.
-        // This call recreates the surface with correct dimensions
-		long tempSurface = ImageList.convertSurface(image);
-		Cairo.cairo_surface_destroy(tempSurface);
 		if (imageIndex == -1) {
+			// When we create a blank image surface gets created with dimensions 0, 0.
+			// This call recreates the surface with correct dimensions
+			long tempSurface = ImageList.convertSurface(image);
+			Cairo.cairo_surface_destroy(tempSurface);
 			imageIndex = imageList.add(image);
 		}
 		surface = imageList.getSurface(imageIndex);
-		pixbuf = ImageList.createPixbuf(surface);
+		/* The pixbuf is shared by all items showing the image, see ImageList#getPixbuf */
+		pixbuf = imageList.getPixbuf(imageIndex);
 	}
 
 	long parentHandle = parent.handle;
@@ -70,7 +70,8 @@ public class Text extends Scrollable {
 	int tabs = 8, lastEventTime = 0;
 	long gdkEventKey = 0;
 	int fixStart = -1, fixEnd = -1;
-	boolean doubleClick;
+	int maxLines;
+	boolean doubleClick, scrollPending;
 	String message = "";
 
 	/** GTK4 only field, holds the address to the underlying GtkText widget. */
@@ -490,10 +491,34 @@ public void append (String string) {
 	} else {
 		byte [] position =  new byte [ITER_SIZEOF];
 		GTK.gtk_text_buffer_get_end_iter (bufferHandle, position);
-		GTK.gtk_text_buffer_insert (bufferHandle, position, buffer, buffer.length);
-		GTK.gtk_text_buffer_place_cursor (bufferHandle, position);
-		long mark = GTK.gtk_text_buffer_get_insert (bufferHandle);
-		GTK.gtk_text_view_scroll_to_mark (handle, mark, 0, true, 0, 0);
+		if (maxLines > 0) {
+			/*
+			* In bounded mode, send a single modify event once the head of
+			* the buffer was trimmed, and scroll once for all the strings
+			* appended before the event loop runs again.
+			*/
+			OS.g_signal_handlers_block_matched (bufferHandle, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
+			GTK.gtk_text_buffer_insert (bufferHandle, position, buffer, buffer.length);
+			OS.g_signal_handlers_unblock_matched (bufferHandle, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
+			trimLines ();
+			GTK.gtk_text_buffer_get_end_iter (bufferHandle, position);
+			GTK.gtk_text_buffer_place_cursor (bufferHandle, position);
+			if (!scrollPending) {
+				scrollPending = true;
+				display.asyncExec (() -> {
+					scrollPending = false;
+					if (isDisposed ()) return;
+					long mark = GTK.gtk_text_buffer_get_insert (bufferHandle);
+					GTK.gtk_text_view_scroll_to_mark (handle, mark, 0, true, 0, 0);
+				});
+			}
+			sendEvent (SWT.Modify);
+		} else {
+			GTK.gtk_text_buffer_insert (bufferHandle, position, buffer, buffer.length);
+			GTK.gtk_text_buffer_place_cursor (bufferHandle, position);
+			long mark = GTK.gtk_text_buffer_get_insert (bufferHandle);
+			GTK.gtk_text_view_scroll_to_mark (handle, mark, 0, true, 0, 0);
+		}
 	}
 	applySegments ();
 }
@@ -1169,6 +1194,26 @@ public int getLineHeight () {
 	return result;
 }
 
+/**
+ * Returns the maximum number of lines kept by the receiver, or zero
+ * if the number of lines is not bounded.
+ *
+ * @return the maximum number of lines
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @see #setMaxLines(int)
+ *
+ * @since 3.123
+ */
+public int getMaxLines () {
+	checkWidget ();
+	return maxLines;
+}
+
 /**
  * Returns the widget message.  The message text is displayed
  * as a hint for the user, indicating the purpose of the field.
@@ -2439,6 +2484,38 @@ void setFontDescription (long font) {
 	setTabStops (tabs);
 }
 
+/**
+ * Sets the maximum number of lines kept by the receiver. When more
+ * lines are appended, the lines at the beginning of the text are
+ * removed, which makes the receiver suitable for showing a log that
+ * is written to continuously. A count of zero or less removes the bound.
+ * The empty line after a final line delimiter is not counted.
+ * <p>
+ * Note: This operation is a hint and is only supported by multi-line
+ * text widgets. The strings appended before the event loop runs again
+ * are scrolled into view at once.
+ * </p>
+ *
+ * @param count the maximum number of lines, or zero
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @see #append(String)
+ *
+ * @since 3.123
+ */
+public void setMaxLines (int count) {
+	checkWidget ();
+	if ((style & SWT.SINGLE) != 0) return;
+	maxLines = Math.max (0, count);
+	clearSegments (true);
+	if (trimLines ()) sendEvent (SWT.Modify);
+	applySegments ();
+}
+
 /**
  * Sets the widget message. The message text is displayed
  * as a hint for the user, indicating the purpose of the field.
@@ -2773,6 +2850,7 @@ void setText (char [] text) {
 		OS.g_signal_handlers_block_matched (bufferHandle, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, DELETE_RANGE);
 		OS.g_signal_handlers_block_matched (bufferHandle, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, TEXT_BUFFER_INSERT_TEXT);
 		GTK.gtk_text_buffer_set_text (bufferHandle, buffer, buffer.length);
+		trimLines ();
 		OS.g_signal_handlers_unblock_matched (bufferHandle, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
 		OS.g_signal_handlers_unblock_matched (bufferHandle, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, DELETE_RANGE);
 		OS.g_signal_handlers_unblock_matched (bufferHandle, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, TEXT_BUFFER_INSERT_TEXT);
@@ -2875,6 +2953,33 @@ public void showSelection () {
 	GTK.gtk_text_view_scroll_to_mark (handle, mark, 0, true, 0, 0);
 }
 
+/*
+* Removes the lines at the beginning of the buffer which exceed the
+* maximum number of lines, without notifying the listeners.  The
+* lines are found by index, which only walks the removed lines.
+* The empty line after a final line delimiter is not counted.
+*/
+boolean trimLines () {
+	if (maxLines <= 0) return false;
+	int lineCount = GTK.gtk_text_buffer_get_line_count (bufferHandle);
+	byte [] start = new byte [ITER_SIZEOF], end = new byte [ITER_SIZEOF];
+	if (lineCount > 1) {
+		GTK.gtk_text_buffer_get_iter_at_line (bufferHandle, start, lineCount - 1);
+		GTK.gtk_text_buffer_get_end_iter (bufferHandle, end);
+		if (GTK.gtk_text_iter_get_offset (start) == GTK.gtk_text_iter_get_offset (end)) lineCount--;
+	}
+	int extra = lineCount - maxLines;
+	if (extra <= 0) return false;
+	GTK.gtk_text_buffer_get_iter_at_offset (bufferHandle, start, 0);
+	GTK.gtk_text_buffer_get_iter_at_line (bufferHandle, end, extra);
+	OS.g_signal_handlers_block_matched (bufferHandle, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
+	OS.g_signal_handlers_block_matched (bufferHandle, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, DELETE_RANGE);
+	GTK.gtk_text_buffer_delete (bufferHandle, start, end);
+	OS.g_signal_handlers_unblock_matched (bufferHandle, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, DELETE_RANGE);
+	OS.g_signal_handlers_unblock_matched (bufferHandle, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
+	return true;
+}
+
 int translateOffset (int offset) {
 	if (segments == null) return offset;
 	for (int i = 0, nSegments = segments.length; i < nSegments && offset - i >= segments[i]; i++) {
@@ -1507,15 +1507,16 @@ public void setImage(int index, Image image) {
 		ImageList imageList = parent.imageList;
 		if (imageList == null) imageList = parent.imageList = new ImageList();
 		int imageIndex = imageList.indexOf(image);
-		// When we create a blank image surface gets created with dimensions 0, 0.
-        // This call recreates the surface with correct dimensions
-		long tempSurface = ImageList.convertSurface(image);
-		Cairo.cairo_surface_destroy(tempSurface);
 		if (imageIndex == -1) {
+			// When we create a blank image surface gets created with dimensions 0, 0.
+			// This call recreates the surface with correct dimensions
+			long tempSurface = ImageList.convertSurface(image);
+			Cairo.cairo_surface_destroy(tempSurface);
 			imageIndex = imageList.add(image);
 		}
 		surface = imageList.getSurface(imageIndex);
-		pixbuf = ImageList.createPixbuf(surface);
+		/* The pixbuf is shared by all items showing the image, see ImageList#getPixbuf */
+		pixbuf = imageList.getPixbuf(imageIndex);
 	}
 
 	int modelIndex = parent.columnCount == 0 ? Tree.FIRST_COLUMN : parent.columns [index].modelIndex;
@@ -23,4 +23,45 @@ public class DeviceData {
 	public boolean tracking;
 	public Error [] errors;
 	public Object [] objects;
+
+	/**
+	 * When tracking, only one in this many resources is tracked.
+	 * The default value of 0 tracks every resource.
+	 *
+	 * @since 3.123
+	 */
+	public int trackingSampleRate;
+
+	/**
+	 * When tracking, the maximum number of stack frames recorded for
+	 * the allocation of a resource. The default value of 0 records
+	 * the complete stack.
+	 *
+	 * @since 3.123
+	 */
+	public int trackingStackDepth;
+
+	/**
+	 * The histogram of the tracked resources returned by
+	 * <code>Device.getDeviceData()</code>, the entries are sorted by
+	 * decreasing count. An entry holds the class name of the resources,
+	 * the stack frame that allocated them or <code>null</code> when it
+	 * is not known, and the number of resources. When sampling, the
+	 * counts are the number of sampled resources.
+	 *
+	 * @since 3.123
+	 */
+	public String [] allocationTypes;
+
+	/**
+	 * @see #allocationTypes
+	 * @since 3.123
+	 */
+	public StackTraceElement [] allocationSites;
+
+	/**
+	 * @see #allocationTypes
+	 * @since 3.123
+	 */
+	public int [] allocationCounts;
 }
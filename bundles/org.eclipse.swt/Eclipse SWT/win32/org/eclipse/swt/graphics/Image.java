@@ -15,11 +15,13 @@ package org.eclipse.swt.graphics;
 
 
 import java.io.*;
+import java.util.concurrent.*;
 
 import org.eclipse.swt.*;
 import org.eclipse.swt.internal.*;
 import org.eclipse.swt.internal.gdip.*;
 import org.eclipse.swt.internal.win32.*;
+import org.eclipse.swt.widgets.*;
 
 /**
  * Instances of this class are graphics which have been prepared
@@ -724,6 +726,165 @@ public Image(Device device, ImageDataProvider imageDataProvider) {
 	init();
 }
 
+/**
+ * Constructs an instance of this class from image data decoded by
+ * {@link #loadAsync(Device, ImageFileNameProvider, Executor)} for
+ * the current zoom.
+ */
+Image(Device device, ImageFileNameProvider imageFileNameProvider, ImageData data) {
+	super(device);
+	this.imageFileNameProvider = imageFileNameProvider;
+	currentDeviceZoom = DPIUtil.getDeviceZoom();
+	init(data);
+	init();
+}
+
+/**
+ * Constructs an instance of this class by loading the file natively, for
+ * the files {@link #loadAsync(Device, ImageFileNameProvider, Executor)}
+ * could not decode. Throws the error of decoding the file if it cannot be
+ * loaded natively either.
+ */
+Image(Device device, ImageFileNameProvider imageFileNameProvider, String filename, RuntimeException decodeError) {
+	super(device);
+	this.imageFileNameProvider = imageFileNameProvider;
+	currentDeviceZoom = DPIUtil.getDeviceZoom();
+	initNative(filename);
+	if (this.handle == 0) throw decodeError;
+	init();
+}
+
+/**
+ * Loads an image from the file retrieved from the ImageFileNameProvider,
+ * like {@link #Image(Device, ImageFileNameProvider)}, without blocking
+ * the user-interface thread. The file is decoded and scaled for the current
+ * zoom by the given executor, and the image is then created in one step on
+ * the user-interface thread of the display. Applications loading many images
+ * can use an executor with several threads to decode them in parallel.
+ * Files that cannot be decoded by the executor are loaded natively on the
+ * user-interface thread.
+ * <p>
+ * The ImageFileNameProvider is called by the threads of the executor.
+ * The returned future is completed on the user-interface thread, either
+ * with the image or with the exception the constructor would have thrown.
+ * It is completed with an <code>SWTException</code> if the display is
+ * disposed before the image is created. You must dispose the image when
+ * it is no longer required. The image is not created, or disposed
+ * immediately, when the future was cancelled.
+ * </p>
+ *
+ * @param device the device on which to create the image
+ * @param imageFileNameProvider the ImageFileNameProvider object that is
+ * to be used to get the file name
+ * @param executor the executor decoding the file
+ * @return a future completed with the image
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if device is null and there is no current device</li>
+ *    <li>ERROR_NULL_ARGUMENT - if the ImageFileNameProvider or the executor is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_DEVICE_DISPOSED - if the device has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the user-interface thread of the display</li>
+ * </ul>
+ * @since 3.123
+ */
+public static CompletableFuture<Image> loadAsync(Device device, ImageFileNameProvider imageFileNameProvider, Executor executor) {
+	if (device == null) device = Display.getCurrent();
+	if (device == null || imageFileNameProvider == null || executor == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	if (device.isDisposed()) SWT.error(SWT.ERROR_DEVICE_DISPOSED);
+	Display display = Display.getCurrent();
+	if (display == null || (device instanceof Display && device != display)) SWT.error(SWT.ERROR_THREAD_INVALID_ACCESS);
+	Device target = device;
+	int zoom = DPIUtil.getDeviceZoom();
+	CompletableFuture<Image> future = new CompletableFuture<>();
+	completeOnDispose(display, future);
+	executor.execute(() -> {
+		if (future.isDone()) return;
+		String filename = null;
+		ImageData data = null;
+		boolean scale = false;
+		RuntimeException decodeError = null;
+		Throwable error = null;
+		try {
+			boolean[] found = new boolean[1];
+			filename = DPIUtil.validateAndGetImagePathAtZoom(imageFileNameProvider, zoom, found);
+			try {
+				data = new ImageData(filename);
+			} catch (RuntimeException e) {
+				/* Like the constructor, the files found for the zoom are loaded natively if possible */
+				if (!found[0]) throw e;
+				decodeError = e;
+			}
+			if (data != null && !found[0]) {
+				/* Smooth scaling draws with a GC and is left to the user-interface thread */
+				if (DPIUtil.isAutoScaleThreadSafe()) {
+					data = DPIUtil.autoScaleUp(target, data);
+				} else {
+					scale = true;
+				}
+			}
+		} catch (RuntimeException | SWTError e) {
+			error = e;
+		}
+		String file = filename;
+		ImageData decoded = data;
+		boolean scaleDecoded = scale;
+		RuntimeException fileError = decodeError;
+		Throwable loadError = error;
+		try {
+			display.asyncExec(() -> {
+				if (future.isDone()) return;
+				if (loadError != null) {
+					future.completeExceptionally(loadError);
+					return;
+				}
+				Image image;
+				try {
+					if (zoom != DPIUtil.getDeviceZoom()) {
+						image = new Image(target, imageFileNameProvider);
+					} else if (decoded == null) {
+						image = new Image(target, imageFileNameProvider, file, fileError);
+					} else {
+						image = new Image(target, imageFileNameProvider, scaleDecoded ? DPIUtil.autoScaleUp(target, decoded) : decoded);
+					}
+				} catch (RuntimeException | SWTError e) {
+					future.completeExceptionally(e);
+					return;
+				}
+				if (!future.complete(image)) image.dispose();
+			});
+		} catch (SWTException e) {
+			future.completeExceptionally(e);
+		}
+	});
+	return future;
+}
+
+/**
+ * Completes the future of {@link #loadAsync(Device, ImageFileNameProvider, Executor)}
+ * when the display is disposed first, the runnables posted to create the image
+ * do not run anymore then.
+ */
+static void completeOnDispose(Display display, CompletableFuture<Image> future) {
+	Listener listener = event -> future.completeExceptionally(new SWTException(SWT.ERROR_DEVICE_DISPOSED));
+	display.addListener(SWT.Dispose, listener);
+	future.whenComplete((image, error) -> {
+		Runnable remove = () -> {
+			if (!display.isDisposed()) display.removeListener(SWT.Dispose, listener);
+		};
+		if (display.getThread() == Thread.currentThread()) {
+			remove.run();
+		} else {
+			try {
+				display.asyncExec(remove);
+			} catch (SWTException e) {
+				/* The display is disposed already */
+			}
+		}
+	});
+}
+
 /**
  * Refresh the Image based on the zoom level, if required.
  *
@@ -63,8 +63,8 @@ import org.eclipse.swt.internal.win32.*;
  * @noextend This class is not intended to be subclassed by clients.
  */
 public class Text extends Scrollable {
-	int tabs, oldStart, oldEnd;
-	boolean doubleClick, ignoreModify, ignoreVerify, ignoreCharacter, allowPasswordChar;
+	int tabs, oldStart, oldEnd, maxLines;
+	boolean doubleClick, ignoreModify, ignoreVerify, ignoreCharacter, allowPasswordChar, scrollPending;
 	String message;
 	int[] segments;
 	int clearSegmentsCount = 0;
@@ -555,9 +555,32 @@ public void append (String string) {
 	* handler from WM_CHAR.
 	*/
 	ignoreCharacter = true;
-	OS.SendMessage (handle, OS.EM_REPLACESEL, 0, buffer);
-	ignoreCharacter = false;
-	OS.SendMessage (handle, OS.EM_SCROLLCARET, 0, 0);
+	if (maxLines > 0 && (style & SWT.MULTI) != 0) {
+		/*
+		* In bounded mode, send a single modify event once the head of
+		* the text was trimmed, and scroll once for all the strings
+		* appended before the event loop runs again.
+		*/
+		boolean oldIgnoreModify = ignoreModify;
+		ignoreModify = true;
+		OS.SendMessage (handle, OS.EM_REPLACESEL, 0, buffer);
+		trimLines ();
+		ignoreModify = oldIgnoreModify;
+		ignoreCharacter = false;
+		if (!scrollPending) {
+			scrollPending = true;
+			display.asyncExec (() -> {
+				scrollPending = false;
+				if (!isDisposed ()) OS.SendMessage (handle, OS.EM_SCROLLCARET, 0, 0);
+			});
+		}
+		sendEvent (SWT.Modify);
+		if (isDisposed ()) return;
+	} else {
+		OS.SendMessage (handle, OS.EM_REPLACESEL, 0, buffer);
+		ignoreCharacter = false;
+		OS.SendMessage (handle, OS.EM_SCROLLCARET, 0, 0);
+	}
 	if ((state & HAS_AUTO_DIRECTION) != 0) {
 		super.updateTextDirection (AUTO_TEXT_DIRECTION);
 	}
@@ -1277,6 +1300,26 @@ public int getOrientation () {
 	return super.getOrientation ();
 }
 
+/**
+ * Returns the maximum number of lines kept by the receiver, or zero
+ * if the number of lines is not bounded.
+ *
+ * @return the maximum number of lines
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @see #setMaxLines(int)
+ *
+ * @since 3.123
+ */
+public int getMaxLines () {
+	checkWidget ();
+	return maxLines;
+}
+
 /**
  * Returns the widget message.  The message text is displayed
  * as a hint for the user, indicating the purpose of the field.
@@ -2108,6 +2151,38 @@ void setMargins () {
 	}
 }
 
+/**
+ * Sets the maximum number of lines kept by the receiver. When more
+ * lines are appended, the lines at the beginning of the text are
+ * removed, which makes the receiver suitable for showing a log that
+ * is written to continuously. A count of zero or less removes the bound.
+ * The empty line after a final line delimiter is not counted.
+ * <p>
+ * Note: This operation is a hint and is only supported by multi-line
+ * text widgets. The strings appended before the event loop runs again
+ * are scrolled into view at once.
+ * </p>
+ *
+ * @param count the maximum number of lines, or zero
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @see #append(String)
+ *
+ * @since 3.123
+ */
+public void setMaxLines (int count) {
+	checkWidget ();
+	if ((style & SWT.SINGLE) != 0) return;
+	maxLines = Math.max (0, count);
+	clearSegments (true);
+	if (trimLines ()) sendEvent (SWT.Modify);
+	applySegments ();
+}
+
 /**
  * Sets the widget message. The message text is displayed
  * as a hint for the user, indicating the purpose of the field.
@@ -2346,6 +2421,7 @@ public void setText (String string) {
 	if (string.length () > limit) string = string.substring (0, limit);
 	TCHAR buffer = new TCHAR (getCodePage (), string, true);
 	OS.SetWindowText (handle, buffer);
+	trimLines ();
 	if ((state & HAS_AUTO_DIRECTION) != 0) {
 		super.updateTextDirection(AUTO_TEXT_DIRECTION);
 	}
@@ -2411,6 +2487,7 @@ public void setTextChars (char[] text) {
 	TCHAR buffer = new TCHAR (getCodePage (), text, true);
 	OS.SetWindowText (handle, buffer);
 	buffer.clear ();
+	trimLines ();
 	if ((state & HAS_AUTO_DIRECTION) != 0) {
 		super.updateTextDirection (AUTO_TEXT_DIRECTION);
 	}
@@ -2502,6 +2579,35 @@ public void showSelection () {
 	OS.SendMessage (handle, OS.EM_SCROLLCARET, 0, 0);
 }
 
+/*
+* Removes the lines at the beginning of the text which exceed the
+* maximum number of lines, keeping the selection on the same text.
+* The caller is responsible for the modify event and the segments.
+*/
+boolean trimLines () {
+	if (maxLines <= 0 || (style & SWT.SINGLE) != 0) return false;
+	int lineCount = (int)OS.SendMessage (handle, OS.EM_GETLINECOUNT, 0, 0);
+	/* Do not count the empty line after a final line delimiter */
+	if (lineCount > 1) {
+		int lastLine = (int)OS.SendMessage (handle, OS.EM_LINEINDEX, lineCount - 1, 0);
+		if (OS.SendMessage (handle, OS.EM_LINELENGTH, lastLine, 0) == 0) lineCount--;
+	}
+	int extra = lineCount - maxLines;
+	if (extra <= 0) return false;
+	int end = (int)OS.SendMessage (handle, OS.EM_LINEINDEX, extra, 0);
+	int [] start = new int [1], stop = new int [1];
+	OS.SendMessage (handle, OS.EM_GETSEL, start, stop);
+	boolean oldIgnoreCharacter = ignoreCharacter, oldIgnoreModify = ignoreModify, oldIgnoreVerify = ignoreVerify;
+	ignoreCharacter = ignoreModify = ignoreVerify = true;
+	OS.SendMessage (handle, OS.EM_SETSEL, 0, end);
+	OS.SendMessage (handle, OS.EM_REPLACESEL, 0, new char [] {'\0'});
+	OS.SendMessage (handle, OS.EM_SETSEL, Math.max (0, start [0] - end), Math.max (0, stop [0] - end));
+	ignoreCharacter = oldIgnoreCharacter;
+	ignoreModify = oldIgnoreModify;
+	ignoreVerify = oldIgnoreVerify;
+	return true;
+}
+
 int translateOffset (int offset) {
 	if (segments == null) return offset;
 	for (int i = 0, nSegments = segments.length; i < nSegments && offset - i >= segments [i]; i++) {
@@ -22,7 +22,13 @@ import org.junit.runners.Suite;
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
 		// Test.class be added here.
-	Test_GtkConverter.class
+	Test_GtkBackBuffers.class,
+	Test_GtkClipboard.class,
+	Test_GtkConverter.class,
+	Test_GtkFileTransfer.class,
+	Test_GtkImageList.class,
+	Test_GtkImageTransfer.class,
+	Test_LongMap.class
 })
 
 public class AllGTKTests {
@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.tests.gtk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assume.assumeFalse;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.Pattern;
+import org.eclipse.swt.internal.DPIUtil;
+import org.eclipse.swt.internal.cairo.Cairo;
+import org.eclipse.swt.internal.gtk.GTK;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class Test_GtkBackBuffers {
+
+	private Display display;
+	private Shell shell;
+
+	@Before
+	public void setUp() {
+		display = Display.getDefault();
+		shell = new Shell(display);
+	}
+
+	@After
+	public void tearDown() {
+		shell.dispose();
+	}
+
+	@Test
+	public void test_surfaceReused() {
+		Image image = new Image(display, 21, 23);
+		long surface = image.surface;
+		image.dispose();
+		Image next = new Image(display, 21, 23);
+		assertEquals(surface, next.surface);
+		next.dispose();
+	}
+
+	@Test
+	public void test_reusedSurfaceScaleReset() {
+		Image image = new Image(display, 21, 23);
+		GC gc = new GC(image);
+		/* scales the surface to the device zoom */
+		gc.fillGradientRectangle(0, 0, 21, 23, true);
+		gc.dispose();
+		long surface = image.surface;
+		image.dispose();
+		Image next = new Image(display, 21, 23);
+		assertEquals(surface, next.surface);
+		if (DPIUtil.useCairoAutoScale()) {
+			double[] sx = new double[1], sy = new double[1];
+			Cairo.cairo_surface_get_device_scale(next.surface, sx, sy);
+			assertEquals(1, sx[0], 0);
+			assertEquals(1, sy[0], 0);
+		}
+		next.dispose();
+	}
+
+	@Test
+	public void test_surfaceShownByWidgetNotReused() {
+		/* GTK 3 labels show the surface itself */
+		assumeFalse(GTK.GTK4);
+		Label label = new Label(shell, SWT.NONE);
+		Image image = new Image(display, 21, 23);
+		label.setImage(image);
+		long surface = image.surface;
+		image.dispose();
+		Image next = new Image(display, 21, 23);
+		assertNotEquals(surface, next.surface);
+		next.dispose();
+		label.dispose();
+	}
+
+	@Test
+	public void test_surfaceOfPatternNotReused() {
+		Image image = new Image(display, 21, 23);
+		Pattern pattern = new Pattern(display, image);
+		long surface = image.surface;
+		image.dispose();
+		Image next = new Image(display, 21, 23);
+		assertNotEquals(surface, next.surface);
+		next.dispose();
+		pattern.dispose();
+	}
+}
@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.tests.gtk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.swt.dnd.Clipboard;
+import org.eclipse.swt.dnd.RTFTransfer;
+import org.eclipse.swt.dnd.TextTransfer;
+import org.eclipse.swt.dnd.Transfer;
+import org.eclipse.swt.widgets.Display;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class Test_GtkClipboard {
+
+	private Display display;
+	private Clipboard clipboard;
+
+	@Before
+	public void setUp() {
+		display = Display.getDefault();
+		clipboard = new Clipboard(display);
+	}
+
+	@After
+	public void tearDown() {
+		clipboard.dispose();
+	}
+
+	private Object waitFor(CompletableFuture<Object> future) {
+		long end = System.currentTimeMillis() + 10000;
+		while (!future.isDone() && System.currentTimeMillis() < end) {
+			if (!display.readAndDispatch()) display.sleep();
+		}
+		assertTrue("Clipboard read did not complete", future.isDone());
+		return future.join();
+	}
+
+	@Test
+	public void test_getContentsAsync() {
+		clipboard.setContents(new Object[] {"async text"}, new Transfer[] {TextTransfer.getInstance()});
+		assertEquals("async text", waitFor(clipboard.getContentsAsync(TextTransfer.getInstance())));
+		assertNull(waitFor(clipboard.getContentsAsync(RTFTransfer.getInstance())));
+		assertEquals(clipboard.getContents(TextTransfer.getInstance()), waitFor(clipboard.getContentsAsync(TextTransfer.getInstance())));
+		assertThrows(IllegalArgumentException.class, () -> clipboard.getContentsAsync(null));
+	}
+
+	@Test
+	public void test_getContentsAsyncConcurrent() {
+		clipboard.setContents(new Object[] {"async text"}, new Transfer[] {TextTransfer.getInstance()});
+		Clipboard other = new Clipboard(display);
+		try {
+			CompletableFuture<Object> text = clipboard.getContentsAsync(TextTransfer.getInstance());
+			CompletableFuture<Object> rtf = other.getContentsAsync(RTFTransfer.getInstance());
+			CompletableFuture<Object> otherText = other.getContentsAsync(TextTransfer.getInstance());
+			assertEquals("async text", waitFor(text));
+			assertNull(waitFor(rtf));
+			assertEquals("async text", waitFor(otherText));
+		} finally {
+			other.dispose();
+		}
+	}
+
+	@Test
+	public void test_getContentsAsyncDisposed() {
+		clipboard.setContents(new Object[] {"async text"}, new Transfer[] {TextTransfer.getInstance()});
+		CompletableFuture<Object> future = clipboard.getContentsAsync(TextTransfer.getInstance());
+		clipboard.dispose();
+		long end = System.currentTimeMillis() + 10000;
+		while (!future.isDone() && System.currentTimeMillis() < end) {
+			if (!display.readAndDispatch()) display.sleep();
+		}
+		assertTrue(future.isDone());
+		assertTrue(future.isCancelled() || "async text".equals(future.join()));
+	}
+}
@@ -14,8 +14,11 @@
  */
 package org.eclipse.swt.tests.gtk;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 
 import org.eclipse.swt.internal.Converter;
@@ -150,6 +153,52 @@ public class Test_GtkConverter {
 		helper_testHeuristic(testBytes, "Ё");
 	}
 
+	@Test
+	public void test_wcsToMbcs_roundTrip() {
+		String[] strings = {emptyStr, asciiLetters, unicodeCharactersLowCodePoints, unicodeCharactersHighCodePoints,
+				"\u65e5\u672c\u8a9e\u306e\u30c6\u30ad\u30b9\u30c8", "\ud83d\ude00 smile"};
+		for (String string : strings) {
+			byte[] bytes = Converter.wcsToMbcs(string, true);
+			assertArrayEquals(string, (string + '\0').getBytes(StandardCharsets.UTF_8), bytes);
+			assertArrayEquals(string, string.getBytes(StandardCharsets.UTF_8), Converter.wcsToMbcs(string.toCharArray(), false));
+			assertEquals(string, new String(Converter.mbcsToWcs(bytes)));
+		}
+	}
+
+	@Test
+	public void test_wcsToMbcs_stopsAtNull() {
+		assertArrayEquals(new byte[] {'a', 'b', 0}, Converter.wcsToMbcs("ab\0cd", true));
+		assertArrayEquals(new char[] {'a', 'b'}, Converter.mbcsToWcs(new byte[] {'a', 'b', 0, 'c'}));
+	}
+
+	@Test
+	public void test_wcsToMbcs_unpairedSurrogate() {
+		/* Unpaired surrogates are handled by glib, which rejects the whole string */
+		assertArrayEquals(new byte[] {0}, Converter.wcsToMbcs("a\udc00b", true));
+	}
+
+	@Test
+	public void test_mbcsToWcs_malformed() {
+		/* Malformed UTF-8 is handled by glib, which rejects the whole string */
+		assertEquals(0, Converter.mbcsToWcs(new byte[] {'a', (byte) 0xC0, (byte) 0x80}).length);
+		assertEquals(0, Converter.mbcsToWcs(new byte[] {'a', (byte) 0xE6, (byte) 0x97}).length);
+	}
+
+	@Test
+	public void test_wcsToMbcs_ByteBuffer() {
+		String string = "\u65e5\u672c abc";
+		byte[] expected = (string + '\0').getBytes(StandardCharsets.UTF_8);
+		for (ByteBuffer buffer : new ByteBuffer[] {ByteBuffer.allocate(64), ByteBuffer.allocateDirect(64)}) {
+			buffer.put((byte) 1);
+			assertEquals(expected.length, Converter.wcsToMbcs(string, buffer, true));
+			assertEquals(1 + expected.length, buffer.position());
+			byte[] bytes = new byte[expected.length];
+			buffer.position(1);
+			buffer.get(bytes);
+			assertArrayEquals(expected, bytes);
+		}
+	}
+
 	private void helper_testHeuristic(byte[] testBytes, String expected) {
 		String result = Converter.byteToStringViaHeuristic(testBytes);
 		if (!expected.equals(result)) {
@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.tests.gtk;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.swt.dnd.FileTransfer;
+import org.eclipse.swt.dnd.TransferData;
+import org.eclipse.swt.internal.C;
+import org.eclipse.swt.internal.gtk.OS;
+import org.eclipse.swt.widgets.Display;
+import org.junit.Before;
+import org.junit.Test;
+
+public class Test_GtkFileTransfer {
+
+	private FileTransfer transfer;
+	private TransferData uriList, gnomeList;
+
+	@Before
+	public void setUp() {
+		Display.getDefault();
+		transfer = FileTransfer.getInstance();
+		TransferData[] types = transfer.getSupportedTypes();
+		uriList = types[0];
+		gnomeList = types[1];
+	}
+
+	private String[] roundTrip(String[] files, TransferData type) {
+		transfer.javaToNative(files, type);
+		assertEquals(1, type.result);
+		try {
+			return (String[]) transfer.nativeToJava(type);
+		} finally {
+			OS.g_free(type.pValue);
+			type.pValue = 0;
+		}
+	}
+
+	private String[] decode(String data, TransferData type) {
+		byte[] bytes = data.getBytes(StandardCharsets.ISO_8859_1);
+		type.pValue = OS.g_malloc(bytes.length);
+		C.memmove(type.pValue, bytes, bytes.length);
+		type.length = bytes.length;
+		try {
+			return (String[]) transfer.nativeToJava(type);
+		} finally {
+			OS.g_free(type.pValue);
+			type.pValue = 0;
+		}
+	}
+
+	@Test
+	public void test_roundTrip() {
+		String[] files = {"/tmp/a", "/tmp/with space", "/tmp/ümläut", "/tmp/100%#?", "/tmp/☃/😀"};
+		assertArrayEquals(files, roundTrip(files, uriList));
+		assertArrayEquals(files, roundTrip(files, gnomeList));
+	}
+
+	@Test
+	public void test_nativeToJava() {
+		assertArrayEquals(new String[] {"/tmp/a", "/tmp/b c"}, decode("file:///tmp/a\r\nfile:///tmp/b%20c\r\n", uriList));
+		assertArrayEquals(new String[] {"/tmp/a", "/tmp/b"}, decode("copy\nfile:///tmp/a\nfile:///tmp/b", gnomeList));
+		/* URIs with a host name, upper case schemes and short forms */
+		assertArrayEquals(new String[] {"/tmp/a", "/tmp/b", "/tmp/c"}, decode("file://localhost/tmp/a\r\nFILE:///tmp/b\r\nfile:/tmp/c", uriList));
+		/* Invalid URIs are skipped */
+		assertNull(decode("http://host/a\r\nfile:///tmp/%2Fa\r\nfile:///tmp/%00\r\nfile:///tmp/%zz\r\n", uriList));
+		/* Names which are not UTF-8 are converted for display */
+		String[] names = decode("file:///tmp/%FF\r\n", uriList);
+		assertNotNull(names);
+		assertEquals(1, names.length);
+	}
+
+	@Test(timeout = 30000)
+	public void test_manyFiles() {
+		String[] files = new String[100_000];
+		for (int i = 0; i < files.length; i++) {
+			files[i] = "/home/user/photos/2026/été " + i + ".jpg";
+		}
+		assertArrayEquals(files, roundTrip(files, uriList));
+		assertArrayEquals(files, roundTrip(files, gnomeList));
+	}
+}
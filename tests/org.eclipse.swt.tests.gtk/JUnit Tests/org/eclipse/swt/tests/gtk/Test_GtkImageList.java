@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.tests.gtk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.internal.C;
+import org.eclipse.swt.internal.ImageList;
+import org.eclipse.swt.internal.gtk.GDK;
+import org.eclipse.swt.internal.gtk.OS;
+import org.eclipse.swt.widgets.Display;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class Test_GtkImageList {
+
+	private Display display;
+	private ImageList imageList;
+
+	@Before
+	public void setUp() {
+		display = Display.getDefault();
+		imageList = new ImageList();
+	}
+
+	@After
+	public void tearDown() {
+		imageList.dispose();
+	}
+
+	/* An image backed by a cairo image surface, which the list shares instead of copying */
+	private Image createImage() {
+		return new Image(display, new ImageData(16, 16, 24, new PaletteData(0xFF0000, 0xFF00, 0xFF)));
+	}
+
+	private static int getRed(long pixbuf) {
+		byte[] pixel = new byte[1];
+		C.memmove(pixel, GDK.gdk_pixbuf_get_pixels(pixbuf), 1);
+		return pixel[0] & 0xFF;
+	}
+
+	private void fill(Image image, int color) {
+		GC gc = new GC(image);
+		gc.setBackground(display.getSystemColor(color));
+		gc.fillRectangle(image.getBounds());
+		gc.dispose();
+	}
+
+	@Test
+	public void test_getPixbufShared() {
+		Image image = createImage();
+		try {
+			int index = imageList.add(image);
+			long pixbuf = imageList.getPixbuf(index);
+			long again = imageList.getPixbuf(index);
+			assertEquals(pixbuf, again);
+			OS.g_object_unref(pixbuf);
+			OS.g_object_unref(again);
+		} finally {
+			image.dispose();
+		}
+	}
+
+	@Test
+	public void test_getPixbufAfterDrawing() {
+		Image image = createImage();
+		try {
+			fill(image, SWT.COLOR_BLACK);
+			int index = imageList.add(image);
+			long pixbuf = imageList.getPixbuf(index);
+			assertEquals(0, getRed(pixbuf));
+
+			// drawing into the image must not show the old pixels
+			fill(image, SWT.COLOR_RED);
+			assertEquals(index, imageList.indexOf(image));
+			long redrawn = imageList.getPixbuf(index);
+			assertNotEquals(pixbuf, redrawn);
+			assertEquals(0xFF, getRed(redrawn));
+			assertEquals(0, getRed(pixbuf));
+			OS.g_object_unref(pixbuf);
+			OS.g_object_unref(redrawn);
+		} finally {
+			image.dispose();
+		}
+	}
+
+	@Test
+	public void test_getPixbufManyImages() {
+		int count = 1000;
+		Image[] images = new Image[count];
+		try {
+			for (int i = 0; i < count; i++) {
+				images[i] = createImage();
+				fill(images[i], i % 2 == 0 ? SWT.COLOR_RED : SWT.COLOR_BLACK);
+				int index = imageList.add(images[i]);
+				long pixbuf = imageList.getPixbuf(index);
+				assertEquals(i % 2 == 0 ? 0xFF : 0, getRed(pixbuf));
+				OS.g_object_unref(pixbuf);
+			}
+			// the least recently used pixbufs were evicted and are recreated
+			for (int i = 0; i < count; i++) {
+				long pixbuf = imageList.getPixbuf(imageList.indexOf(images[i]));
+				assertEquals(i % 2 == 0 ? 0xFF : 0, getRed(pixbuf));
+				OS.g_object_unref(pixbuf);
+			}
+		} finally {
+			for (Image image : images) {
+				if (image != null) image.dispose();
+			}
+		}
+	}
+}
@@ -0,0 +1,165 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.tests.gtk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.lang.reflect.Method;
+
+import org.eclipse.swt.dnd.ImageTransfer;
+import org.eclipse.swt.dnd.TransferData;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.graphics.RGB;
+import org.eclipse.swt.internal.gtk.OS;
+import org.eclipse.swt.widgets.Display;
+import org.junit.Before;
+import org.junit.Test;
+
+public class Test_GtkImageTransfer {
+
+	private ImageTransfer transfer;
+	private TransferData png;
+
+	@Before
+	public void setUp() {
+		Display.getDefault();
+		transfer = ImageTransfer.getInstance();
+		png = transfer.getSupportedTypes()[0];
+	}
+
+	private ImageData roundTrip(ImageData data) throws Exception {
+		return roundTrip(data, null);
+	}
+
+	/* Converts the image data as the clipboard does for the given contents */
+	private ImageData roundTrip(ImageData data, Object[] contents) throws Exception {
+		if (contents != null) {
+			Method method = ImageTransfer.class.getDeclaredMethod("javaToNative", Object.class, TransferData.class, Object.class);
+			method.setAccessible(true);
+			method.invoke(transfer, data, png, contents);
+		} else {
+			transfer.javaToNative(data, png);
+		}
+		assertEquals(1, png.result);
+		try {
+			ImageData result = (ImageData) transfer.nativeToJava(png);
+			assertNotNull(result);
+			assertEquals(data.width, result.width);
+			assertEquals(data.height, result.height);
+			return result;
+		} finally {
+			OS.g_free(png.pValue);
+			png.pValue = 0;
+		}
+	}
+
+	private static ImageData createDirect() {
+		ImageData data = new ImageData(8, 4, 24, new PaletteData(0xFF0000, 0xFF00, 0xFF));
+		for (int y = 0; y < data.height; y++) {
+			for (int x = 0; x < data.width; x++) {
+				data.setPixel(x, y, x * 30 << 16 | y * 60 << 8 | 0x80);
+			}
+		}
+		return data;
+	}
+
+	@Test
+	public void test_directPalette() throws Exception {
+		ImageData data = createDirect();
+		ImageData result = roundTrip(data);
+		for (int y = 0; y < data.height; y++) {
+			for (int x = 0; x < data.width; x++) {
+				assertEquals(data.palette.getRGB(data.getPixel(x, y)), result.palette.getRGB(result.getPixel(x, y)));
+			}
+		}
+	}
+
+	@Test
+	public void test_alphaData() throws Exception {
+		ImageData data = createDirect();
+		for (int x = 0; x < data.width; x++) {
+			data.setAlpha(x, 0, x * 32);
+		}
+		ImageData result = roundTrip(data);
+		for (int x = 0; x < data.width; x++) {
+			assertEquals(x * 32, result.getAlpha(x, 0));
+			assertEquals(255, result.getAlpha(x, 1));
+		}
+		assertEquals(data.palette.getRGB(data.getPixel(3, 1)), result.palette.getRGB(result.getPixel(3, 1)));
+	}
+
+	@Test
+	public void test_indexedPaletteWithTransparentPixel() throws Exception {
+		RGB[] colors = {new RGB(255, 0, 0), new RGB(0, 255, 0), new RGB(0, 0, 255), new RGB(255, 255, 255)};
+		ImageData data = new ImageData(4, 2, 2, new PaletteData(colors));
+		for (int x = 0; x < data.width; x++) {
+			data.setPixel(x, 0, x);
+			data.setPixel(x, 1, 3 - x);
+		}
+		data.transparentPixel = 3;
+		ImageData result = roundTrip(data);
+		for (int y = 0; y < data.height; y++) {
+			for (int x = 0; x < data.width; x++) {
+				int pixel = data.getPixel(x, y);
+				assertEquals(pixel == 3 ? 0 : 255, result.getAlpha(x, y));
+				if (pixel != 3) assertEquals(colors[pixel], result.palette.getRGB(result.getPixel(x, y)));
+			}
+		}
+	}
+
+	@Test
+	public void test_formats() throws Exception {
+		ImageData data = createDirect();
+		for (TransferData type : transfer.getSupportedTypes()) {
+			transfer.javaToNative(data, type);
+			if (type.result == 1) OS.g_free(type.pValue);
+		}
+		roundTrip(data);
+	}
+
+	@Test
+	public void test_clipboardContentsConvertedOnce() throws Exception {
+		ImageData data = createDirect();
+		Object[] contents = {data};
+		roundTrip(data, contents);
+		/* The pixbuf belongs to the set operation, later changes are not seen */
+		data.setPixel(2, 1, 0x123456);
+		ImageData result = roundTrip(data, contents);
+		assertEquals(new RGB(60, 60, 0x80), result.palette.getRGB(result.getPixel(2, 1)));
+		/* Setting the contents again converts the image again */
+		result = roundTrip(data, new Object[] {data});
+		assertEquals(new RGB(0x12, 0x34, 0x56), result.palette.getRGB(result.getPixel(2, 1)));
+	}
+
+	@Test
+	public void test_modifiedImageData() throws Exception {
+		ImageData data = createDirect();
+		roundTrip(data);
+		/* The image data is converted again for every request outside the clipboard */
+		data.setPixel(2, 1, 0x123456);
+		ImageData result = roundTrip(data);
+		assertEquals(new RGB(0x12, 0x34, 0x56), result.palette.getRGB(result.getPixel(2, 1)));
+
+		/* including changes of its palette */
+		RGB[] colors = {new RGB(255, 0, 0), new RGB(0, 0, 255)};
+		ImageData indexed = new ImageData(2, 1, 1, new PaletteData(colors));
+		indexed.setPixel(1, 0, 1);
+		roundTrip(indexed);
+		colors[1].green = 255;
+		result = roundTrip(indexed);
+		assertEquals(new RGB(0, 255, 255), result.palette.getRGB(result.getPixel(1, 0)));
+	}
+}
@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.tests.gtk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.eclipse.swt.internal.LongMap;
+import org.junit.Test;
+
+public class Test_LongMap {
+
+	@Test
+	public void test_putGetRemove() {
+		LongMap<String> map = new LongMap<>();
+		assertNull(map.get(0x1000));
+		assertNull(map.put(0x1000, "a"));
+		assertNull(map.put(0x2000, "b"));
+		assertEquals("a", map.get(0x1000));
+		assertEquals("b", map.get(0x2000));
+		assertEquals("a", map.put(0x1000, "c"));
+		assertEquals(2, map.size());
+		assertEquals("c", map.remove(0x1000));
+		assertNull(map.get(0x1000));
+		assertNull(map.remove(0x1000));
+		assertEquals(1, map.size());
+		assertNull(map.get(0));
+	}
+
+	@Test
+	public void test_removeValue() {
+		LongMap<String> map = new LongMap<>();
+		String a = "a", b = "b";
+		// keys of one cluster, the removals shift the remaining entries back
+		for (long key = 16; key <= 16 * 64; key += 16) {
+			map.put(key, (key / 16) % 3 == 0 ? b : a);
+		}
+		assertEquals(21, map.removeValue(b));
+		assertEquals(43, map.size());
+		for (long key = 16; key <= 16 * 64; key += 16) {
+			assertEquals((key / 16) % 3 == 0 ? null : a, map.get(key));
+		}
+		assertEquals(0, map.removeValue(b));
+		assertEquals(43, map.removeValue(a));
+		assertEquals(0, map.size());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void test_putZeroKey() {
+		new LongMap<String>().put(0, "a");
+	}
+
+	@Test
+	public void test_againstHashMap() {
+		LongMap<Long> map = new LongMap<>();
+		Map<Long, Long> expected = new HashMap<>();
+		Random random = new Random(42);
+		for (int i = 0; i < 200_000; i++) {
+			// aligned "pointers" from a small range force long probe sequences
+			long key = (random.nextInt(4096) + 1) * 16L;
+			switch (random.nextInt(3)) {
+			case 0:
+				assertEquals(expected.put(key, key), map.put(key, key));
+				break;
+			case 1:
+				assertEquals(expected.remove(key), map.remove(key));
+				break;
+			default:
+				assertEquals(expected.get(key), map.get(key));
+			}
+			assertEquals(expected.size(), map.size());
+		}
+		for (Map.Entry<Long, Long> entry : expected.entrySet()) {
+			assertEquals(entry.getValue(), map.get(entry.getKey()));
+		}
+		int[] count = { 0 };
+		map.forEachValue(value -> count[0]++);
+		assertEquals(expected.size(), count[0]);
+		map.clear();
+		assertEquals(0, map.size());
+		assertNull(map.get(16));
+	}
+}
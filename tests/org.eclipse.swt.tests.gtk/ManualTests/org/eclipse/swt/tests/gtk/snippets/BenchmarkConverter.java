@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.tests.gtk.snippets;
+
+import org.eclipse.swt.internal.C;
+import org.eclipse.swt.internal.Converter;
+import org.eclipse.swt.internal.gtk.OS;
+
+/**
+ * Compares the string conversions of {@link Converter} with the round trip
+ * through <code>g_utf16_to_utf8</code> and <code>g_utf8_to_utf16</code> they
+ * replace, for short ASCII and CJK strings as used by labels and items.
+ */
+public class BenchmarkConverter {
+	private static final int ITERATIONS = 1_000_000;
+	private static final String ASCII = "File > Open Recent Project...";
+	private static final String CJK = "最近使用したプロジェクトを開く";
+
+	/**
+	 * manual performance test
+	 *
+	 * @param args ignored
+	 */
+	public static void main(String[] args) {
+		for (int runs = 0; runs < 10; runs++) {
+			for (String string : new String[] {ASCII, CJK}) {
+				String name = string == ASCII ? "ASCII" : "CJK  ";
+				byte[] bytes = Converter.wcsToMbcs(string, true);
+				int sink = 0;
+
+				long nanoTime = System.nanoTime();
+				for (int i = 0; i < ITERATIONS; i++) {
+					sink += glibWcsToMbcs(string).length;
+				}
+				long glibEncode = System.nanoTime() - nanoTime;
+
+				nanoTime = System.nanoTime();
+				for (int i = 0; i < ITERATIONS; i++) {
+					sink += Converter.wcsToMbcs(string, true).length;
+				}
+				long javaEncode = System.nanoTime() - nanoTime;
+
+				nanoTime = System.nanoTime();
+				for (int i = 0; i < ITERATIONS; i++) {
+					sink += glibMbcsToWcs(bytes).length;
+				}
+				long glibDecode = System.nanoTime() - nanoTime;
+
+				nanoTime = System.nanoTime();
+				for (int i = 0; i < ITERATIONS; i++) {
+					sink += Converter.mbcsToWcs(bytes).length;
+				}
+				long javaDecode = System.nanoTime() - nanoTime;
+
+				System.out.println(name + " encode: glib " + String.format("%,6d", glibEncode / ITERATIONS)
+						+ " ns, java " + String.format("%,6d", javaEncode / ITERATIONS)
+						+ " ns   decode: glib " + String.format("%,6d", glibDecode / ITERATIONS)
+						+ " ns, java " + String.format("%,6d", javaDecode / ITERATIONS) + " ns   (" + sink + ")");
+			}
+		}
+	}
+
+	static byte[] glibWcsToMbcs(String string) {
+		char[] chars = string.toCharArray();
+		long[] items_read = new long[1], items_written = new long[1];
+		long ptr = OS.g_utf16_to_utf8(chars, chars.length, items_read, items_written, null);
+		int written = (int) items_written[0];
+		byte[] bytes = new byte[written + 1];
+		C.memmove(bytes, ptr, written);
+		OS.g_free(ptr);
+		return bytes;
+	}
+
+	static char[] glibMbcsToWcs(byte[] buffer) {
+		long[] items_written = new long[1];
+		long ptr = OS.g_utf8_to_utf16(buffer, buffer.length, null, items_written, null);
+		int length = (int) items_written[0];
+		char[] chars = new char[length];
+		C.memmove(chars, ptr, length * 2);
+		OS.g_free(ptr);
+		return chars;
+	}
+}
@@ -30,7 +30,7 @@ import org.junit.runners.Suite;
 @RunWith(Suite.class)
 @Suite.SuiteClasses({ Test_org_eclipse_swt_SWT.class, Test_org_eclipse_swt_SWTException.class,
 		Test_org_eclipse_swt_SWTError.class, Test_org_eclipse_swt_widgets_Display.class, AllGraphicsTests.class,
-		AllWidgetTests.class, Test_org_eclipse_swt_layout_GridData.class,
+		AllWidgetTests.class, Test_org_eclipse_swt_layout_GridData.class, Test_org_eclipse_swt_layout_GridLayout.class,
 		Test_org_eclipse_swt_events_ControlEvent.class, Test_org_eclipse_swt_events_ModifyEvent.class,
 		Test_org_eclipse_swt_events_ArmEvent.class, Test_org_eclipse_swt_events_ShellEvent.class,
 		Test_org_eclipse_swt_events_TypedEvent.class, Test_org_eclipse_swt_events_PaintEvent.class,
@@ -45,7 +45,9 @@ import org.junit.runners.Suite;
 		Test_org_eclipse_swt_accessibility_Accessible.class,
 		Test_org_eclipse_swt_accessibility_AccessibleControlEvent.class,
 		Test_org_eclipse_swt_accessibility_AccessibleEvent.class,
-		Test_org_eclipse_swt_accessibility_AccessibleTextEvent.class })
+		Test_org_eclipse_swt_accessibility_AccessibleTextEvent.class,
+		Test_org_eclipse_swt_internal_NativeProfiler.class,
+		Test_org_eclipse_swt_tools_internal_ProfileGenerator.class })
 public class AllNonBrowserTests {
 	private static List<Error> leakedResources;
 
@@ -16,15 +16,28 @@ package org.eclipse.swt.tests.junit;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeFalse;
+import static org.junit.Assume.assumeTrue;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.accessibility.ACC;
 import org.eclipse.swt.accessibility.Accessible;
+import org.eclipse.swt.accessibility.AccessibleControlAdapter;
 import org.eclipse.swt.accessibility.AccessibleControlEvent;
 import org.eclipse.swt.accessibility.AccessibleControlListener;
 import org.eclipse.swt.accessibility.AccessibleEvent;
 import org.eclipse.swt.accessibility.AccessibleListener;
 import org.eclipse.swt.accessibility.AccessibleTextEvent;
 import org.eclipse.swt.accessibility.AccessibleTextListener;
+import org.eclipse.swt.widgets.Canvas;
 import org.eclipse.swt.widgets.Shell;
 import org.junit.After;
 import org.junit.Before;
@@ -130,7 +143,92 @@ public void test_getControl() {
 	assertEquals(shell, accessible.getControl());
 }
 
+@Test
+public void test_textChangedUpdatesListenerText() {
+	assumeGtkAccessibleObjects();
+	Canvas canvas = new Canvas(shell, SWT.NONE);
+	Accessible canvasAccessible = canvas.getAccessible();
+	String[] value = {"first"};
+	int[] calls = {0};
+	canvasAccessible.addAccessibleControlListener(new AccessibleControlAdapter() {
+		@Override
+		public void getValue(AccessibleControlEvent e) {
+			calls[0]++;
+			e.result = value[0];
+		}
+	});
+	Object object = invoke(canvasAccessible, "getAccessibleObject");
+
+	// a control that never reports its text changes is asked every time
+	assertEquals("first", invoke(object, "getText"));
+	value[0] = "second";
+	assertEquals("second", invoke(object, "getText"));
+	assertEquals(2, calls[0]);
+
+	// once it does, the text is kept until the next change is reported
+	canvasAccessible.textChanged(ACC.TEXT_INSERT, 0, 6);
+	assertEquals("second", invoke(object, "getText"));
+	assertEquals("second", invoke(object, "getText"));
+	assertEquals(3, calls[0]);
+	value[0] = "third";
+	canvasAccessible.textChanged(ACC.TEXT_INSERT, 6, 5);
+	assertEquals("third", invoke(object, "getText"));
+	assertEquals(4, calls[0]);
+
+	// or until the display runs its pending runnables
+	value[0] = "fourth";
+	while (shell.getDisplay().readAndDispatch()) {}
+	assertEquals("fourth", invoke(object, "getText"));
+	assertEquals(5, calls[0]);
+}
+
+@Test
+public void test_accessibleObjectRegistry() throws Exception {
+	assumeGtkAccessibleObjects();
+	Canvas canvas1 = new Canvas(shell, SWT.NONE);
+	Canvas canvas2 = new Canvas(shell, SWT.NONE);
+	Object object1 = invoke(canvas1.getAccessible(), "getAccessibleObject");
+	Object object2 = invoke(canvas2.getAccessible(), "getAccessibleObject");
+	assertNotNull(object1);
+	assertNotSame(object1, object2);
+
+	// the objects are found by the handle of their AtkObject
+	Class<?> objectClass = object1.getClass();
+	Method lookup = objectClass.getDeclaredMethod("getAccessibleObject", long.class);
+	lookup.setAccessible(true);
+	Field atkHandle = objectClass.getDeclaredField("atkHandle");
+	atkHandle.setAccessible(true);
+	long handle1 = atkHandle.getLong(object1);
+	long handle2 = atkHandle.getLong(object2);
+	assertSame(object1, lookup.invoke(null, handle1));
+	assertSame(object2, lookup.invoke(null, handle2));
+
+	// and are not returned once their control is disposed
+	canvas1.dispose();
+	assertNull(lookup.invoke(null, handle1));
+	assertSame(object2, lookup.invoke(null, handle2));
+}
+
 /* custom */
 private Shell shell;
 private Accessible accessible;
+
+/**
+ * The accessible objects of GTK 3 are implemented in Java, on GTK 4 they are not.
+ */
+private static void assumeGtkAccessibleObjects() {
+	assumeTrue("accessible objects are GTK specific", SwtTestUtil.isGTK);
+	assumeFalse("accessible objects are not implemented on GTK 4",
+			System.getProperty("org.eclipse.swt.internal.gtk.version", "").startsWith("4."));
+}
+
+private static Object invoke(Object target, String name) {
+	try {
+		Method method = target.getClass().getDeclaredMethod(name);
+		method.setAccessible(true);
+		return method.invoke(target);
+	} catch (Throwable t) {
+		throw new AssertionError("reflection call to " + target.getClass().getName() + "." + name + "() failed", t);
+	}
+}
 }
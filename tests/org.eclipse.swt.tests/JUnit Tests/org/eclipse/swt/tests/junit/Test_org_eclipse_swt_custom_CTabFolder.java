@@ -17,6 +17,7 @@ package org.eclipse.swt.tests.junit;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -29,13 +30,17 @@ import java.util.function.BiConsumer;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.custom.CTabFolder;
+import org.eclipse.swt.custom.CTabFolderRenderer;
 import org.eclipse.swt.custom.CTabItem;
 import org.eclipse.swt.custom.SashForm;
 import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.graphics.FontData;
+import org.eclipse.swt.graphics.GC;
 import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.graphics.TextLayout;
 import org.eclipse.swt.layout.FillLayout;
 import org.eclipse.swt.layout.GridData;
 import org.eclipse.swt.layout.GridLayout;
@@ -101,6 +106,10 @@ public void test_setFontLorg_eclipse_swt_graphics_Font() {
 /* custom */
 protected CTabFolder ctabFolder;
 
+/* The text flags and ellipsis of CTabFolderRenderer */
+private static final int FLAGS = SWT.DRAW_TRANSPARENT | SWT.DRAW_MNEMONIC | SWT.DRAW_DELIMITER;
+private static final String ELLIPSIS = "...";
+
 /**
  * Dispose all widgets in shell and create a new empty {@link CTabFolder}.
  */
@@ -531,6 +540,49 @@ private void checkElementOverlap(CTabFolder tabFolder) {
 	}
 }
 
+private static Object reflection_getItemField(CTabItem item, String name) {
+	try {
+		Field field = CTabItem.class.getDeclaredField(name);
+		field.setAccessible(true);
+		return field.get(item);
+	} catch (Exception e) {
+		throw new AssertionError("Failed to access " + name + " via reflection.", e);
+	}
+}
+
+private String reflection_shortenText(GC gc, String text, int width, String ellipses) {
+	try {
+		Method method = CTabFolderRenderer.class.getDeclaredMethod("shortenText", GC.class, String.class, int.class, String.class);
+		method.setAccessible(true);
+		return (String) method.invoke(ctabFolder.getRenderer(), gc, text, width, ellipses);
+	} catch (Exception e) {
+		throw new AssertionError("reflection call to CTabFolderRenderer.shortenText() failed", e);
+	}
+}
+
+/**
+ * The linear scan which was used by CTabFolderRenderer.shortenText: measures the
+ * prefixes ending at a cluster boundary, from the longest, until one fits.
+ */
+private String shortenTextLinear(GC gc, String text, int width, String ellipses) {
+	if (gc.textExtent(text, FLAGS).x <= width) return text;
+	int ellipseWidth = gc.textExtent(ellipses, FLAGS).x;
+	int length = text.length();
+	TextLayout layout = new TextLayout(ctabFolder.getDisplay());
+	layout.setText(text);
+	int end = layout.getPreviousOffset(length, SWT.MOVEMENT_CLUSTER);
+	while (end > 0) {
+		text = text.substring(0, end);
+		int l = gc.textExtent(text, FLAGS).x;
+		if (l + ellipseWidth <= width) {
+			break;
+		}
+		end = layout.getPreviousOffset(end, SWT.MOVEMENT_CLUSTER);
+	}
+	layout.dispose();
+	return end == 0 ? text.substring(0, 1) : text + ellipses;
+}
+
 private static Control[] reflection_getChildControls(CTabFolder tabFolder) {
 	String childControlArrayName = "controls";
 	try {
@@ -594,4 +646,102 @@ private Rectangle getBoundsInShell(Widget control) {
 	return bounds;
 }
 
+@Test
+public void test_shortenedText() {
+	String text = "/home/user/workspace/org.eclipse.swt/Eclipse SWT Custom Widgets/common/org/eclipse/swt/custom/CTabFolderRenderer.java";
+	CTabItem item = new CTabItem(ctabFolder, SWT.NONE);
+	item.setText(text);
+	ctabFolder.setSelection(item);
+	shell.setSize(200, 100);
+	shell.open();
+	processEvents();
+	// the tab shows a prefix of the text, the full text is shown in its tool tip
+	assertEquals(text, item.getToolTipText());
+
+	String shortenedText = (String) reflection_getItemField(item, "shortenedText");
+	int shortenedTextWidth = (Integer) reflection_getItemField(item, "shortenedTextWidth");
+	assertTrue(shortenedText.length() < text.length());
+	GC gc = new GC(ctabFolder);
+	try {
+		gc.setFont(ctabFolder.getFont());
+		String ellipses = ctabFolder.getSimple() ? ELLIPSIS : "";
+		assertEquals(shortenTextLinear(gc, text, shortenedTextWidth, ellipses), shortenedText);
+
+		// the binary search finds the prefix found by measuring every prefix
+		String accentedText = "Ve\u0301rifie\u0301 le de\u0301ja\u0300 e\u0301le\u0301ment";
+		for (String string : new String[] {text, accentedText}) {
+			int textWidth = gc.textExtent(string, FLAGS).x;
+			int ellipsisWidth = gc.textExtent(ELLIPSIS, FLAGS).x;
+			int[] widths = {0, 1, ellipsisWidth, ellipsisWidth + 1, textWidth / 4, textWidth / 3, textWidth / 2, textWidth - 1, textWidth};
+			for (int width : widths) {
+				for (String e : new String[] {ELLIPSIS, ""}) {
+					assertEquals("width " + width, shortenTextLinear(gc, string, width, e),
+							reflection_shortenText(gc, string, width, e));
+				}
+			}
+			// the first character is shown when nothing fits
+			assertEquals(string.substring(0, 1), reflection_shortenText(gc, string, 0, ELLIPSIS));
+			assertEquals(string, reflection_shortenText(gc, string, textWidth, ELLIPSIS));
+		}
+	} finally {
+		gc.dispose();
+	}
+
+	item.setText("Short");
+	processEvents();
+	assertNull(item.getToolTipText());
+}
+
+@Test
+public void test_itemSizeUpdates() {
+	createTabFolder(null);
+	shell.setSize(800, 200);
+	shell.open();
+	processEvents();
+	Rectangle firstBounds = ctabFolder.getItem(0).getBounds();
+	int width = ctabFolder.getItem(1).getBounds().width;
+
+	// only the item whose text changed is resized
+	ctabFolder.getItem(1).setText("CTabItem with a longer text");
+	processEvents();
+	assertTrue(ctabFolder.getItem(1).getBounds().width > width);
+	assertEquals(firstBounds, ctabFolder.getItem(0).getBounds());
+
+	// the font of the folder resizes all items
+	FontData fontData = ctabFolder.getFont().getFontData()[0];
+	fontData.setHeight(fontData.getHeight() * 2);
+	Font font = new Font(ctabFolder.getDisplay(), fontData);
+	try {
+		ctabFolder.setFont(font);
+		processEvents();
+		assertTrue(ctabFolder.getItem(0).getBounds().width > firstBounds.width);
+	} finally {
+		ctabFolder.setFont(null);
+		font.dispose();
+	}
+}
+
+@Test
+public void test_itemSizeCustomRenderer() {
+	int[] padding = new int[1];
+	createTabFolder(null);
+	ctabFolder.setRenderer(new CTabFolderRenderer(ctabFolder) {
+		@Override
+		protected Point computeSize(int part, int state, GC gc, int wHint, int hHint) {
+			Point size = super.computeSize(part, state, gc, wHint, hHint);
+			if (part >= 0) size.x += padding[0];
+			return size;
+		}
+	});
+	shell.setSize(800, 200);
+	shell.open();
+	processEvents();
+	int width = ctabFolder.getItem(0).getBounds().width;
+
+	// sizes computed by a custom renderer are not cached by the folder
+	padding[0] = 20;
+	ctabFolder.getItem(1).setText("CTabItem with a longer text");
+	processEvents();
+	assertEquals(width + 20, ctabFolder.getItem(0).getBounds().width);
+}
 }
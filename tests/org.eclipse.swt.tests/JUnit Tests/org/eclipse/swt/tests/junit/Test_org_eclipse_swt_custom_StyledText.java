@@ -32,6 +32,8 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Random;
 import java.util.function.BooleanSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -860,6 +862,56 @@ public void test_cut() {
 	clipboard.dispose();
 }
 
+@Test
+public void test_findLjava_util_regex_PatternIZ() {
+	text.setText("one two one\nthree one");
+	Pattern pattern = Pattern.compile("one");
+	assertEquals(new Point(0, 3), text.find(pattern, 0, true));
+	assertEquals(new Point(8, 3), text.find(pattern, 1, true));
+	assertEquals(new Point(18, 3), text.find(pattern, 12, true));
+	assertNull(text.find(pattern, 19, true));
+	assertEquals(new Point(8, 3), text.find(pattern, 18, false));
+	assertEquals(new Point(18, 3), text.find(pattern, 21, false));
+	assertNull(text.find(pattern, 2, false));
+	// look-arounds see the text outside of the searched range
+	assertNull(text.find(Pattern.compile("(?<=two )one"), 9, true));
+	assertEquals(new Point(8, 3), text.find(Pattern.compile("(?<=two )one"), 8, true));
+
+	assertThrows(IllegalArgumentException.class, () -> text.find(null, 0, true));
+	assertThrows(IllegalArgumentException.class, () -> text.find(pattern, -1, true));
+	assertThrows(IllegalArgumentException.class, () -> text.find(pattern, 22, false));
+}
+
+@Test
+public void test_findAllLjava_util_regex_PatternII() {
+	Random random = new Random(7);
+	StringBuilder buffer = new StringBuilder();
+	for (int i = 0; i < 400000; i++) {
+		int c = random.nextInt(10);
+		buffer.append(c < 4 ? 'a' : c < 7 ? 'b' : c < 9 ? ' ' : '\n');
+	}
+	text.setText(buffer.toString());
+	// move the gap of the content into the searched text
+	text.replaceTextRange(200000, 1, "a");
+	String string = text.getText();
+
+	// the large content is searched in chunks, the result must be the one of a sequential search
+	for (String regex : new String[] {"ab+", "a*", "(?m)^a", "\\b", "(?s)a.{0,70000}?b", "(?<=a)b "}) {
+		Pattern pattern = Pattern.compile(regex);
+		int start = 1000, length = string.length() - 2000;
+		Matcher matcher = pattern.matcher(string).region(start, start + length).useTransparentBounds(true).useAnchoringBounds(false);
+		java.util.List<Integer> expected = new ArrayList<>();
+		while (matcher.find()) {
+			expected.add(matcher.start());
+			expected.add(matcher.end() - matcher.start());
+		}
+		assertArrayEquals(regex, expected.stream().mapToInt(Integer::intValue).toArray(), text.findAll(pattern, start, length));
+	}
+	assertEquals(0, text.findAll(Pattern.compile("c"), 0, string.length()).length);
+	assertThrows(IllegalArgumentException.class, () -> text.findAll(null, 0, 0));
+	assertThrows(IllegalArgumentException.class, () -> text.findAll(Pattern.compile("a"), 1, string.length()));
+}
+
 @Test
 public void test_getCaretOffset() {
 	assertEquals(":a:", 0, text.getCaretOffset());
@@ -1278,6 +1330,68 @@ void test_getLinePixel(StyledText text) {
 	assertEquals(lineHeight, text.getLinePixel(10));
 }
 
+@Test
+public void test_getLinePixel_distantLinesWithVariableHeight() {
+	StyledText text = new StyledText(shell, SWT.WRAP);
+	int lineHeight = text.getLineHeight();
+	StringBuilder buffer = new StringBuilder();
+	for (int i = 0; i < 5000; i++) {
+		buffer.append("Line").append(i).append('\n');
+	}
+	text.setText(buffer.toString());
+	text.setSize(400, lineHeight * 10);
+	text.setLineSpacingProvider(lineIndex -> lineIndex % 2 == 0 ? Integer.valueOf(2) : null);
+
+	// lines far from the top index are located with estimated heights, the mapping must still be consistent
+	for (int line : new int[] {0, 1, 300, 2499, 4998}) {
+		int y = text.getLinePixel(line);
+		assertEquals(line, text.getLineIndex(y));
+		assertTrue(text.getLinePixel(line + 1) > y);
+	}
+	text.setTopIndex(4000);
+	assertEquals(4000, text.getTopIndex());
+	assertEquals(0, text.getLinePixel(4000));
+	assertEquals(4000, text.getLineIndex(0));
+	assertEquals(lineHeight + 2, text.getLinePixel(4001));
+	for (int line : new int[] {0, 17, 2000, 3999}) {
+		int y = text.getLinePixel(line);
+		assertTrue(y < 0);
+		assertEquals(line, text.getLineIndex(y));
+	}
+	text.dispose();
+}
+
+@Test
+public void test_getLinePixel_verticalIndentOfMeasuredLine() {
+	StyledText text = new StyledText(shell, SWT.NONE);
+	int lineHeight = text.getLineHeight();
+	StringBuilder buffer = new StringBuilder();
+	for (int i = 0; i < 5000; i++) {
+		buffer.append("Line").append(i).append('\n');
+	}
+	text.setText(buffer.toString());
+	text.setSize(400, lineHeight * 10);
+	// measure the lines around 300, then scroll them out of view
+	text.setTopIndex(300);
+	text.setTopIndex(0);
+	int y300 = text.getLinePixel(300);
+	int y400 = text.getLinePixel(400);
+
+	text.setLineVerticalIndent(300, 20);
+	assertEquals(y300, text.getLinePixel(300));
+	assertEquals(y300 + lineHeight + 20, text.getLinePixel(301));
+	assertEquals(y400 + 20, text.getLinePixel(400));
+	assertEquals(300, text.getLineIndex(y300 + lineHeight + 19));
+	assertEquals(301, text.getLineIndex(y300 + lineHeight + 20));
+	assertEquals(400, text.getLineIndex(y400 + 20));
+
+	text.setLineVerticalIndent(300, 0);
+	assertEquals(y300 + lineHeight, text.getLinePixel(301));
+	assertEquals(y400, text.getLinePixel(400));
+	assertEquals(400, text.getLineIndex(y400));
+	text.dispose();
+}
+
 @Test
 public void test_getLocationAtOffsetI(){
 	// copy from StyledText, has to match value used by StyledText
@@ -3080,6 +3194,51 @@ public void test_replaceTextRangeIILjava_lang_String(){
 	text.removeSelectionListener(selectionListener);
 }
 
+@Test
+public void test_replaceTextRanges$I$Ljava_lang_String() {
+	text.setText("one two\nthree four\nfive six\nseven");
+	StyleRange bold = new StyleRange(4, 3, null, null, SWT.BOLD);
+	StyleRange italic = new StyleRange(19, 4, null, null, SWT.ITALIC);
+	text.setStyleRanges(new StyleRange[] {bold, italic});
+	text.setSelectionRanges(new int[] {4, 0, 24, 0});
+	int[] modifyCount = {0};
+	text.addModifyListener(e -> modifyCount[0]++);
+
+	text.replaceTextRanges(new int[] {0, 3, 14, 4, 28, 5}, new String[] {"1", "4", "7"});
+	assertEquals("1 two\nthree 4\nfive six\n7", text.getText());
+	assertEquals(1, modifyCount[0]);
+	// the text in between the edits keeps its styles, the carets move with the text
+	StyleRange[] styles = text.getStyleRanges();
+	assertEquals(2, styles.length);
+	assertEquals(2, styles[0].start);
+	assertEquals(3, styles[0].length);
+	assertEquals(SWT.BOLD, styles[0].fontStyle);
+	assertEquals(14, styles[1].start);
+	assertEquals(4, styles[1].length);
+	assertEquals(SWT.ITALIC, styles[1].fontStyle);
+	assertArrayEquals(new int[] {2, 0, 19, 0}, text.getSelectionRanges());
+
+	// an edit inside a style splits it, as replaceTextRange does
+	text.replaceTextRanges(new int[] {3, 1, 16, 0}, new String[] {"W", "-"});
+	assertEquals("1 tWo\nthree 4\nfi-ve six\n7", text.getText());
+	styles = text.getStyleRanges();
+	assertEquals(4, styles.length);
+	assertEquals(new Point(2, 1), new Point(styles[0].start, styles[0].length));
+	assertEquals(new Point(4, 1), new Point(styles[1].start, styles[1].length));
+	assertEquals(new Point(14, 2), new Point(styles[2].start, styles[2].length));
+	assertEquals(new Point(17, 2), new Point(styles[3].start, styles[3].length));
+
+	// the matches of findAll can be replaced at once
+	text.replaceTextRanges(text.findAll(Pattern.compile("e"), 0, text.getCharCount()), new String[] {"E", "E", "E"});
+	assertEquals("1 tWo\nthrEE 4\nfi-vE six\n7", text.getText());
+
+	text.replaceTextRanges(new int[0], new String[0]);
+	assertThrows(IllegalArgumentException.class, () -> text.replaceTextRanges(new int[] {0, 2, 1, 1}, new String[] {"", ""}));
+	assertThrows(IllegalArgumentException.class, () -> text.replaceTextRanges(new int[] {0, 1}, new String[] {"", ""}));
+	assertThrows(IllegalArgumentException.class, () -> text.replaceTextRanges(new int[] {0, 1, 2, 1}, new String[] {"", null}));
+	assertThrows(IllegalArgumentException.class, () -> text.replaceTextRanges(null, new String[0]));
+}
+
 @Test
 public void test_selectAll() {
 	String line = "Line1\rLine2";
@@ -5545,18 +5704,22 @@ protected void rtfCopy() {
 	linesCalled[0] = 0;
 	text.copy();
 
-	// The listener is invoked twice for each line, once for RTF and once for HTML.
-	assertEquals("not all lines tested for RTF & HTML copy", 2 * text.getLineCount(), linesCalled[0]);
+	// The listener is not invoked by the copy, only when a format is requested.
+	assertEquals("line styles queried by copy", 0, linesCalled[0]);
 
 	Clipboard clipboard = new Clipboard(text.getDisplay());
 	RTFTransfer rtfTranfer = RTFTransfer.getInstance();
 	String clipboardText = (String) clipboard.getContents(rtfTranfer);
 	assertTrue("RTF copy failed", clipboardText.length() > 0);
+	assertEquals("not all lines tested for RTF copy", text.getLineCount(), linesCalled[0]);
 
 	HTMLTransfer htmlTranfer = HTMLTransfer.getInstance();
 	clipboardText = (String) clipboard.getContents(htmlTranfer);
 	assertTrue("HTML copy failed", clipboardText.length() > 0);
 
+	// The listener is invoked once for each line and format.
+	assertEquals("not all lines tested for RTF & HTML copy", 2 * text.getLineCount(), linesCalled[0]);
+
 	clipboard.dispose();
 	text.removeLineStyleListener(listener);
 }
@@ -5770,6 +5933,79 @@ public void test_clipboardCarryover() {
 	assertTrue("RTF copy failed", clipboardText.length() > 0);
 }
 
+@Test
+public void test_copySnapshotsRichFormats() {
+	assumeFalse("Disabled on Mac because similar clipboard tests are also disabled.", SwtTestUtil.isCocoa);
+
+	int[] styleRequests = {0};
+	text.setText("copied line\nsecond line");
+	text.setStyleRange(new StyleRange(0, 6, null, null, SWT.BOLD));
+	FontData fontData = text.getFont().getFontData()[0];
+	fontData.setHeight(23);
+	Font font = new Font(text.getDisplay(), fontData);
+	text.setFont(font);
+	text.setForeground(new Color(0x12, 0x34, 0x56));
+	text.selectAll();
+	LineStyleListener listener = event -> {
+		styleRequests[0]++;
+		event.styles = new StyleRange[] {new StyleRange(event.lineOffset, 6, null, null, SWT.ITALIC)};
+	};
+	text.copy();
+	text.addLineStyleListener(listener);
+
+	// changes of the widget after the copy must not change the copied content
+	text.setText("changed text");
+	text.setStyleRange(null);
+	text.setFont(null);
+	font.dispose();
+	text.setForeground(null);
+
+	Clipboard clipboard = new Clipboard(text.getDisplay());
+	try {
+		String rtfText = (String) clipboard.getContents(RTFTransfer.getInstance());
+		assertTrue(rtfText.contains("copied line"));
+		assertFalse(rtfText.contains("changed text"));
+		assertTrue(rtfText.contains("\\red18\\green52\\blue86;"));
+		assertTrue(rtfText.contains("\\fs46 "));
+		assertEquals("the styles of each line are queried once per format", 2, styleRequests[0]);
+		String htmlText = (String) clipboard.getContents(HTMLTransfer.getInstance());
+		assertTrue(htmlText.contains("second line"));
+		assertTrue(htmlText.contains("color:#123456;"));
+		assertTrue(htmlText.contains("font-size:23pt;"));
+		assertTrue(htmlText.contains("font-style:italic;"));
+		assertEquals(4, styleRequests[0]);
+		assertEquals("copied line" + System.lineSeparator() + "second line", clipboard.getContents(TextTransfer.getInstance()));
+		assertEquals(4, styleRequests[0]);
+	} finally {
+		clipboard.dispose();
+	}
+}
+
+@Test
+public void test_copySnapshotsStyleRanges() {
+	assumeFalse("Disabled on Mac because similar clipboard tests are also disabled.", SwtTestUtil.isCocoa);
+
+	text.setText("copied line\nsecond line");
+	text.setStyleRange(new StyleRange(0, 6, null, null, SWT.BOLD));
+	text.setStyleRange(new StyleRange(12, 6, null, null, SWT.ITALIC));
+	text.selectAll();
+	text.copy();
+
+	// the style ranges set in the widget are captured by the copy
+	text.replaceTextRange(0, 0, "changed ");
+	text.setStyleRange(null);
+
+	Clipboard clipboard = new Clipboard(text.getDisplay());
+	try {
+		String htmlText = (String) clipboard.getContents(HTMLTransfer.getInstance());
+		assertTrue(htmlText.contains("font-weight:bold;'>copied</span>"));
+		assertTrue(htmlText.contains("font-style:italic;'>second</span>"));
+		assertFalse(htmlText.contains("changed"));
+	} finally {
+		clipboard.dispose();
+	}
+}
+
 /**
  * Bug 563531 - [regression][StyledText] Scrolling with arrow down key does not update caret painting
  */
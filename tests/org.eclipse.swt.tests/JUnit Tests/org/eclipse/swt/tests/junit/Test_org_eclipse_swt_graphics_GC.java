@@ -22,11 +22,16 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.function.Consumer;
+
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.DrawList;
 import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.FontData;
 import org.eclipse.swt.graphics.FontMetrics;
 import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.GCData;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.ImageData;
 import org.eclipse.swt.graphics.PaletteData;
@@ -300,6 +305,96 @@ public void test_drawLineIIII() {
 	gc.drawLine(0,0,0,20);
 }
 
+@Test
+public void test_drawListLorg_eclipse_swt_graphics_DrawList() {
+	try {
+		gc.drawList(null);
+		fail("No exception thrown for null list");
+	} catch (IllegalArgumentException e) {
+		assertSWTProblem("Incorrect exception thrown for null list", SWT.ERROR_NULL_ARGUMENT, e);
+	}
+	gc.drawList(new DrawList());
+
+	DrawList list = new DrawList();
+	list.fillRectangle(10, 10, 30, 20);
+	list.drawLine(0, 50, 190, 50);
+	list.drawPolyline(new int[] {0, 60, 50, 100, 100, 60});
+	list.drawPolygon(new int[] {120, 60, 180, 60, 150, 100});
+	list.drawRectangle(60, 110, -40, 30);
+	list.fillPolygon(new int[] {120, 110, 180, 110, 150, 150});
+	list.drawPolyline(new int[0]);
+	assertFalse(list.isEmpty());
+
+	Image expected = new Image(display, 200, 200);
+	GC expectedGC = new GC(expected);
+	try {
+		for (GC target : new GC[] {gc, expectedGC}) {
+			target.setForeground(display.getSystemColor(SWT.COLOR_BLUE));
+			target.setBackground(display.getSystemColor(SWT.COLOR_RED));
+			target.setLineWidth(3);
+		}
+		/* The list is drawn twice to check it can be reused */
+		gc.drawList(list);
+		gc.drawList(list);
+		for (int i = 0; i < 2; i++) {
+			expectedGC.fillRectangle(10, 10, 30, 20);
+			expectedGC.drawLine(0, 50, 190, 50);
+			expectedGC.drawPolyline(new int[] {0, 60, 50, 100, 100, 60});
+			expectedGC.drawPolygon(new int[] {120, 60, 180, 60, 150, 100});
+			expectedGC.drawRectangle(60, 110, -40, 30);
+			expectedGC.fillPolygon(new int[] {120, 110, 180, 110, 150, 150});
+		}
+		ImageData actualData = image.getImageData();
+		ImageData expectedData = expected.getImageData();
+		for (int y = 0; y < 200; y++) {
+			for (int x = 0; x < 200; x++) {
+				assertEquals("pixel at " + x + "," + y, expectedData.getPixel(x, y), actualData.getPixel(x, y));
+			}
+		}
+
+		list.clear();
+		assertTrue(list.isEmpty());
+	} finally {
+		expectedGC.dispose();
+		expected.dispose();
+	}
+}
+
+@Test
+public void test_drawList_outlinesOnFreshGC() {
+	/* The outlines must be offset to the pixel centers like drawLine and drawRectangle, also as first operation */
+	for (int lineWidth : new int[] {0, 1, 2}) {
+		Image actual = new Image(display, 100, 100);
+		Image expected = new Image(display, 100, 100);
+		GC actualGC = new GC(actual);
+		GC expectedGC = new GC(expected);
+		try {
+			if (lineWidth != 0) {
+				actualGC.setLineWidth(lineWidth);
+				expectedGC.setLineWidth(lineWidth);
+			}
+			DrawList list = new DrawList();
+			list.drawLine(10, 10, 90, 10);
+			list.drawRectangle(20, 30, 40, 20);
+			actualGC.drawList(list);
+			expectedGC.drawLine(10, 10, 90, 10);
+			expectedGC.drawRectangle(20, 30, 40, 20);
+			ImageData actualData = actual.getImageData();
+			ImageData expectedData = expected.getImageData();
+			for (int y = 0; y < 100; y++) {
+				for (int x = 0; x < 100; x++) {
+					assertEquals("line width " + lineWidth + ", pixel at " + x + "," + y, expectedData.getPixel(x, y), actualData.getPixel(x, y));
+				}
+			}
+		} finally {
+			actualGC.dispose();
+			expectedGC.dispose();
+			actual.dispose();
+			expected.dispose();
+		}
+	}
+}
+
 @Test
 public void test_drawOvalIIII() {
 	gc.drawOval(10, 0, 20, 30);
@@ -322,6 +417,24 @@ public void test_drawPolyline$I() {
 	gc.drawPolyline(new int[] {0,0});
 }
 
+@Test
+public void test_drawPolygon$FII() {
+	float[] points = {-1, -1, 10, 20, 60, 40, 100, 20, 80, 80};
+	assertFloatPointsDrawn(points, other -> other.drawPolygon(new int[] {10, 20, 60, 40, 100, 20, 80, 80}),
+			target -> target.drawPolygon(points, 2, 4));
+	gc.drawPolygon(points, 0, 0);
+	gc.drawPolygon(points, 2, 1);
+}
+
+@Test
+public void test_drawPolyline$FII() {
+	float[] points = {-1, -1, 10, 20, 60, 40, 100, 20, 80, 80};
+	assertFloatPointsDrawn(points, other -> other.drawPolyline(new int[] {10, 20, 60, 40, 100, 20, 80, 80}),
+			target -> target.drawPolyline(points, 2, 4));
+	gc.drawPolyline(points, 0, 0);
+	gc.drawPolyline(points, 2, 1);
+}
+
 @Test
 public void test_drawRectangleIIII() {
 	gc.drawRectangle(10, 0, 20, 30);
@@ -424,6 +537,15 @@ public void test_fillPolygon$I() {
 	gc.fillPolygon(new int[] {-1, -1});
 }
 
+@Test
+public void test_fillPolygon$FII() {
+	float[] points = {-1, -1, 10, 20, 60, 40, 100, 20, 80, 80};
+	assertFloatPointsDrawn(points, other -> other.fillPolygon(new int[] {10, 20, 60, 40, 100, 20, 80, 80}),
+			target -> target.fillPolygon(points, 2, 4));
+	gc.fillPolygon(points, 0, 0);
+	gc.fillPolygon(points, 2, 1);
+}
+
 @Test
 public void test_fillRectangleIIII() {
 	gc.fillRectangle(new Rectangle(10, 0, 20, 30));
@@ -635,6 +757,83 @@ public void test_textExtentLjava_lang_StringI() {
 	assertTrue(pt.y > 0);
 }
 
+@Test
+public void test_textExtent_repeatedStrings() {
+	Point extent = gc.textExtent("abc&def", SWT.DRAW_MNEMONIC);
+	Point tabExtent = gc.textExtent("abc\tdef", SWT.DRAW_TAB);
+	/* Draw and measure more strings than are kept by the GC and by the device */
+	for (int i = 0; i < 2000; i++) {
+		gc.drawText("string " + i, 0, 0);
+		gc.textExtent("extent " + i);
+	}
+	assertEquals(extent, gc.textExtent("abc&def", SWT.DRAW_MNEMONIC));
+	assertEquals(tabExtent, gc.textExtent("abc\tdef", SWT.DRAW_TAB));
+
+	FontData fontData = gc.getFont().getFontData()[0];
+	fontData.setHeight(fontData.getHeight() * 3);
+	Font font = new Font(display, fontData);
+	try {
+		gc.setFont(font);
+		Point largeExtent = gc.textExtent("abc&def", SWT.DRAW_MNEMONIC);
+		assertTrue(largeExtent.x > extent.x);
+		assertTrue(largeExtent.y > extent.y);
+		gc.drawText("abc&def", 0, 0, SWT.DRAW_MNEMONIC);
+		assertEquals(largeExtent, gc.textExtent("abc&def", SWT.DRAW_MNEMONIC));
+		gc.setFont(null);
+		assertEquals(extent, gc.textExtent("abc&def", SWT.DRAW_MNEMONIC));
+	} finally {
+		gc.setFont(null);
+		font.dispose();
+	}
+
+	GC gc2 = new GC(image);
+	try {
+		assertEquals(extent, gc2.textExtent("abc&def", SWT.DRAW_MNEMONIC));
+	} finally {
+		gc2.dispose();
+	}
+}
+
+@Test
+public void test_drawText_layoutSharedByGCs() throws Exception {
+	Assume.assumeTrue("Layouts are shared on GTK", SwtTestUtil.isGTK);
+	/* A paint handler draws the same strings with a new GC on every paint */
+	GC gc1 = new GC(image);
+	gc1.drawText("shared layout", 0, 0);
+	long layout = getLayout(gc1);
+	gc1.dispose();
+	GC gc2 = new GC(image);
+	try {
+		gc2.drawText("shared layout", 0, 0);
+		assertEquals(layout, getLayout(gc2));
+		gc2.drawText("shared layout", 0, 0, SWT.DRAW_MNEMONIC);
+		assertNotEquals(layout, getLayout(gc2));
+
+		/* The layouts of another font are not shared */
+		FontData fontData = gc2.getFont().getFontData()[0];
+		fontData.setHeight(fontData.getHeight() * 2);
+		Font font = new Font(display, fontData);
+		try {
+			gc2.setFont(font);
+			gc2.drawText("shared layout", 0, 0);
+			assertNotEquals(layout, getLayout(gc2));
+			gc2.setFont(null);
+			gc2.drawText("shared layout", 0, 0);
+			assertEquals(layout, getLayout(gc2));
+		} finally {
+			gc2.setFont(null);
+			font.dispose();
+		}
+	} finally {
+		gc2.dispose();
+	}
+}
+
+private static long getLayout(GC gc) throws Exception {
+	GCData data = gc.getGCData();
+	return GCData.class.getField("layout").getLong(data);
+}
+
 @Test
 public void test_toString() {
 	String s = gc.toString();
@@ -687,6 +886,52 @@ public void test_bug493455_drawImageAlpha_srcPos() {
 }
 
 /* custom */
+/**
+ * Checks that drawing float points gives the same pixels as drawing the
+ * integer points, and that invalid arguments are rejected.
+ */
+private void assertFloatPointsDrawn(float[] points, Consumer<GC> expectedDrawing, Consumer<GC> drawing) {
+	Consumer<Runnable> assertInvalidRange = runnable -> {
+		try {
+			runnable.run();
+			fail("No exception thrown for invalid range");
+		} catch (IllegalArgumentException e) {
+			assertSWTProblem("Incorrect exception thrown for invalid range", SWT.ERROR_INVALID_RANGE, e);
+		}
+	};
+	try {
+		gc.drawPolyline(null, 0, 0);
+		fail("No exception thrown for null point array");
+	} catch (IllegalArgumentException e) {
+		assertSWTProblem("Incorrect exception thrown for null point array", SWT.ERROR_NULL_ARGUMENT, e);
+	}
+	assertInvalidRange.accept(() -> gc.drawPolyline(points, -1, 1));
+	assertInvalidRange.accept(() -> gc.drawPolygon(points, 0, -1));
+	assertInvalidRange.accept(() -> gc.fillPolygon(points, 2, 5));
+
+	Image expected = new Image(display, 200, 200);
+	GC expectedGC = new GC(expected);
+	try {
+		for (GC target : new GC[] {gc, expectedGC}) {
+			target.setForeground(display.getSystemColor(SWT.COLOR_BLUE));
+			target.setBackground(display.getSystemColor(SWT.COLOR_RED));
+			target.setLineWidth(2);
+		}
+		drawing.accept(gc);
+		expectedDrawing.accept(expectedGC);
+		ImageData actualData = image.getImageData();
+		ImageData expectedData = expected.getImageData();
+		for (int y = 0; y < 200; y++) {
+			for (int x = 0; x < 200; x++) {
+				assertEquals("pixel at " + x + "," + y, expectedData.getPixel(x, y), actualData.getPixel(x, y));
+			}
+		}
+	} finally {
+		expectedGC.dispose();
+		expected.dispose();
+	}
+}
+
 Display display;
 Shell shell;
 Image image;
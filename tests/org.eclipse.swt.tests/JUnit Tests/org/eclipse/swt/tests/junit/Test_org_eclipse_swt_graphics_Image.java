@@ -27,6 +27,13 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 import org.eclipse.swt.SWT;
@@ -38,6 +45,7 @@ import org.eclipse.swt.graphics.ImageData;
 import org.eclipse.swt.graphics.ImageDataProvider;
 import org.eclipse.swt.graphics.ImageFileNameProvider;
 import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.graphics.Pattern;
 import org.eclipse.swt.graphics.RGB;
 import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.internal.DPIUtil;
@@ -145,6 +153,41 @@ public void test_ConstructorLorg_eclipse_swt_graphics_DeviceII() {
 
 }
 
+@Test
+public void test_ConstructorLorg_eclipse_swt_graphics_DeviceII_reusedSurface() {
+	RGB white = new RGB(255, 255, 255);
+	Color red = new Color(255, 0, 0);
+	/* Images of the same size can reuse the surface of a disposed image */
+	for (int i = 0; i < 10; i++) {
+		Image image = new Image(display, 20, 20);
+		ImageData data = image.getImageData();
+		assertEquals("Image " + i + " not cleared", white, data.palette.getRGB(data.getPixel(10, 10)));
+		GC gc = new GC(image);
+		gc.setBackground(red);
+		gc.fillRectangle(0, 0, 20, 20);
+		gc.dispose();
+		image.dispose();
+	}
+
+	/* The surface of an image used by a pattern is not reused */
+	Image image = new Image(display, 20, 20);
+	GC gc = new GC(image);
+	gc.setBackground(red);
+	gc.fillRectangle(0, 0, 20, 20);
+	gc.dispose();
+	Pattern pattern = new Pattern(display, image);
+	image.dispose();
+	Image target = new Image(display, 20, 20);
+	gc = new GC(target);
+	gc.setBackgroundPattern(pattern);
+	gc.fillRectangle(0, 0, 20, 20);
+	gc.dispose();
+	ImageData data = target.getImageData();
+	assertEquals(red.getRGB(), data.palette.getRGB(data.getPixel(10, 10)));
+	target.dispose();
+	pattern.dispose();
+}
+
 @Test
 public void test_ConstructorLorg_eclipse_swt_graphics_DeviceLorg_eclipse_swt_graphics_Rectangle() {
 	Image image;
@@ -543,6 +586,81 @@ public void test_ConstructorLorg_eclipse_swt_graphics_Device_ImageFileNameProvid
 	image.dispose();
 }
 
+@Test
+public void test_loadAsyncLorg_eclipse_swt_graphics_DeviceLorg_eclipse_swt_graphics_ImageFileNameProviderLjava_util_concurrent_Executor() throws Exception {
+	ExecutorService executor = Executors.newFixedThreadPool(2);
+	try {
+		// Null provider
+		try {
+			Image.loadAsync(display, null, executor);
+			fail("No exception thrown for provider == null");
+		} catch (IllegalArgumentException e) {
+			assertSWTProblem("Incorrect exception thrown for provider == null", SWT.ERROR_NULL_ARGUMENT, e);
+		}
+		// Valid provider, the future completes on the user-interface thread
+		Thread[] completingThread = new Thread[1];
+		CompletableFuture<Image> future = Image.loadAsync(display, imageFileNameProvider, executor);
+		future.whenComplete((result, error) -> completingThread[0] = Thread.currentThread());
+		Image image = waitFor(future).get();
+		assertEquals(display.getThread(), completingThread[0]);
+		Image expected = new Image(display, imageFileNameProvider);
+		assertEquals(expected.getBounds(), image.getBounds());
+		expected.dispose();
+		image.dispose();
+		// Corrupt image, the error of the constructor is reported and the provider is not asked again
+		AtomicInteger calls = new AtomicInteger();
+		ImageFileNameProvider corruptProvider = zoom -> {
+			calls.incrementAndGet();
+			return getPath("corrupt.png");
+		};
+		try {
+			new Image(display, corruptProvider).dispose();
+			fail("No exception thrown for corrupt image file.");
+		} catch (SWTException e) {
+			assertSWTProblem("Incorrect exception thrown for provider with corrupt images", SWT.ERROR_INVALID_IMAGE, e);
+		}
+		int constructorCalls = calls.getAndSet(0);
+		future = Image.loadAsync(display, corruptProvider, executor);
+		try {
+			waitFor(future).get();
+			fail("No exception thrown for corrupt image file.");
+		} catch (ExecutionException e) {
+			assertSWTProblem("Incorrect exception thrown for provider with corrupt images", SWT.ERROR_INVALID_IMAGE, e.getCause());
+		}
+		assertEquals(constructorCalls, calls.get());
+		// Not on the user-interface thread
+		CompletableFuture<Throwable> otherThread = CompletableFuture.supplyAsync(() -> {
+			try {
+				Image.loadAsync(display, imageFileNameProvider, executor);
+				return null;
+			} catch (SWTException e) {
+				return e;
+			}
+		}, executor);
+		assertSWTProblem("Incorrect exception thrown when not called from the user-interface thread",
+				SWT.ERROR_THREAD_INVALID_ACCESS, otherThread.get());
+		// Many images in parallel
+		List<CompletableFuture<Image>> futures = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			futures.add(Image.loadAsync(display, imageFileNameProvider, executor));
+		}
+		for (CompletableFuture<Image> each : futures) {
+			waitFor(each).get().dispose();
+		}
+	} finally {
+		executor.shutdown();
+	}
+}
+
+private <T> CompletableFuture<T> waitFor(CompletableFuture<T> future) {
+	long start = System.currentTimeMillis();
+	while (!future.isDone() && System.currentTimeMillis() - start < 10000) {
+		if (!display.readAndDispatch()) display.sleep();
+	}
+	assertTrue("future not completed", future.isDone());
+	return future;
+}
+
 @Test
 public void test_ConstructorLorg_eclipse_swt_graphics_Device_ImageDataProvider() {
 	// Null provider
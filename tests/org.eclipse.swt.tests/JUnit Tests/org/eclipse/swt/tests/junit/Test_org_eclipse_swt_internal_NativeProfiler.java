@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.tests.junit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.swt.internal.NativeProfiler;
+import org.junit.Test;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Automated Test Suite for class org.eclipse.swt.internal.NativeProfiler
+ *
+ * @see org.eclipse.swt.internal.NativeProfiler
+ */
+public class Test_org_eclipse_swt_internal_NativeProfiler {
+	private static final String EVENT = "org.eclipse.swt.NativeCall";
+	private static final String CALL = "Test_NativeProfiler.call";
+	private static final String MEMMOVE = "Test_NativeProfiler.memmove";
+
+@Test
+public void test_enterExit() {
+	int[] functions = NativeProfiler.register(new String[] {"Test_NativeProfiler.enterExit"});
+	assertEquals(1, functions.length);
+	boolean enabled = NativeProfiler.isEnabled();
+	try {
+		NativeProfiler.setEnabled(false);
+		assertEquals("calls are not timed while recording is off", 0, NativeProfiler.enter());
+		NativeProfiler.exit(functions[0], 0);
+		NativeProfiler.setEnabled(true);
+		assertTrue(NativeProfiler.enter() != 0);
+	} finally {
+		NativeProfiler.setEnabled(enabled);
+	}
+}
+
+@Test
+public void test_reportsCallsToFlightRecorder() throws Exception {
+	assumeTrue("Flight Recorder is not available", FlightRecorder.isAvailable());
+	int[] functions = NativeProfiler.register(new String[] {CALL, MEMMOVE});
+	assertFalse(functions[0] == functions[1]);
+
+	// not recorded, no recording has the event enabled
+	assertFalse(NativeProfiler.isEnabled());
+	NativeProfiler.exit(functions[0], NativeProfiler.enter());
+
+	Path file = Files.createTempFile("swt-native-calls", ".jfr");
+	try {
+		try (Recording recording = new Recording()) {
+			recording.enable(EVENT).withPeriod(Duration.ofMillis(100));
+			recording.start();
+			assertTrue("calls are recorded while the event is enabled", NativeProfiler.isEnabled());
+			for (int i = 0; i < 3; i++) {
+				NativeProfiler.exit(functions[0], NativeProfiler.enter());
+			}
+			NativeProfiler.exit(functions[1], NativeProfiler.enter(), 1024);
+			NativeProfiler.exit(functions[1], NativeProfiler.enter(), 512);
+			// let the periodic event report the calls
+			Thread.sleep(1000);
+			recording.stop();
+			recording.dump(file);
+		}
+		assertFalse(NativeProfiler.isEnabled());
+
+		Map<String, long[]> totals = new HashMap<>();
+		for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+			if (!EVENT.equals(event.getEventType().getName())) continue;
+			long[] total = totals.computeIfAbsent(event.getString("function"), function -> new long[2]);
+			total[0] += event.getLong("calls");
+			total[1] += event.getLong("bytes");
+			assertTrue(event.getLong("totalTime") >= 0);
+		}
+		assertEquals(3, totals.get(CALL)[0]);
+		assertEquals(0, totals.get(CALL)[1]);
+		assertEquals(2, totals.get(MEMMOVE)[0]);
+		assertEquals(1536, totals.get(MEMMOVE)[1]);
+	} finally {
+		Files.delete(file);
+	}
+}
+}
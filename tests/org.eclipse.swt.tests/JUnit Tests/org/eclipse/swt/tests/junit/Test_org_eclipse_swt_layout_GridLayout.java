@@ -0,0 +1,194 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.tests.junit;
+
+import static org.junit.Assert.assertEquals;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.layout.GridData;
+import org.eclipse.swt.layout.GridLayout;
+import org.eclipse.swt.widgets.Canvas;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Automated Test Suite for class {@link GridLayout}
+ *
+ */
+public class Test_org_eclipse_swt_layout_GridLayout {
+
+	Display display;
+	Shell shell;
+
+	@Before
+	public void setUp() {
+		display = Display.getDefault();
+		shell = new Shell(display);
+		shell.setLayout(new GridLayout(2, false));
+	}
+
+	@After
+	public void tearDown() {
+		shell.dispose();
+		SwtTestUtil.processEvents();
+	}
+
+	@Test
+	public void testUnchangedLayoutReusesSizes() {
+		MockControl left = new MockControl(shell, 40, 10);
+		/* measured at its minimum width and again at the column width on every pass, unless the sizes are reused */
+		GridData data = new GridData(SWT.FILL, SWT.FILL, true, false);
+		data.minimumWidth = 100;
+		left.setLayoutData(data);
+		MockControl right = new MockControl(shell, 60, 20);
+		right.setLayoutData(new GridData(SWT.FILL, SWT.FILL, true, true));
+		shell.setSize(400, 300);
+		shell.layout(true);
+		Rectangle leftBounds = left.getBounds();
+		Rectangle rightBounds = right.getBounds();
+		int computeCount = left.computeCount + right.computeCount;
+
+		shell.layout(false);
+		assertEquals(computeCount, left.computeCount + right.computeCount);
+		assertEquals(leftBounds, left.getBounds());
+		assertEquals(rightBounds, right.getBounds());
+	}
+
+	@Test
+	public void testChangedControlRecomputesOnlyItsRowAndColumn() {
+		MockControl[] controls = new MockControl[6];
+		for (int i = 0; i < controls.length; i++) {
+			controls[i] = new MockControl(shell, i % 2 == 0 ? 40 : 60, 10 + i);
+			controls[i].setLayoutData(new GridData(SWT.BEGINNING, SWT.BEGINNING, false, false));
+		}
+		shell.setSize(400, 300);
+		shell.layout(true);
+		Rectangle[] bounds = new Rectangle[controls.length];
+		int[] computeCounts = new int[controls.length];
+		for (int i = 0; i < controls.length; i++) {
+			bounds[i] = controls[i].getBounds();
+			computeCounts[i] = controls[i].computeCount;
+		}
+
+		/* the first control of the second row gets taller */
+		MockControl changed = controls[2];
+		changed.reportedHeight = 50;
+		shell.layout(new Control[] { changed });
+		assertEquals(new Rectangle(bounds[2].x, bounds[2].y, bounds[2].width, 50), changed.getBounds());
+		int delta = 50 - bounds[3].height;
+		for (int i = 0; i < controls.length; i++) {
+			if (i != 2) {
+				assertEquals("Unchanged control must not be measured again", computeCounts[i], controls[i].computeCount);
+				Rectangle expected = new Rectangle(bounds[i].x, bounds[i].y + (i < 4 ? 0 : delta), bounds[i].width, bounds[i].height);
+				assertEquals("Bounds of control " + i, expected, controls[i].getBounds());
+			}
+		}
+
+		/* the first control of the last row gets wider, only the second column moves */
+		Rectangle[] before = new Rectangle[controls.length];
+		for (int i = 0; i < controls.length; i++) {
+			before[i] = controls[i].getBounds();
+		}
+		changed = controls[4];
+		changed.reportedWidth = 90;
+		shell.layout(new Control[] { changed });
+		assertEquals(new Rectangle(before[4].x, before[4].y, 90, before[4].height), changed.getBounds());
+		for (int i = 0; i < controls.length; i++) {
+			if (i != 4) {
+				Rectangle expected = new Rectangle(before[i].x + (i % 2 == 0 ? 0 : 50), before[i].y, before[i].width, before[i].height);
+				assertEquals("Bounds of control " + i, expected, controls[i].getBounds());
+			}
+		}
+	}
+
+	@Test
+	public void testReplacedDataIsMeasuredAgain() {
+		MockControl left = new MockControl(shell, 40, 10);
+		left.setLayoutData(new GridData());
+		new MockControl(shell, 60, 20);
+		shell.setSize(400, 300);
+		shell.layout(true);
+		assertEquals(40, left.getSize().x);
+
+		/* an equal GridData has an empty cache */
+		left.reportedWidth = 120;
+		left.setLayoutData(new GridData());
+		shell.layout(false);
+		assertEquals(120, left.getSize().x);
+	}
+
+	@Test
+	public void testChangedDataIsLaidOutAgain() {
+		MockControl left = new MockControl(shell, 40, 10);
+		MockControl right = new MockControl(shell, 60, 20);
+		shell.setSize(400, 300);
+		shell.layout(true);
+		assertEquals(40, left.getSize().x);
+
+		GridData data = new GridData();
+		data.widthHint = 80;
+		left.setLayoutData(data);
+		shell.layout(false);
+		assertEquals(80, left.getSize().x);
+
+		data.horizontalIndent = 10;
+		shell.layout(false);
+		GridLayout layout = (GridLayout) shell.getLayout();
+		assertEquals(layout.marginWidth + 10, left.getBounds().x);
+		assertEquals(layout.marginWidth + 90 + layout.horizontalSpacing, right.getBounds().x);
+	}
+
+	@Test
+	public void testFlushedControlIsMeasuredAgain() {
+		MockControl left = new MockControl(shell, 40, 10);
+		new MockControl(shell, 60, 20);
+		shell.setSize(400, 300);
+		shell.layout(true);
+
+		left.reportedWidth = 120;
+		shell.layout(false);
+		assertEquals("Cached size must be used without a flush", 40, left.getSize().x);
+
+		shell.layout(new Control[] { left });
+		assertEquals(120, left.getSize().x);
+	}
+
+	private static final class MockControl extends Canvas {
+
+		int reportedWidth;
+		int reportedHeight;
+		int computeCount;
+
+		public MockControl(Composite parent, int width, int height) {
+			super(parent, SWT.NONE);
+			reportedWidth = width;
+			reportedHeight = height;
+		}
+
+		@Override
+		public Point computeSize(int wHint, int hHint, boolean changed) {
+			computeCount++;
+			return new Point(wHint == SWT.DEFAULT ? reportedWidth : wHint, hHint == SWT.DEFAULT ? reportedHeight : hHint);
+		}
+
+	}
+
+}
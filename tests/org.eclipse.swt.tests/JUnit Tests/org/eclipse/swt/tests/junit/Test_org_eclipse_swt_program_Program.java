@@ -15,7 +15,10 @@
 package org.eclipse.swt.tests.junit;
 
 import static org.eclipse.swt.tests.junit.SwtTestUtil.assertSWTProblem;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -23,6 +26,7 @@ import java.util.HashSet;
 import java.util.Set;
 
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.ImageData;
 import org.eclipse.swt.program.Program;
 import org.eclipse.swt.widgets.Display;
 import org.junit.Before;
@@ -127,6 +131,30 @@ public void test_getImageData() {
 	}
 }
 
+@Test
+public void test_getImageDataRepeated() {
+	String[] extensions = Program.getExtensions();
+	// No assertion here because the doc does not guarantee a non-null result.
+	if (extensions != null) {
+		for (String extension : extensions) {
+			Program program = Program.findProgram(extension);
+			assertEquals(program, Program.findProgram(extension));
+			if (program != null) {
+				ImageData data = program.getImageData();
+				if (data != null) {
+					// The data must not be shared, callers may modify it.
+					data.setPixel(0, 0, ~data.getPixel(0, 0));
+					ImageData other = program.getImageData();
+					assertNotSame(data, other);
+					assertEquals(data.width, other.width);
+					assertEquals(data.height, other.height);
+					assertNotEquals(data.getPixel(0, 0), other.getPixel(0, 0));
+				}
+			}
+		}
+	}
+}
+
 @Test
 public void test_getName() {
 	String[] extensions = Program.getExtensions();
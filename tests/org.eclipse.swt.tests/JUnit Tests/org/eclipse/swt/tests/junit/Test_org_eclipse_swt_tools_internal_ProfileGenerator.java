@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.tests.junit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.eclipse.swt.tools.internal.ProfileGenerator;
+import org.junit.Test;
+
+/**
+ * Automated Test Suite for class org.eclipse.swt.tools.internal.ProfileGenerator
+ *
+ * @see org.eclipse.swt.tools.internal.ProfileGenerator
+ */
+public class Test_org_eclipse_swt_tools_internal_ProfileGenerator {
+	private static final String SAMPLE = String.join("\n",
+			"package org.eclipse.swt.internal;",
+			"",
+			"public class Sample {",
+			"	/** @param dest cast=(void *) */",
+			"	public static final native void memmove(long dest, byte[] src, long size);",
+			"	public static final native long strlen(",
+			"		long s);",
+			"	static native int[] get(int /* index */ index, int values[]);",
+			"	public static long notNative(long x) {",
+			"		return x;",
+			"	}",
+			"}",
+			"");
+
+private String generate(String source) {
+	ProfileGenerator generator = new ProfileGenerator();
+	generator.setDelimiter("\n");
+	return generator.generate(source);
+}
+
+@Test
+public void test_generate() {
+	String result = generate(SAMPLE);
+
+	// the functions are registered in the order of the natives, before any other member
+	assertTrue(result.contains("public class Sample {\n"
+			+ "\tstatic final int[] PROFILED_FUNCTIONS = org.eclipse.swt.internal.NativeProfiler.register(new String[] {\n"
+			+ "\t\t\"Sample.memmove\",\n"
+			+ "\t\t\"Sample.strlen\",\n"
+			+ "\t\t\"Sample.get\",\n"
+			+ "\t});\n"
+			+ "\t/** @param dest cast=(void *) */\n"));
+
+	// the native is renamed and wrapped by a method with the original name, memmove records the bytes copied
+	assertTrue(result.contains("\tpublic static final native void $swt$memmove(long dest, byte[] src, long size);\n"
+			+ "\tpublic static final void memmove(long dest, byte[] src, long size) {\n"
+			+ "\t\tlong $start = org.eclipse.swt.internal.NativeProfiler.enter();\n"
+			+ "\t\ttry {\n"
+			+ "\t\t\t$swt$memmove(dest, src, size);\n"
+			+ "\t\t} finally {\n"
+			+ "\t\t\torg.eclipse.swt.internal.NativeProfiler.exit(PROFILED_FUNCTIONS[0], $start, size);\n"
+			+ "\t\t}\n"
+			+ "\t}\n"));
+
+	// declarations continued on the next line and comments in the parameters
+	assertTrue(result.contains("\tpublic static final native long $swt$strlen(long s);\n"));
+	assertTrue(result.contains("\t\t\treturn $swt$strlen(s);\n"));
+	assertTrue(result.contains("org.eclipse.swt.internal.NativeProfiler.exit(PROFILED_FUNCTIONS[1], $start);\n"));
+	assertTrue(result.contains("\tstatic native int[] $swt$get(int index, int values[]);\n"
+			+ "\tstatic int[] get(int index, int values[]) {\n"));
+	assertTrue(result.contains("\t\t\treturn $swt$get(index, values);\n"));
+
+	// other members are copied
+	assertTrue(result.contains("\tpublic static long notNative(long x) {\n\t\treturn x;\n\t}\n}\n"));
+	assertFalse(result.contains(" native long notNative"));
+}
+
+@Test
+public void test_generateWithoutNatives() {
+	String source = "package p;\n\npublic class NoNatives {\n\tpublic static void run() {\n\t}\n}\n";
+	assertEquals(source, generate(source));
+}
+
+@Test
+public void test_generatedSourceCompiles() throws Exception {
+	JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+	assumeTrue("A Java compiler is not available", compiler != null);
+	Path directory = Files.createTempDirectory("swt-profile");
+	try {
+		Path source = directory.resolve("org/eclipse/swt/internal/Sample.java");
+		Files.createDirectories(source.getParent());
+		Files.write(source, generate(SAMPLE).getBytes(StandardCharsets.UTF_8));
+		ByteArrayOutputStream errors = new ByteArrayOutputStream();
+		int result = compiler.run(null, null, errors, "-proc:none", "-d", directory.toString(),
+				"-cp", System.getProperty("java.class.path"), source.toString());
+		assertEquals(errors.toString(), 0, result);
+		assertNotNull(Files.readAllBytes(directory.resolve("org/eclipse/swt/internal/Sample.class")));
+	} finally {
+		try (Stream<Path> files = Files.walk(directory)) {
+			files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+		}
+	}
+}
+}
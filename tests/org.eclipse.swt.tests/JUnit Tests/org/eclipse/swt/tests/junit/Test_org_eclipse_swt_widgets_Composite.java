@@ -18,6 +18,7 @@ import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeTrue;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Point;
@@ -25,6 +26,7 @@ import org.eclipse.swt.layout.FillLayout;
 import org.eclipse.swt.widgets.Button;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Layout;
 import org.eclipse.swt.widgets.List;
 import org.eclipse.swt.widgets.Shell;
 import org.eclipse.swt.widgets.Text;
@@ -165,6 +167,59 @@ public void test_setTabList$Lorg_eclipse_swt_widgets_Control() {
 	button2.dispose();
 }
 
+@Test
+public void test_layout_deferredNestedLayoutsRunOnce() {
+	assumeTrue("Deferred layout statistics are only available on GTK", SwtTestUtil.isGTK);
+	int[] layoutCounts = new int[2];
+	shell.setLayout(new FillLayout());
+	composite.setLayout(new CountingLayout(layoutCounts, 0));
+	Composite inner = new Composite(composite, SWT.NONE);
+	inner.setLayout(new CountingLayout(layoutCounts, 1));
+	Button button = new Button(inner, SWT.PUSH);
+	shell.open();
+	SwtTestUtil.processEvents();
+	layoutCounts[0] = layoutCounts[1] = 0;
+
+	for (int i = 0; i < 10; i++) {
+		button.requestLayout();
+		inner.layout(new Control[] {button}, SWT.DEFER);
+		composite.layout(new Control[] {inner}, SWT.DEFER);
+	}
+	assertEquals(0, layoutCounts[0]);
+	assertEquals(0, layoutCounts[1]);
+	shell.getDisplay().readAndDispatch();
+	assertEquals(1, layoutCounts[0]);
+	assertEquals(1, layoutCounts[1]);
+
+	shell.getDisplay().readAndDispatch();
+	int[] stats = (int[]) shell.getDisplay().getData("org.eclipse.swt.internal.gtk.layoutStats");
+	assertEquals(2, stats.length);
+	assertTrue("Layouts performed: " + stats[0], stats[0] >= 2);
+}
+
+static class CountingLayout extends Layout {
+	final int[] counts;
+	final int index;
+
+	CountingLayout(int[] counts, int index) {
+		this.counts = counts;
+		this.index = index;
+	}
+
+	@Override
+	protected Point computeSize(Composite composite, int wHint, int hHint, boolean flushCache) {
+		return new Point(50, 50);
+	}
+
+	@Override
+	protected void layout(Composite composite, boolean flushCache) {
+		counts[index]++;
+		for (Control child : composite.getChildren()) {
+			child.setBounds(composite.getClientArea());
+		}
+	}
+}
+
 /* custom */
 @Override
 protected void setWidget(Widget w) {
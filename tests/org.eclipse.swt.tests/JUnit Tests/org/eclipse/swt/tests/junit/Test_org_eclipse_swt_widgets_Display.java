@@ -35,6 +35,7 @@ import org.eclipse.swt.SWTException;
 import org.eclipse.swt.graphics.DeviceData;
 import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.graphics.FontData;
+import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.internal.DPIUtil;
@@ -366,6 +367,86 @@ public void test_getDefault() {
 	}
 }
 
+@Test
+public void test_getDeviceData_sampledTracking() {
+	DeviceData data = new DeviceData();
+	data.tracking = true;
+	data.trackingSampleRate = 2;
+	data.trackingStackDepth = 8;
+	Display display = new Display(data);
+	try {
+		Image[] images = new Image[200];
+		for (int i = 0; i < images.length; i++) {
+			images[i] = new Image(display, 1, 1);
+		}
+		DeviceData info = display.getDeviceData();
+		assertEquals(2, info.trackingSampleRate);
+		assertEquals(8, info.trackingStackDepth);
+		int sampled = 0;
+		for (int i = 0; i < info.objects.length; i++) {
+			if (info.objects[i] instanceof Image) {
+				sampled++;
+				assertTrue(info.errors[i].getStackTrace().length <= 8);
+			}
+		}
+		/* Resources are sampled at random, about one in two */
+		assertTrue("sampled " + sampled, sampled > 50 && sampled < 150);
+		boolean found = false;
+		for (int i = 0; i < info.allocationTypes.length; i++) {
+			StackTraceElement site = info.allocationSites[i];
+			if (Image.class.getName().equals(info.allocationTypes[i]) && site != null && site.getMethodName().equals("test_getDeviceData_sampledTracking")) {
+				assertEquals(sampled, info.allocationCounts[i]);
+				found = true;
+			}
+		}
+		assertTrue(found);
+		for (Image image : images) {
+			image.dispose();
+		}
+		info = display.getDeviceData();
+		for (Object object : info.objects) {
+			assertFalse(object instanceof Image);
+		}
+	} finally {
+		display.dispose();
+	}
+}
+
+@Test
+public void test_getDeviceData_trackingStackDepthOne() {
+	DeviceData data = new DeviceData();
+	data.tracking = true;
+	data.trackingSampleRate = 1;
+	data.trackingStackDepth = 1;
+	Display display = new Display(data);
+	try {
+		Image image = new Image(display, 1, 1);
+		DeviceData info = display.getDeviceData();
+		/* The frames of the resource classes do not count towards the stack depth */
+		boolean found = false;
+		for (int i = 0; i < info.objects.length; i++) {
+			if (info.objects[i] == image) {
+				StackTraceElement[] stack = info.errors[i].getStackTrace();
+				assertEquals(1, stack.length);
+				assertEquals("test_getDeviceData_trackingStackDepthOne", stack[0].getMethodName());
+				found = true;
+			}
+		}
+		assertTrue(found);
+		found = false;
+		for (int i = 0; i < info.allocationTypes.length; i++) {
+			StackTraceElement site = info.allocationSites[i];
+			if (Image.class.getName().equals(info.allocationTypes[i]) && site != null && site.getMethodName().equals("test_getDeviceData_trackingStackDepthOne")) {
+				found = true;
+			}
+		}
+		assertTrue(found);
+		image.dispose();
+	} finally {
+		display.dispose();
+	}
+}
+
 @Test
 public void test_getDismissalAlignment() {
 	Display display = new Display();
@@ -20,6 +20,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeTrue;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -1897,6 +1898,61 @@ public void test_Virtual() {
 			dataCounter[0] > visibleCount / 2 && dataCounter[0] <= visibleCount * 3);
 }
 
+@Test
+public void test_Virtual_boundedCache() {
+	assumeTrue("Bounded row cache is only implemented on GTK", SwtTestUtil.isGTK);
+	table.dispose();
+	table = new Table(shell, SWT.VIRTUAL | SWT.BORDER);
+	setWidget(table);
+
+	final int[] dataCounter = { 0 };
+	table.addListener(SWT.SetData, event -> {
+		TableItem item = (TableItem) event.item;
+		item.setText("Item " + table.indexOf(item));
+		dataCounter[0]++;
+	});
+	table.setData("org.eclipse.swt.internal.gtk.virtualCacheSize", 256);
+	table.setItemCount(1000);
+	for (int i = 0; i < 1000; i++) {
+		assertEquals("Item " + i, table.getItem(i).getText());
+	}
+	assertEquals(1000, dataCounter[0]);
+
+	// the most recently filled rows are still cached
+	assertEquals("Item 999", table.getItem(999).getText());
+	assertEquals(1000, dataCounter[0]);
+
+	// the oldest rows were cleared and are requested again
+	assertEquals("Item 0", table.getItem(0).getText());
+	assertEquals(1001, dataCounter[0]);
+}
+
+@Test
+public void test_Virtual_boundedCacheKeepsCheckState() {
+	assumeTrue("Bounded row cache is only implemented on GTK", SwtTestUtil.isGTK);
+	table.dispose();
+	table = new Table(shell, SWT.VIRTUAL | SWT.CHECK | SWT.BORDER);
+	setWidget(table);
+
+	table.addListener(SWT.SetData, event -> {
+		TableItem item = (TableItem) event.item;
+		item.setText("Item " + table.indexOf(item));
+	});
+	table.setData("org.eclipse.swt.internal.gtk.virtualCacheSize", 256);
+	table.setItemCount(1000);
+	table.getItem(0).setChecked(true);
+	table.getItem(1).setGrayed(true);
+	for (int i = 0; i < 1000; i++) {
+		assertEquals("Item " + i, table.getItem(i).getText());
+	}
+
+	// the rows were evicted from the cache, their check state is kept
+	assertTrue(table.getItem(0).getChecked());
+	assertTrue(table.getItem(1).getGrayed());
+	assertFalse(table.getItem(1).getChecked());
+	assertEquals("Item 0", table.getItem(0).getText());
+}
+
 @Test
 public void test_setTopIndex() {
 	for (int i = 0; i < 10; i++) {
@@ -715,6 +715,36 @@ public void test_setImageILorg_eclipse_swt_graphics_Image() {
 	}
 }
 
+@Test
+public void test_setImage_manyDistinctImages() {
+	int count = 300;
+	Image[] distinct = new Image[count];
+	TableItem[] items = new TableItem[count];
+	try {
+		for (int i = 0; i < count; i++) {
+			distinct[i] = new Image(table.getDisplay(), 16, 16);
+			items[i] = new TableItem(table, SWT.NONE);
+			items[i].setImage(distinct[i]);
+		}
+		// a second item showing an image shares its slot in the image list
+		TableItem shared = new TableItem(table, SWT.NONE);
+		shared.setImage(distinct[0]);
+		assertEquals(distinct[0], shared.getImage());
+		for (int i = 0; i < count; i++) {
+			assertEquals(distinct[i], items[i].getImage());
+		}
+		items[1].setImage((Image) null);
+		assertNull(items[1].getImage());
+		items[1].setImage(distinct[2]);
+		assertEquals(distinct[2], items[1].getImage());
+	} finally {
+		table.removeAll();
+		for (Image image : distinct) {
+			if (image != null) image.dispose();
+		}
+	}
+}
+
 @SuppressWarnings("deprecation")
 @Test
 public void test_setImageIndentI() {
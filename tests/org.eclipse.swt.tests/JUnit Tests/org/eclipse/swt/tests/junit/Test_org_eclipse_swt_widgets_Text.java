@@ -547,6 +547,48 @@ public void test_getLineCount() {
 	assertEquals(1, text.getLineCount());
 }
 
+@Test
+public void test_setMaxLinesI() {
+	assertEquals(0, text.getMaxLines());
+	for (int i = 0; i < 10; i++) {
+		text.append("line" + i + delimiterString);
+	}
+	// the empty line after the final delimiter is not counted
+	text.setMaxLines(4);
+	assertEquals(4, text.getMaxLines());
+	assertEquals(5, text.getLineCount());
+	assertEquals("line6" + delimiterString + "line7" + delimiterString + "line8" + delimiterString + "line9" + delimiterString, text.getText());
+
+	int[] modifyCount = new int[1];
+	text.addModifyListener(e -> modifyCount[0]++);
+	for (int i = 10; i < 1000; i++) {
+		text.append("line" + i + delimiterString);
+	}
+	assertEquals(5, text.getLineCount());
+	assertEquals(990, modifyCount[0]);
+	assertEquals("line996" + delimiterString + "line997" + delimiterString + "line998" + delimiterString + "line999" + delimiterString, text.getText());
+
+	text.setText("a" + delimiterString + "b" + delimiterString + "c" + delimiterString + "d" + delimiterString + "e" + delimiterString);
+	assertEquals("b" + delimiterString + "c" + delimiterString + "d" + delimiterString + "e" + delimiterString, text.getText());
+
+	// empty lines before the last line are counted
+	text.setText(delimiterString + delimiterString + delimiterString + delimiterString + delimiterString);
+	assertEquals(delimiterString + delimiterString + delimiterString + delimiterString, text.getText());
+
+	text.setText("a" + delimiterString + "b" + delimiterString + "c" + delimiterString + "d" + delimiterString + "e");
+	assertEquals("b" + delimiterString + "c" + delimiterString + "d" + delimiterString + "e", text.getText());
+
+	text.setMaxLines(0);
+	text.append(delimiterString + "f");
+	assertEquals(5, text.getLineCount());
+
+	// tests a SINGLE line text editor
+	makeCleanEnvironment(true);
+
+	text.setMaxLines(1);
+	assertEquals(0, text.getMaxLines());
+}
+
 @Test
 public void test_getLineDelimiter() {
 	String platform = SWT.getPlatform();
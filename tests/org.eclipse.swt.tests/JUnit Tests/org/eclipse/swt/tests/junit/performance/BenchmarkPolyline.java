@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.tests.junit.performance;
+
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.widgets.Display;
+
+/**
+ * Compares drawing a long polyline, as a real-time plot does, with
+ * {@link GC#drawPolyline(int[])} and with the allocation-free
+ * {@link GC#drawPolyline(float[], int, int)} streaming from a ring buffer.
+ */
+public class BenchmarkPolyline {
+	private static final int POINTS = 100_000;
+	private static final int WIDTH = 1000;
+	private static final int HEIGHT = 500;
+
+	/**
+	 * manual performance test
+	 *
+	 * @param args ignored
+	 */
+	public static void main(String[] args) {
+		Display display = new Display();
+		Image image = new Image(display, WIDTH, HEIGHT);
+		GC gc = new GC(image);
+		try {
+			int[] intPoints = new int[POINTS * 2];
+			/* The float samples are twice as long, the plot draws a window moving over them */
+			float[] floatPoints = new float[POINTS * 4];
+			for (int i = 0; i < POINTS * 2; i++) {
+				float y = (float) (HEIGHT / 2 + Math.sin(i / 100.0) * HEIGHT / 3);
+				float x = (float) (i % POINTS) * WIDTH / POINTS;
+				floatPoints[i * 2] = x;
+				floatPoints[i * 2 + 1] = y;
+				if (i < POINTS) {
+					intPoints[i * 2] = Math.round(x);
+					intPoints[i * 2 + 1] = Math.round(y);
+				}
+			}
+			for (int runs = 0; runs < 20; runs++) {
+				long nanoTime = System.nanoTime();
+				gc.drawPolyline(intPoints);
+				long intNanos = System.nanoTime() - nanoTime;
+
+				nanoTime = System.nanoTime();
+				gc.drawPolyline(floatPoints, (runs % POINTS) * 2, POINTS);
+				long floatNanos = System.nanoTime() - nanoTime;
+
+				System.out.println("Polyline of " + POINTS + " points: int[] " + String.format("%,15d", intNanos)
+						+ " ns, float[] " + String.format("%,15d", floatNanos) + " ns");
+			}
+		} finally {
+			gc.dispose();
+			image.dispose();
+			display.dispose();
+		}
+	}
+}
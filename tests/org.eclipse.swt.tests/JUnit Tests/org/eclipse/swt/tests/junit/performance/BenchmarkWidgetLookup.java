@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.tests.junit.performance;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.layout.GridLayout;
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Listener;
+import org.eclipse.swt.widgets.Shell;
+
+/**
+ * Measures how fast native events are dispatched to the widgets of a shell
+ * with many controls, which requires resolving the widget of every event.
+ * <p>
+ * A synthetic stream of mouse move events that sweeps the pointer over all
+ * controls in a raster is generated once and then posted repeatedly through
+ * {@link Display#post(Event)}. The stream is not recorded from user input, so
+ * it only approximates the event mix of a real session.
+ * </p>
+ */
+public class BenchmarkWidgetLookup {
+	private static final int COLUMNS = 20;
+	private static final int ROWS = 20;
+
+	/**
+	 * manual performance test
+	 *
+	 * @param args ignored
+	 */
+	public static void main(String[] args) {
+		final Display display = new Display();
+		try {
+			Shell shell = new Shell(display);
+			shell.setLayout(new GridLayout(COLUMNS, true));
+			for (int i = 0; i < COLUMNS * ROWS; i++) {
+				new Button(shell, SWT.PUSH).setText("B" + i);
+			}
+			shell.pack();
+			shell.open();
+			processEvents(display);
+
+			List<Event> stream = createStream(shell);
+			int[] dispatched = { 0 };
+			Listener counter = e -> dispatched[0]++;
+			display.addFilter(SWT.MouseMove, counter);
+			for (int runs = 0; runs < 20; runs++) {
+				dispatched[0] = 0;
+				long nanoTime = System.nanoTime();
+				for (Event event : stream) {
+					display.post(event);
+				}
+				processEvents(display);
+				long durationNanos = System.nanoTime() - nanoTime;
+				System.out.println("Posted " + stream.size() + " events, dispatched " + dispatched[0] + " in "
+						+ String.format("%,15d", durationNanos) + " ns");
+			}
+			display.removeFilter(SWT.MouseMove, counter);
+		} finally {
+			display.dispose();
+		}
+	}
+
+	private static List<Event> createStream(Shell shell) {
+		List<Event> stream = new ArrayList<>();
+		Point size = shell.getSize();
+		for (int y = 0; y < size.y; y += 3) {
+			for (int x = 0; x < size.x; x += 7) {
+				Point location = shell.toDisplay(x, y);
+				Event event = new Event();
+				event.type = SWT.MouseMove;
+				event.x = location.x;
+				event.y = location.y;
+				stream.add(event);
+			}
+		}
+		return stream;
+	}
+
+	private static void processEvents(Display display) {
+		long end = System.currentTimeMillis() + 100;
+		while (System.currentTimeMillis() < end) {
+			while (display.readAndDispatch()) {
+				/* empty */
+			}
+		}
+	}
+}
@@ -199,16 +199,36 @@ public void test_layout() {
 		data.grabExcessVerticalSpace = true;
 		changedLabel.setLayoutData(data);
 
+		// a large form where a single field changes
+		Composite form = new Composite(shell, SWT.NONE);
+		form.setLayoutData(new GridData(SWT.FILL, SWT.FILL, true, true));
+		form.setLayout(new GridLayout(3, false));
+		Label changedHint = null;
+		for(int i = 0; i < 300; i++) {
+			Label label = new Label(form, SWT.NONE);
+			label.setText("Field " + i + ":");
+			Text text = new Text(form, SWT.BORDER);
+			text.setLayoutData(new GridData(SWT.FILL, SWT.CENTER, true, false));
+			Label hint = new Label(form, SWT.WRAP);
+			hint.setText("Hint for field " + i);
+			hint.setLayoutData(new GridData(SWT.FILL, SWT.CENTER, false, false, 1, i % 10 == 0 ? 2 : 1));
+			if (i == 150) changedHint = hint;
+		}
+
 		shell.open();
 		while(display.readAndDispatch()){/*empty*/}
 		try { Thread.sleep(2000); } catch (Exception e) {}
 		while(display.readAndDispatch()){/*empty*/}
 		meter.start();
 		for(int numlayouts = 0; numlayouts < 20; numlayouts++) {
-			shell.layout(true);
 			curText = "!!!" + curText + "!!!\n!";
 			changedLabel.setText(curText);
-			//while(display.readAndDispatch());
+			changedLabel.requestLayout();
+			changedHint.setText("Changed hint " + numlayouts);
+			changedHint.requestLayout();
+			while(display.readAndDispatch()){/*empty*/}
+			// unchanged relayout
+			shell.layout(false, true);
 		}
 		meter.stop();
 		shell.dispose();